@@ -20,11 +20,49 @@ case "$1" in
         echo "Running tests using APPLICATION.PROPERTIES configuration..."
         mvn clean test
         ;;
+    shards)
+        TOTAL=${2:-2}
+        echo "Running the suite in $TOTAL shard JVMs..."
+        mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt || exit 1
+        CP="target/test-classes:target/classes:$(cat target/classpath.txt)"
+        rm -rf target/shards
+        for ((i = 0; i < TOTAL; i++)); do
+            OUT=target/shards/shard-$i
+            mkdir -p $OUT
+            SHARD="-Dshard.index=$i -Dshard.total=$TOTAL -Dshard.output.dir=$OUT -Dlog4j2.configurationFile=log4j2.xml"
+            (
+                java -cp "$CP" $SHARD "${@:3}" org.testng.TestNG -d $OUT/testng testng.xml
+                java -cp "$CP" $SHARD "${@:3}" -Dcucumber.plugin=json:$OUT/cucumber/cucumber.json \
+                    org.testng.TestNG -d $OUT/cucumber -testclass com.automation.cucumber.runners.CucumberTestRunner
+            ) > $OUT/shard.log 2>&1 &
+        done
+        wait
+        java -cp "$CP" -Dlog4j2.configurationFile=log4j2.xml com.automation.core.sharding.ShardReportMerger \
+            target/shards target/shards/merged
+        ;;
+    distributed)
+        WORKERS=${2:-2}
+        echo "Running the suite on $WORKERS worker JVMs fed by a coordinator..."
+        mvn -q test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt || exit 1
+        CP="target/test-classes:target/classes:$(cat target/classpath.txt)"
+        mkdir -p target/distributed
+        java -cp "$CP" -Dlog4j2.configurationFile=log4j2.xml "${@:3}" \
+            com.automation.core.distributed.WorkCoordinator &
+        COORDINATOR=$!
+        sleep 2
+        for ((i = 0; i < WORKERS; i++)); do
+            java -cp "$CP" -Dlog4j2.configurationFile=log4j2.xml "${@:3}" \
+                com.automation.core.distributed.WorkerNode > target/distributed/worker-$i.log 2>&1 &
+        done
+        wait $COORDINATOR
+        ;;
     *)
         echo "Usage:"
         echo "  ./run-tests.sh headless   - Run all tests in headless mode"
         echo "  ./run-tests.sh headed     - Run all tests in headed mode"  
         echo "  ./run-tests.sh config     - Use application.properties setting"
+        echo "  ./run-tests.sh shards N   - Run N balanced shard JVMs and merge their reports"
+        echo "  ./run-tests.sh distributed N - Run N worker JVMs pulling work from a coordinator"
         echo
         echo "Additional options:"
         echo "  mvn test -Dheadless=true                    - Headless mode"
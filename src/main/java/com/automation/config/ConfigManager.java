@@ -1,72 +1,85 @@
 package com.automation.config;
 
-import com.automation.utils.PropertyReader;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.time.Duration;
+
 /**
  * Configuration Manager - Centralized configuration management
  * Responsible for loading and providing access to application configurations
+ * Values are resolved once at startup by LayeredConfigResolver into an immutable
+ * ConfigSnapshot, so lookups from parallel test threads never lock or re-parse
  */
 public class ConfigManager {
     private static final Logger logger = LogManager.getLogger(ConfigManager.class);
-    private static ConfigManager instance;
-    private PropertyReader propertyReader;
-    private String environment;
+    private final String environment;
+    private final ConfigSnapshot snapshot;
     
     private ConfigManager() {
-        this.environment = System.getProperty("environment", "dev");
-        this.propertyReader = new PropertyReader();
-        loadConfiguration();
-    }
-    
-    public static ConfigManager getInstance() {
-        if (instance == null) {
-            synchronized (ConfigManager.class) {
-                if (instance == null) {
-                    instance = new ConfigManager();
-                }
-            }
+        this.snapshot = new LayeredConfigResolver().resolve();
+        this.environment = snapshot.getString("environment");
+        if (snapshot.getBoolean("config.dump", false)) {
+            logger.info(snapshot.describe());
+        } else {
+            logger.debug(snapshot.describe());
         }
-        return instance;
     }
     
-    private void loadConfiguration() {
-        logger.info("Loading configuration for environment: {}", environment);
-        propertyReader.loadProperties("config/application.properties");
-        propertyReader.loadProperties("config/" + environment + ".properties");
+    public static ConfigManager getInstance() {
+        return Holder.INSTANCE;
     }
     
     public String getProperty(String key) {
-        return propertyReader.getProperty(key);
+        return snapshot.getString(key);
     }
     
     public String getProperty(String key, String defaultValue) {
-        return propertyReader.getProperty(key, defaultValue);
+        return snapshot.getString(key, defaultValue);
     }
     
     public int getIntProperty(String key) {
-        return Integer.parseInt(getProperty(key));
+        return snapshot.getInt(key);
     }
     
     public int getIntProperty(String key, int defaultValue) {
-        try {
-            return Integer.parseInt(getProperty(key));
-        } catch (NumberFormatException e) {
-            return defaultValue;
-        }
+        return snapshot.getInt(key, defaultValue);
     }
     
     public boolean getBooleanProperty(String key) {
-        return Boolean.parseBoolean(getProperty(key));
+        return snapshot.getBoolean(key, false);
     }
     
     public boolean getBooleanProperty(String key, boolean defaultValue) {
-        String value = getProperty(key);
-        return value != null ? Boolean.parseBoolean(value) : defaultValue;
+        return snapshot.getBoolean(key, defaultValue);
+    }
+    
+    /**
+     * Get a duration property, numeric values are interpreted as seconds
+     */
+    public Duration getDurationProperty(String key, Duration defaultValue) {
+        return snapshot.getDuration(key, defaultValue);
+    }
+    
+    /**
+     * Get the layer a property was resolved from, e.g. to tell a -D override from a file value
+     */
+    public ConfigSource getSource(String key) {
+        return snapshot.getSource(key);
+    }
+    
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
     
     public String getEnvironment() {
         return environment;
     }
-}
\ No newline at end of file
+    
+    /**
+     * Lazy holder - the JVM guarantees safe publication of the instance without locking
+     */
+    private static final class Holder {
+        private static final ConfigManager INSTANCE = new ConfigManager();
+    }
+}
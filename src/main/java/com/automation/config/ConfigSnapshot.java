@@ -0,0 +1,114 @@
+package com.automation.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Config Snapshot - Immutable, pre-parsed view of the resolved configuration
+ * Every value is parsed once when the snapshot is built, so reads are plain
+ * lookups in maps that are never written again and need no locking
+ */
+public final class ConfigSnapshot {
+    private static final Pattern SECRET_KEY = Pattern.compile("(?i).*(password|secret|token|key)$");
+
+    private final Map<String, String> strings;
+    private final Map<String, Integer> ints;
+    private final Map<String, Boolean> booleans;
+    private final Map<String, Duration> durations;
+    private final Map<String, ConfigSource> sources;
+
+    public ConfigSnapshot(Map<String, String> values, Map<String, ConfigSource> sources) {
+        Map<String, String> stringValues = new HashMap<>(values);
+        Map<String, Integer> intValues = new HashMap<>();
+        Map<String, Boolean> booleanValues = new HashMap<>();
+        Map<String, Duration> durationValues = new HashMap<>();
+
+        for (Map.Entry<String, String> entry : stringValues.entrySet()) {
+            String value = entry.getValue().trim();
+            booleanValues.put(entry.getKey(), Boolean.parseBoolean(value));
+            try {
+                int intValue = Integer.parseInt(value);
+                intValues.put(entry.getKey(), intValue);
+                durationValues.put(entry.getKey(), Duration.ofSeconds(intValue));
+            } catch (NumberFormatException e) {
+                // Not numeric, only available as string and boolean
+            }
+        }
+
+        this.strings = Collections.unmodifiableMap(stringValues);
+        this.ints = Collections.unmodifiableMap(intValues);
+        this.booleans = Collections.unmodifiableMap(booleanValues);
+        this.durations = Collections.unmodifiableMap(durationValues);
+        this.sources = Collections.unmodifiableMap(new HashMap<>(sources));
+    }
+
+    public String getString(String key) {
+        return strings.get(key);
+    }
+
+    public String getString(String key, String defaultValue) {
+        return strings.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Get an int value, throwing NumberFormatException when missing or not numeric
+     */
+    public int getInt(String key) {
+        Integer value = ints.get(key);
+        if (value == null) {
+            throw new NumberFormatException("Property is not an integer: " + key + "=" + strings.get(key));
+        }
+        return value;
+    }
+
+    public int getInt(String key, int defaultValue) {
+        Integer value = ints.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        Boolean value = booleans.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Get a duration value; numeric properties are interpreted as seconds
+     */
+    public Duration getDuration(String key, Duration defaultValue) {
+        return durations.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * Get the layer a value was resolved from, or null when the key is not configured
+     */
+    public ConfigSource getSource(String key) {
+        return sources.get(key);
+    }
+
+    public boolean contains(String key) {
+        return strings.containsKey(key);
+    }
+
+    public Map<String, String> asMap() {
+        return strings;
+    }
+
+    /**
+     * Diagnostic dump of every resolved value and the layer it came from, with secrets masked
+     */
+    public String describe() {
+        StringBuilder builder = new StringBuilder("Resolved configuration:");
+        for (Map.Entry<String, String> entry : new TreeMap<>(strings).entrySet()) {
+            String value = SECRET_KEY.matcher(entry.getKey()).matches() ? "****" : entry.getValue();
+            ConfigSource source = sources.get(entry.getKey());
+            builder.append(System.lineSeparator())
+                    .append("  ").append(entry.getKey()).append(" = ").append(value)
+                    .append("  [").append(source != null ? source.getDescription() : "unknown").append(']');
+        }
+        return builder.toString();
+    }
+}
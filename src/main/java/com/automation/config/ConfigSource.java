@@ -0,0 +1,29 @@
+package com.automation.config;
+
+/**
+ * Config Source - Configuration layers in increasing order of precedence
+ */
+public enum ConfigSource {
+    DEFAULT("built-in default"),
+    APPLICATION_FILE("application.properties"),
+    ENVIRONMENT_FILE("environment properties file"),
+    ENVIRONMENT_VARIABLE("environment variable"),
+    SYSTEM_PROPERTY("system property");
+
+    private final String description;
+
+    ConfigSource(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * True for layers supplied on the command line or by the CI agent rather than by config files
+     */
+    public boolean isOverride() {
+        return this == ENVIRONMENT_VARIABLE || this == SYSTEM_PROPERTY;
+    }
+}
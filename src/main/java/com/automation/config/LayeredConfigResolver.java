@@ -0,0 +1,149 @@
+package com.automation.config;
+
+import com.automation.utils.PropertyReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Layered Config Resolver - Resolves every configuration layer exactly once
+ * Layers, lowest to highest precedence: built-in defaults, application.properties,
+ * {environment}.properties, environment variables, system properties.
+ * System properties and environment variables are read once here, so lookups
+ * after startup never call System.getProperty or System.getenv
+ */
+public class LayeredConfigResolver {
+    private static final Logger logger = LogManager.getLogger(LayeredConfigResolver.class);
+    private static final String DEFAULT_ENVIRONMENT = "dev";
+    private static final Map<String, String> DEFAULTS = new LinkedHashMap<>();
+    private static final Map<String, String> ALIASES = new LinkedHashMap<>();
+
+    static {
+        DEFAULTS.put("environment", DEFAULT_ENVIRONMENT);
+        DEFAULTS.put("app.base.url", "https://the-internet.herokuapp.com");
+        DEFAULTS.put("browser.default", "chrome");
+        DEFAULTS.put("browser.headless", "false");
+        DEFAULTS.put("selenium.timeout", "30");
+
+        // Short names accepted as system properties and (upper-cased) environment variables
+        ALIASES.put("headless", "browser.headless");
+        ALIASES.put("browser", "browser.default");
+    }
+
+    private final Map<String, String> systemProperties;
+    private final Map<String, String> environmentVariables;
+
+    public LayeredConfigResolver() {
+        this(copyOf(System.getProperties()), System.getenv());
+    }
+
+    LayeredConfigResolver(Map<String, String> systemProperties, Map<String, String> environmentVariables) {
+        this.systemProperties = systemProperties;
+        this.environmentVariables = environmentVariables;
+    }
+
+    public ConfigSnapshot resolve() {
+        Map<String, String> values = new HashMap<>();
+        Map<String, ConfigSource> sources = new HashMap<>();
+
+        apply(DEFAULTS, ConfigSource.DEFAULT, values, sources);
+        String environment = resolveEnvironment();
+        logger.info("Loading configuration for environment: {}", environment);
+        apply(loadFile("config/application.properties"), ConfigSource.APPLICATION_FILE, values, sources);
+        apply(loadFile("config/" + environment + ".properties"), ConfigSource.ENVIRONMENT_FILE, values, sources);
+
+        Set<String> namespaces = new HashSet<>();
+        for (String key : values.keySet()) {
+            int dot = key.indexOf('.');
+            if (dot > 0) {
+                namespaces.add(key.substring(0, dot));
+            }
+        }
+
+        apply(environmentOverrides(values.keySet()), ConfigSource.ENVIRONMENT_VARIABLE, values, sources);
+        apply(systemPropertyOverrides(values.keySet(), namespaces), ConfigSource.SYSTEM_PROPERTY, values, sources);
+        return new ConfigSnapshot(values, sources);
+    }
+
+    /**
+     * Map a property key to its environment variable, e.g. selenium.timeout to SELENIUM_TIMEOUT
+     */
+    static String toEnvironmentVariable(String key) {
+        return key.toUpperCase().replace('.', '_').replace('-', '_');
+    }
+
+    private String resolveEnvironment() {
+        String environment = systemProperties.get("environment");
+        if (environment == null || environment.isEmpty()) {
+            environment = environmentVariables.get("ENVIRONMENT");
+        }
+        return environment == null || environment.isEmpty() ? DEFAULT_ENVIRONMENT : environment;
+    }
+
+    private Map<String, String> environmentOverrides(Set<String> knownKeys) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        for (Map.Entry<String, String> alias : ALIASES.entrySet()) {
+            String value = environmentVariables.get(toEnvironmentVariable(alias.getKey()));
+            if (value != null) {
+                overrides.put(alias.getValue(), value);
+            }
+        }
+        for (String key : knownKeys) {
+            String value = environmentVariables.get(toEnvironmentVariable(key));
+            if (value != null) {
+                overrides.put(key, value);
+            }
+        }
+        return overrides;
+    }
+
+    /**
+     * System properties override known keys, keys in a known namespace (e.g. -Ddriver.pool.size)
+     * and the short aliases; unrelated JVM properties such as java.* are ignored
+     */
+    private Map<String, String> systemPropertyOverrides(Set<String> knownKeys, Set<String> namespaces) {
+        Map<String, String> overrides = new LinkedHashMap<>();
+        for (Map.Entry<String, String> alias : ALIASES.entrySet()) {
+            String value = systemProperties.get(alias.getKey());
+            if (value != null && !value.isEmpty()) {
+                overrides.put(alias.getValue(), value);
+            }
+        }
+        for (Map.Entry<String, String> property : systemProperties.entrySet()) {
+            String key = property.getKey();
+            int dot = key.indexOf('.');
+            if (knownKeys.contains(key) || (dot > 0 && namespaces.contains(key.substring(0, dot)))) {
+                overrides.put(key, property.getValue());
+            }
+        }
+        return overrides;
+    }
+
+    private static void apply(Map<String, String> layer, ConfigSource source,
+                              Map<String, String> values, Map<String, ConfigSource> sources) {
+        for (Map.Entry<String, String> entry : layer.entrySet()) {
+            values.put(entry.getKey(), entry.getValue());
+            sources.put(entry.getKey(), source);
+        }
+    }
+
+    private static Map<String, String> loadFile(String path) {
+        PropertyReader propertyReader = new PropertyReader();
+        propertyReader.loadProperties(path);
+        return propertyReader.getAllProperties();
+    }
+
+    private static Map<String, String> copyOf(Properties properties) {
+        Map<String, String> copy = new HashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            copy.put(name, properties.getProperty(name));
+        }
+        return copy;
+    }
+}
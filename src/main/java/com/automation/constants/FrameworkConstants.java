@@ -49,6 +49,9 @@ public final class FrameworkConstants {
     public static final String REDIRECTOR_URL = "/redirector";
     public static final String STATUS_CODES_URL = "/status_codes";
     
+    // Report Attributes - test result attributes set by the framework
+    public static final String PERFORMANCE_METRICS_ATTRIBUTE = "performanceMetrics";
+    
     // Test Messages
     public static final String LOGIN_SUCCESS_MESSAGE = "You logged into a secure area!";
     public static final String LOGOUT_SUCCESS_MESSAGE = "You logged out of the secure area!";
@@ -2,7 +2,10 @@ package com.automation.core.base;
 
 import com.automation.config.ConfigManager;
 import com.automation.core.driver.DriverManager;
+import com.automation.server.ApplicationUnderTest;
+import com.automation.ui.actions.DomReadActions;
 import com.automation.ui.actions.WaitActions;
+import com.automation.ui.actions.WaitContext;
 import com.automation.utils.ScreenshotUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -11,7 +14,7 @@ import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.util.List;
 
@@ -22,30 +25,64 @@ import java.time.Duration;
  * Contains common functionality and utilities for page interactions
  */
 public abstract class BasePage {
+    // Parsed DOM - all that eager page loads guarantee, so it is the least a page can be ready with
+    private static final ExpectedCondition<Boolean> DOM_PARSED = webDriver ->
+            !"loading".equals(((JavascriptExecutor) webDriver).executeScript("return document.readyState"));
+    
     protected final Logger logger = LogManager.getLogger(this.getClass());
     protected WebDriver driver;
     protected WebDriverWait wait;
     protected WaitActions waitActions;
+    protected DomReadActions domReadActions;
     protected ConfigManager config;
     protected JavascriptExecutor jsExecutor;
     
     public BasePage() {
         this.driver = DriverManager.getDriver();
         this.config = ConfigManager.getInstance();
-        int timeoutSeconds = config.getIntProperty("selenium.timeout", 30);
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutSeconds));
-        this.waitActions = new WaitActions(driver);
+        WaitContext waitContext = DriverManager.getWaitContext();
+        this.wait = waitContext.getWait();
+        this.waitActions = waitContext.getWaitActions();
+        this.domReadActions = waitContext.getDomReadActions();
         this.jsExecutor = (JavascriptExecutor) driver;
-        PageFactory.initElements(driver, this);
+        PageElementInitializer.initElements(driver, this);
         logger.debug("Initialized page: {}", this.getClass().getSimpleName());
     }
     
     /**
-     * Navigate to a specific URL
+     * Navigate to a specific URL, paths such as /login are resolved against the application base URL
      */
     protected void navigateToUrl(String url) {
+        url = ApplicationUnderTest.resolve(url);
         logger.info("Navigating to URL: {}", url);
+        DriverManager.getPerformanceRecorder().capturePage();
+        boolean statistics = NavigationStatistics.isEnabled();
+        if (statistics) {
+            NavigationStatistics.settle(driver);
+        }
+        long start = System.nanoTime();
         driver.get(url);
+        ElementLookupCache.invalidate();
+        waitUntilReady();
+        if (statistics) {
+            NavigationStatistics.recordReady(driver, getClass().getSimpleName(),
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+        }
+    }
+    
+    /**
+     * Readiness contract - condition under which the page is usable after navigation
+     * Defaults to a parsed DOM; pages override it with the element their tests use first
+     */
+    protected ExpectedCondition<?> readyCondition() {
+        return DOM_PARSED;
+    }
+    
+    /**
+     * Wait until the page meets its readiness contract
+     */
+    protected void waitUntilReady() {
+        wait.until(readyCondition());
     }
     
     /**
@@ -127,7 +164,8 @@ public abstract class BasePage {
     }
     
     /**
-     * Wait for page to load completely
+     * Wait for page to load completely, including images and frames
+     * Navigation already waits for readyCondition(); use this only when the full load matters
      */
     protected void waitForPageLoad() {
         waitActions.waitForPageLoad();
@@ -1,11 +1,19 @@
 package com.automation.core.base;
 
 import com.automation.config.ConfigManager;
-import com.automation.core.driver.DriverFactory;
+import com.automation.config.ConfigSource;
+import com.automation.constants.FrameworkConstants;
+import com.automation.core.driver.BrowserProfile;
 import com.automation.core.driver.DriverManager;
+import com.automation.core.driver.PerformanceMetrics;
+import com.automation.core.driver.PerformanceRecorder;
+import com.automation.server.ApplicationUnderTest;
+import com.automation.ui.actions.WaitStatistics;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+import org.testng.Reporter;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Optional;
@@ -22,7 +30,7 @@ public abstract class BaseTest {
     
     public BaseTest() {
         this.config = ConfigManager.getInstance();
-        this.baseUrl = config.getProperty("app.base.url", "https://the-internet.herokuapp.com");
+        this.baseUrl = ApplicationUnderTest.getBaseUrl();
     }
     
     @BeforeMethod
@@ -30,29 +38,51 @@ public abstract class BaseTest {
     public void setUp(@Optional("chrome") String browser) {
         logger.info("Setting up test with browser: {}", browser);
         
-        // Override browser from system property if provided
-        String browserFromProperty = System.getProperty("browser");
-        if (browserFromProperty != null && !browserFromProperty.isEmpty()) {
-            browser = browserFromProperty;
+        // Override browser from -Dbrowser / BROWSER if provided
+        ConfigSource browserSource = config.getSource("browser.default");
+        if (browserSource != null && browserSource.isOverride()) {
+            browser = config.getProperty("browser.default");
         }
         
-        // Create and set WebDriver
-        WebDriver driver = DriverFactory.createDriver(browser);
-        DriverManager.setDriver(driver);
+        ElementLookupCache.reset();
+        WaitStatistics.reset();
+        
+        // Create or lease a WebDriver for this thread
+        WebDriver driver = DriverManager.startDriver(browser);
         
         // Configure browser
-        driver.manage().window().maximize();
+        BrowserProfile.getActive().configureWindow(driver);
         driver.manage().deleteAllCookies();
         
+        if (PerformanceRecorder.isEnabled()) {
+            DriverManager.getPerformanceRecorder().start();
+        }
+        
         logger.info("WebDriver setup completed for: {}", browser);
     }
     
     @AfterMethod
-    public void tearDown() {
+    public void tearDown(ITestResult result) {
         logger.info("Tearing down test");
+        if (ElementLookupCache.getHits() + ElementLookupCache.getMisses() > 0) {
+            logger.info("Element lookup cache: {}", ElementLookupCache.summary());
+        }
+        if (!WaitStatistics.isEmpty()) {
+            logger.info("Condition waits (saved vs fixed sleeps): {}", WaitStatistics.summary());
+        }
         if (DriverManager.isDriverInitialized()) {
-            DriverManager.quitDriver();
-            logger.info("WebDriver quit successfully");
+            if (NavigationStatistics.isEnabled()) {
+                NavigationStatistics.settle(DriverManager.getDriver());
+            }
+            PerformanceRecorder recorder = DriverManager.getPerformanceRecorder();
+            if (recorder.isRecording()) {
+                PerformanceMetrics metrics = recorder.stop();
+                result.setAttribute(FrameworkConstants.PERFORMANCE_METRICS_ATTRIBUTE, metrics);
+                Reporter.log("Browser performance: " + metrics.summary());
+                logger.info("Browser performance: {}", metrics.summary());
+            }
+            DriverManager.releaseDriver();
+            logger.info("WebDriver released successfully");
         }
     }
     
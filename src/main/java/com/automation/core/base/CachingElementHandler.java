@@ -0,0 +1,74 @@
+package com.automation.core.base;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Caching Element Handler - Proxy handler for elements resolved by a CachingElementLocator
+ * A stale element invalidates the cache and the call is retried once on a fresh lookup.
+ * Clicks and submits may navigate, so they start a new navigation epoch afterwards
+ */
+class CachingElementHandler implements InvocationHandler {
+    private static final int SINGLE_ELEMENT = -1;
+
+    private final CachingElementLocator locator;
+    private final int index;
+
+    CachingElementHandler(CachingElementLocator locator) {
+        this(locator, SINGLE_ELEMENT);
+    }
+
+    CachingElementHandler(CachingElementLocator locator, int index) {
+        this.locator = locator;
+        this.index = index;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        WebElement element;
+        try {
+            element = resolve();
+        } catch (NoSuchElementException e) {
+            if ("toString".equals(method.getName())) {
+                return "Proxy element for: " + locator;
+            }
+            throw e;
+        }
+
+        if ("getWrappedElement".equals(method.getName())) {
+            return element;
+        }
+
+        Object result;
+        try {
+            result = method.invoke(element, args);
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                throw e.getCause();
+            }
+            // The DOM changed under us, so every cached element of this thread is suspect
+            ElementLookupCache.recordStaleRefresh();
+            ElementLookupCache.invalidate();
+            locator.invalidate();
+            try {
+                result = method.invoke(resolve(), args);
+            } catch (InvocationTargetException retry) {
+                throw retry.getCause();
+            }
+        }
+
+        if ("click".equals(method.getName()) || "submit".equals(method.getName())) {
+            ElementLookupCache.invalidate();
+        }
+        return result;
+    }
+
+    private WebElement resolve() {
+        return index == SINGLE_ELEMENT ? locator.findElement() : locator.findElement(index);
+    }
+}
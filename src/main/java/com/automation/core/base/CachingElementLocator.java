@@ -0,0 +1,95 @@
+package com.automation.core.base;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Caching Element Locator - Element locator for fields annotated with @CacheLookup
+ * Unlike PageFactory's locator, which caches forever, resolved elements are kept only
+ * for the current navigation epoch and are dropped when a stale element error is seen.
+ * Lists are returned as index proxies so each item can re-resolve itself when stale
+ */
+public class CachingElementLocator implements ElementLocator {
+    private final SearchContext searchContext;
+    private final By by;
+
+    private WebElement element;
+    private long elementEpoch = -1;
+    private List<WebElement> elements;
+    private List<WebElement> elementProxies;
+    private long elementsEpoch = -1;
+
+    public CachingElementLocator(SearchContext searchContext, By by) {
+        this.searchContext = searchContext;
+        this.by = by;
+    }
+
+    @Override
+    public WebElement findElement() {
+        if (element != null && elementEpoch == ElementLookupCache.currentEpoch()) {
+            ElementLookupCache.recordHit();
+            return element;
+        }
+        ElementLookupCache.recordMiss();
+        element = searchContext.findElement(by);
+        elementEpoch = ElementLookupCache.currentEpoch();
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        resolveElements();
+        return elementProxies;
+    }
+
+    /**
+     * Get the resolved list item behind an index proxy; the list lookup was already counted
+     */
+    WebElement findElement(int index) {
+        List<WebElement> current = elements != null && elementsEpoch == ElementLookupCache.currentEpoch()
+                ? elements
+                : resolveElements();
+        if (index >= current.size()) {
+            throw new NoSuchElementException("Element " + index + " is no longer present for: " + by);
+        }
+        return current.get(index);
+    }
+
+    /**
+     * Drop the cached element and list so the next lookup goes to the browser
+     */
+    void invalidate() {
+        element = null;
+        elements = null;
+        elementProxies = null;
+    }
+
+    private List<WebElement> resolveElements() {
+        if (elements != null && elementsEpoch == ElementLookupCache.currentEpoch()) {
+            ElementLookupCache.recordHit();
+            return elements;
+        }
+        ElementLookupCache.recordMiss();
+        elements = searchContext.findElements(by);
+        elementsEpoch = ElementLookupCache.currentEpoch();
+
+        List<WebElement> proxies = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            proxies.add(PageElementInitializer.elementProxy(new CachingElementHandler(this, i)));
+        }
+        elementProxies = Collections.unmodifiableList(proxies);
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        return "CachingElementLocator '" + by + "'";
+    }
+}
@@ -0,0 +1,77 @@
+package com.automation.core.base;
+
+/**
+ * Element Lookup Cache - Per-thread navigation epoch and statistics for cached element lookups
+ * Cached elements are only reused while the epoch they were resolved in is current;
+ * navigations, clicks through cached elements and stale element errors start a new epoch
+ */
+public class ElementLookupCache {
+    private static final ThreadLocal<Counters> counters = ThreadLocal.withInitial(Counters::new);
+
+    /**
+     * Current navigation epoch of this thread
+     */
+    public static long currentEpoch() {
+        return counters.get().epoch;
+    }
+
+    /**
+     * Invalidate every cached element of this thread, e.g. after a navigation
+     */
+    public static void invalidate() {
+        counters.get().epoch++;
+    }
+
+    /**
+     * Clear the statistics and cached elements at the start of a test
+     */
+    public static void reset() {
+        Counters current = counters.get();
+        current.epoch++;
+        current.hits = 0;
+        current.misses = 0;
+        current.staleRefreshes = 0;
+    }
+
+    static void recordHit() {
+        counters.get().hits++;
+    }
+
+    static void recordMiss() {
+        counters.get().misses++;
+    }
+
+    static void recordStaleRefresh() {
+        counters.get().staleRefreshes++;
+    }
+
+    public static long getHits() {
+        return counters.get().hits;
+    }
+
+    public static long getMisses() {
+        return counters.get().misses;
+    }
+
+    public static long getStaleRefreshes() {
+        return counters.get().staleRefreshes;
+    }
+
+    /**
+     * Every cache hit is a findElement/findElements round trip that was not sent to the browser
+     */
+    public static String summary() {
+        Counters current = counters.get();
+        long lookups = current.hits + current.misses;
+        return String.format("hits=%d, misses=%d, stale refreshes=%d, round trips saved=%d, hit rate=%.1f%%",
+                current.hits, current.misses, current.staleRefreshes, current.hits,
+                lookups == 0 ? 0.0 : current.hits * 100.0 / lookups);
+    }
+
+    private static final class Counters {
+        private long epoch;
+        private long hits;
+        private long misses;
+        private long staleRefreshes;
+    }
+}
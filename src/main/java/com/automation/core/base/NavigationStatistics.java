@@ -0,0 +1,127 @@
+package com.automation.core.base;
+
+import com.automation.config.ConfigManager;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Navigation Statistics - Suite-wide navigation time per page object
+ * For every navigation it records how long the page took to become ready and, once the page
+ * is left, how much earlier than the load event that was. Both are measured with the browser's
+ * own clock; with the normal page load strategy the saving is close to zero
+ */
+public class NavigationStatistics {
+    private static final String READY_SCRIPT = "return [location.href, Math.round(performance.now())];";
+    private static final String LOAD_END_SCRIPT =
+            "var nav = performance.getEntriesByType('navigation')[0];"
+            + "return [location.href, Math.round(nav && nav.loadEventEnd > 0 ? nav.loadEventEnd : performance.now())];";
+
+    private static final Map<String, PageCounters> pages = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Pending> pending = new ThreadLocal<>();
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("navigation.statistics.enabled", false);
+    }
+
+    /**
+     * Remember a page that just became ready; its saving is settled when the page is left
+     */
+    static void recordReady(WebDriver driver, String page, long navigationMillis) {
+        try {
+            List<?> ready = (List<?>) ((JavascriptExecutor) driver).executeScript(READY_SCRIPT);
+            pending.set(new Pending(page, navigationMillis, (String) ready.get(0), ((Number) ready.get(1)).longValue()));
+        } catch (RuntimeException e) {
+            // Statistics never fail a navigation; this one is simply not counted
+            pending.remove();
+        }
+    }
+
+    /**
+     * Settle the last ready page of this thread before navigating away or ending the test
+     */
+    public static void settle(WebDriver driver) {
+        Pending page = pending.get();
+        if (page == null) {
+            return;
+        }
+        pending.remove();
+        long savedMillis = -1;
+        try {
+            List<?> load = (List<?>) ((JavascriptExecutor) driver).executeScript(LOAD_END_SCRIPT);
+            // A click may already have left the page; its load event is then unknown
+            if (page.url.equals(load.get(0))) {
+                savedMillis = Math.max(0, ((Number) load.get(1)).longValue() - page.readyAtMillis);
+            }
+        } catch (RuntimeException e) {
+            // The session is gone; count the navigation without a saving
+        }
+        PageCounters counters = pages.computeIfAbsent(page.name, name -> new PageCounters());
+        counters.navigations.increment();
+        counters.navigationMillis.add(page.navigationMillis);
+        if (savedMillis >= 0) {
+            counters.measured.increment();
+            counters.savedMillis.add(savedMillis);
+        }
+    }
+
+    public static boolean isEmpty() {
+        return pages.isEmpty();
+    }
+
+    public static long getTotalSavedMillis() {
+        long total = 0;
+        for (PageCounters counters : pages.values()) {
+            total += counters.savedMillis.sum();
+        }
+        return total;
+    }
+
+    public static void reset() {
+        pages.clear();
+    }
+
+    public static String summary() {
+        if (pages.isEmpty()) {
+            return "no navigations recorded";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, PageCounters> entry : new TreeMap<>(pages).entrySet()) {
+            PageCounters counters = entry.getValue();
+            long navigations = counters.navigations.sum();
+            long measured = counters.measured.sum();
+            builder.append(System.lineSeparator())
+                    .append(String.format("  %-30s navigations=%d, mean ready=%dms, mean saved=%dms, total saved=%dms",
+                            entry.getKey(), navigations, counters.navigationMillis.sum() / navigations,
+                            measured == 0 ? 0 : counters.savedMillis.sum() / measured, counters.savedMillis.sum()));
+        }
+        builder.append(System.lineSeparator()).append("  total saved=").append(getTotalSavedMillis()).append("ms");
+        return builder.toString();
+    }
+
+    private static final class PageCounters {
+        private final LongAdder navigations = new LongAdder();
+        private final LongAdder navigationMillis = new LongAdder();
+        private final LongAdder measured = new LongAdder();
+        private final LongAdder savedMillis = new LongAdder();
+    }
+
+    private static final class Pending {
+        private final String name;
+        private final long navigationMillis;
+        private final String url;
+        private final long readyAtMillis;
+
+        private Pending(String name, long navigationMillis, String url, long readyAtMillis) {
+            this.name = name;
+            this.navigationMillis = navigationMillis;
+            this.url = url;
+            this.readyAtMillis = readyAtMillis;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.automation.core.base;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Page Element Initializer - Cached replacement for PageFactory.initElements
+ * Field scanning, locator building and setter lookup happen once per page class,
+ * so initializing a page is a walk over a pre-built array that injects the same
+ * lazy element proxies PageFactory would create.
+ * Fields annotated with @CacheLookup get a CachingElementLocator unless element.cache.enabled is false
+ */
+public class PageElementInitializer {
+    private static final Logger logger = LogManager.getLogger(PageElementInitializer.class);
+    private static final boolean ELEMENT_CACHE_ENABLED =
+            ConfigManager.getInstance().getBooleanProperty("element.cache.enabled", true);
+    private static final MethodHandle ELEMENT_PROXY =
+            proxyConstructor(WebElement.class, WrapsElement.class, Locatable.class);
+    private static final MethodHandle LIST_PROXY = proxyConstructor(List.class);
+    private static final ClassValue<ElementBinding[]> BINDINGS = new ClassValue<ElementBinding[]>() {
+        @Override
+        protected ElementBinding[] computeValue(Class<?> pageClass) {
+            return scan(pageClass);
+        }
+    };
+
+    /**
+     * Inject element proxies into every WebElement and annotated List<WebElement> field of the page
+     */
+    public static void initElements(SearchContext searchContext, Object page) {
+        for (ElementBinding binding : BINDINGS.get(page.getClass())) {
+            binding.inject(searchContext, page);
+        }
+    }
+
+    /**
+     * Create a WebElement proxy backed by the given handler
+     */
+    static WebElement elementProxy(InvocationHandler handler) {
+        try {
+            return (WebElement) (Object) ELEMENT_PROXY.invokeExact(handler);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create element proxy", e);
+        }
+    }
+
+    /**
+     * Number of element fields cached for a page class
+     */
+    public static int getBindingCount(Class<?> pageClass) {
+        return BINDINGS.get(pageClass).length;
+    }
+
+    private static ElementBinding[] scan(Class<?> pageClass) {
+        List<ElementBinding> bindings = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            MethodHandles.Lookup lookup;
+            try {
+                lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access fields of page class: " + type.getName(), e);
+            }
+
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isFinal(modifiers)) {
+                    continue;
+                }
+                boolean list = isElementList(field);
+                if (!list && !WebElement.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                bindings.add(new ElementBinding(field, new Annotations(field), list, lookup));
+            }
+        }
+        logger.debug("Cached {} element bindings for page: {}", bindings.size(), pageClass.getSimpleName());
+        return bindings.toArray(new ElementBinding[0]);
+    }
+
+    /**
+     * Same rule as PageFactory: List<WebElement> fields are only decorated when annotated
+     */
+    private static boolean isElementList(Field field) {
+        if (!List.class.isAssignableFrom(field.getType())) {
+            return false;
+        }
+        Type genericType = field.getGenericType();
+        if (!(genericType instanceof ParameterizedType)
+                || !WebElement.class.equals(((ParameterizedType) genericType).getActualTypeArguments()[0])) {
+            return false;
+        }
+        return field.getAnnotation(FindBy.class) != null
+                || field.getAnnotation(FindBys.class) != null
+                || field.getAnnotation(FindAll.class) != null;
+    }
+
+    private static MethodHandle proxyConstructor(Class<?>... interfaces) {
+        Class<?> proxyClass = Proxy.newProxyInstance(PageElementInitializer.class.getClassLoader(), interfaces,
+                (proxy, method, args) -> null).getClass();
+        try {
+            return MethodHandles.publicLookup()
+                    .findConstructor(proxyClass, MethodType.methodType(void.class, InvocationHandler.class))
+                    .asType(MethodType.methodType(Object.class, InvocationHandler.class));
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create element proxy constructor", e);
+        }
+    }
+
+    /**
+     * Pre-computed locator, cache flag and setter for one element field
+     */
+    private static final class ElementBinding {
+        private final String fieldName;
+        private final boolean list;
+        private final boolean cached;
+        private final AbstractAnnotations annotations;
+        private final MethodHandle setter;
+
+        ElementBinding(Field field, Annotations fieldAnnotations, boolean list, MethodHandles.Lookup lookup) {
+            this.fieldName = field.getDeclaringClass().getSimpleName() + "." + field.getName();
+            this.list = list;
+            this.cached = ELEMENT_CACHE_ENABLED && fieldAnnotations.isLookupCached();
+            // PageFactory's own @CacheLookup caching never expires, so it is never enabled here
+            this.annotations = new ResolvedAnnotations(fieldAnnotations.buildBy(), false);
+            try {
+                this.setter = lookup.unreflectSetter(field)
+                        .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access element field: " + fieldName, e);
+            }
+        }
+
+        void inject(SearchContext searchContext, Object page) {
+            InvocationHandler handler;
+            if (cached) {
+                CachingElementLocator locator = new CachingElementLocator(searchContext, annotations.buildBy());
+                handler = list ? new LocatingElementListHandler(locator) : new CachingElementHandler(locator);
+            } else {
+                ElementLocator locator = new DefaultElementLocator(searchContext, annotations);
+                handler = list ? new LocatingElementListHandler(locator) : new LocatingElementHandler(locator);
+            }
+            try {
+                Object proxy = list ? (Object) LIST_PROXY.invokeExact(handler) : (Object) ELEMENT_PROXY.invokeExact(handler);
+                setter.invokeExact(page, proxy);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to initialize element field: " + fieldName, e);
+            }
+        }
+    }
+
+    /**
+     * Annotations already evaluated when the page class was scanned
+     */
+    private static final class ResolvedAnnotations extends AbstractAnnotations {
+        private final By by;
+        private final boolean lookupCached;
+
+        ResolvedAnnotations(By by, boolean lookupCached) {
+            this.by = by;
+            this.lookupCached = lookupCached;
+        }
+
+        @Override
+        public By buildBy() {
+            return by;
+        }
+
+        @Override
+        public boolean isLookupCached() {
+            return lookupCached;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.automation.core.distributed;
+
+import com.automation.config.ConfigManager;
+import com.automation.core.listeners.DurationScheduler;
+import com.automation.core.listeners.TestDurationHistory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.annotations.Test;
+import org.testng.xml.SuiteXmlParser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.reflect.Method;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Work Coordinator - Holds the queue of test methods and scenarios that worker JVMs pull from
+ * Collects every test method of the TestNG suite and every scenario of the feature files, orders
+ * them longest-first by recorded duration and serves them over a line based socket protocol:
+ * a worker connection sends "HELLO name", then "NEXT" and gets "WORK lease item", "WAIT" or
+ * "DONE", and reports "RESULT lease status millis" as soon as an item finished. Workers can join
+ * from any machine that reaches distributed.coordinator.host:port while the run is in progress.
+ * java -cp ... com.automation.core.distributed.WorkCoordinator
+ */
+public class WorkCoordinator {
+    private static final Logger logger = LogManager.getLogger(WorkCoordinator.class);
+    static final String TESTNG_PREFIX = "testng:";
+    static final String CUCUMBER_PREFIX = "cucumber:";
+
+    private final WorkQueue queue;
+    private final Map<String, String> historyKeys;
+    private final ServerSocket serverSocket;
+
+    /**
+     * Items in the order they are handed out, each with the key its duration is kept under
+     */
+    public WorkCoordinator(Map<String, String> historyKeys, int port) throws IOException {
+        ConfigManager config = ConfigManager.getInstance();
+        this.queue = new WorkQueue(historyKeys.keySet(), config.getIntProperty("distributed.max.attempts", 2),
+                config.getIntProperty("distributed.lease.timeout", 600) * 1000L);
+        this.historyKeys = historyKeys;
+        this.serverSocket = new ServerSocket(port, 50,
+                InetAddress.getByName(config.getProperty("distributed.coordinator.host", "localhost")));
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigManager config = ConfigManager.getInstance();
+        Map<String, String> items = collectWork(config.getProperty("distributed.suite", "testng.xml"),
+                config.getProperty("distributed.features", "src/test/resources/features"));
+        WorkCoordinator coordinator = new WorkCoordinator(items, config.getIntProperty("distributed.coordinator.port", 47100));
+        boolean passed = coordinator.run(Paths.get(config.getProperty("distributed.results.file",
+                "target/distributed/results.json")));
+        System.exit(passed ? 0 : 1);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Serve work until every item has a result; returns true when none failed
+     */
+    public boolean run(Path resultsFile) throws IOException, InterruptedException {
+        logger.info("Coordinating {} items on {}", historyKeys.size(), serverSocket.getLocalSocketAddress());
+        long start = System.currentTimeMillis();
+        ScheduledExecutorService sweeper = Executors.newSingleThreadScheduledExecutor(daemon("work-lease-sweeper"));
+        sweeper.scheduleWithFixedDelay(() -> queue.expireLeases(System.currentTimeMillis()), 5, 5, TimeUnit.SECONDS);
+        Thread acceptor = daemon("work-coordinator-acceptor").newThread(this::accept);
+        acceptor.start();
+        try {
+            queue.awaitFinished();
+        } finally {
+            sweeper.shutdownNow();
+            serverSocket.close();
+        }
+
+        List<WorkQueue.Result> results = queue.getResults();
+        TestDurationHistory history = DurationScheduler.getHistory();
+        Map<String, Integer> perWorker = new TreeMap<>();
+        boolean passed = true;
+        for (WorkQueue.Result result : results) {
+            history.record(historyKeys.get(result.item), result.millis);
+            perWorker.merge(result.worker, 1, Integer::sum);
+            passed &= !WorkQueue.FAILED.equals(result.status);
+            if (WorkQueue.FAILED.equals(result.status)) {
+                logger.error("FAILED {} on {} (attempt {})", result.item, result.worker, result.attempts);
+            }
+        }
+        history.save();
+        writeResults(results, resultsFile);
+        logger.info("Distributed run finished in {} s: {}; items per worker {}; results in {}",
+                (System.currentTimeMillis() - start) / 1000, queue.summary(), perWorker, resultsFile);
+        return passed;
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                daemon("work-connection").newThread(() -> serve(socket)).start();
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    logger.warn("Accepting a worker connection failed: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        String worker = String.valueOf(socket.getRemoteSocketAddress());
+        try (Socket connection = socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(connection.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(connection.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] parts = line.trim().split(" ", 4);
+                switch (parts[0]) {
+                    case "HELLO":
+                        worker = parts[1];
+                        logger.info("Worker {} connected from {}", worker, connection.getRemoteSocketAddress());
+                        break;
+                    case "NEXT":
+                        WorkQueue.Lease lease = queue.next(worker);
+                        if (lease != null) {
+                            out.println("WORK " + lease.id + " " + lease.item);
+                        } else {
+                            out.println(queue.isFinished() ? "DONE" : "WAIT");
+                        }
+                        break;
+                    case "RESULT":
+                        queue.complete(Long.parseLong(parts[1]), parts[2], Long.parseLong(parts[3]));
+                        break;
+                    default:
+                        logger.warn("Unknown message from {}: {}", worker, line);
+                }
+            }
+        } catch (SocketException e) {
+            // The worker went away; its leases are re-queued below
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Connection to worker {} failed: {}", worker, e.getMessage());
+        } finally {
+            queue.release(worker);
+        }
+    }
+
+    /**
+     * Suites of a TestNG suite file followed by those of the suite files it includes
+     */
+    static List<XmlSuite> parseSuites(String suiteFile) throws IOException {
+        Path file = Paths.get(suiteFile);
+        XmlSuite suite;
+        try (InputStream input = Files.newInputStream(file)) {
+            suite = new SuiteXmlParser().parse(file.toString(), input, true);
+        }
+        List<XmlSuite> suites = new ArrayList<>();
+        suites.add(suite);
+        for (String child : suite.getSuiteFiles()) {
+            suites.addAll(parseSuites(file.toAbsolutePath().getParent().resolve(child).normalize().toString()));
+        }
+        return suites;
+    }
+
+    /**
+     * Test methods of the suite file and scenarios of the feature directory, longest first, mapped to
+     * their history keys: class#method, and the feature URI and line Cucumber reports to Hooks and Shard
+     */
+    public static Map<String, String> collectWork(String suiteFile, String featuresDir) throws IOException {
+        Map<String, String> items = new LinkedHashMap<>();
+        if (!suiteFile.isEmpty()) {
+            for (XmlSuite suite : parseSuites(suiteFile)) {
+                for (XmlTest test : suite.getTests()) {
+                    for (XmlClass xmlClass : test.getXmlClasses()) {
+                        for (String method : testMethods(xmlClass)) {
+                            items.put(TESTNG_PREFIX + method, method);
+                        }
+                    }
+                }
+            }
+        }
+        Path features = Paths.get(featuresDir);
+        if (!featuresDir.isEmpty() && Files.isDirectory(features)) {
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(features)) {
+                files = paths.filter(path -> path.toString().endsWith(".feature")).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+                for (int i = 0; i < lines.size(); i++) {
+                    String line = lines.get(i).trim();
+                    if (line.startsWith("Scenario:") || line.startsWith("Scenario Outline:")
+                            || line.startsWith("Scenario Template:") || line.startsWith("Example:")) {
+                        // Cucumber identifies features found on the file system by their absolute file URI
+                        items.put(CUCUMBER_PREFIX + file.toString().replace('\\', '/') + ":" + (i + 1),
+                                TestDurationHistory.scenarioKey(file.toAbsolutePath().normalize().toUri(), i + 1));
+                    }
+                }
+            }
+        }
+        TestDurationHistory history = DurationScheduler.getHistory();
+        long unknownMillis = history.getMeanMillis(10_000);
+        List<Map.Entry<String, String>> entries = new ArrayList<>(items.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, String> entry) ->
+                history.getMillis(entry.getValue(), unknownMillis)).reversed());
+        Map<String, String> ordered = new LinkedHashMap<>();
+        entries.forEach(entry -> ordered.put(entry.getKey(), entry.getValue()));
+        return ordered;
+    }
+
+    private static List<String> testMethods(XmlClass xmlClass) {
+        Set<String> included = xmlClass.getIncludedMethods().stream().map(XmlInclude::getName).collect(Collectors.toSet());
+        List<String> methods = new ArrayList<>();
+        for (Method method : xmlClass.getSupportClass().getMethods()) {
+            if (method.isAnnotationPresent(Test.class)
+                    && (included.isEmpty() || included.contains(method.getName()))
+                    && !xmlClass.getExcludedMethods().contains(method.getName())) {
+                methods.add(xmlClass.getName() + "#" + method.getName());
+            }
+        }
+        methods.sort(null);
+        return methods;
+    }
+
+    private static void writeResults(List<WorkQueue.Result> results, Path file) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ArrayNode array = mapper.createArrayNode();
+        for (WorkQueue.Result result : results) {
+            ObjectNode node = array.addObject();
+            node.put("item", result.item);
+            node.put("status", result.status);
+            node.put("millis", result.millis);
+            node.put("worker", result.worker);
+            node.put("attempts", result.attempts);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), array);
+    }
+
+    private static ThreadFactory daemon(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,183 @@
+package com.automation.core.distributed;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Work Queue - Coordinator side queue of test items and the leases handed out for them
+ * Idle workers take the next item, so whoever finishes first takes over the remaining work. An
+ * item stays leased until its result arrives; the leases of a worker that disconnects or holds an
+ * item longer than the lease timeout go back to the front of the queue, until the item has been
+ * tried maxAttempts times and is reported as failed
+ */
+class WorkQueue {
+    private static final Logger logger = LogManager.getLogger(WorkQueue.class);
+    static final String PASSED = "PASS";
+    static final String FAILED = "FAIL";
+    static final String SKIPPED = "SKIP";
+
+    private final Deque<String> queue;
+    private final Map<Long, Lease> leases = new HashMap<>();
+    private final Map<String, Result> results = new LinkedHashMap<>();
+    private final Map<String, Integer> attempts = new HashMap<>();
+    private final int itemCount;
+    private final int maxAttempts;
+    private final long leaseTimeoutMillis;
+    private long nextLeaseId = 1;
+    private int requeued;
+
+    /**
+     * Items in the order they are handed out
+     */
+    WorkQueue(Collection<String> items, int maxAttempts, long leaseTimeoutMillis) {
+        this.queue = new ArrayDeque<>(items);
+        this.itemCount = items.size();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+    }
+
+    /**
+     * Lease the next item to a worker; null when nothing is queued right now
+     */
+    synchronized Lease next(String worker) {
+        String item = queue.pollFirst();
+        if (item == null) {
+            return null;
+        }
+        attempts.merge(item, 1, Integer::sum);
+        Lease lease = new Lease(nextLeaseId++, item, worker, System.currentTimeMillis());
+        leases.put(lease.id, lease);
+        return lease;
+    }
+
+    /**
+     * Record the result of a lease; results of leases that were already re-queued are ignored
+     */
+    synchronized void complete(long leaseId, String status, long millis) {
+        Lease lease = leases.remove(leaseId);
+        if (lease == null || results.containsKey(lease.item)) {
+            return;
+        }
+        results.put(lease.item, new Result(lease.item, status, millis, lease.worker, attempts.get(lease.item)));
+        notifyAll();
+    }
+
+    /**
+     * Re-queue every lease of a worker connection that went away
+     */
+    synchronized void release(String worker) {
+        Iterator<Lease> iterator = leases.values().iterator();
+        while (iterator.hasNext()) {
+            Lease lease = iterator.next();
+            if (lease.worker.equals(worker)) {
+                iterator.remove();
+                requeue(lease, "worker " + worker + " disconnected");
+            }
+        }
+    }
+
+    /**
+     * Re-queue leases held longer than the lease timeout, e.g. by a hung browser
+     */
+    synchronized void expireLeases(long now) {
+        Iterator<Lease> iterator = leases.values().iterator();
+        while (iterator.hasNext()) {
+            Lease lease = iterator.next();
+            if (now - lease.startedAt > leaseTimeoutMillis) {
+                iterator.remove();
+                requeue(lease, "lease expired on " + lease.worker);
+            }
+        }
+    }
+
+    synchronized boolean isFinished() {
+        return queue.isEmpty() && leases.isEmpty();
+    }
+
+    synchronized void awaitFinished() throws InterruptedException {
+        while (!isFinished()) {
+            wait(1000);
+        }
+    }
+
+    synchronized List<Result> getResults() {
+        return new ArrayList<>(results.values());
+    }
+
+    synchronized int getRequeuedCount() {
+        return requeued;
+    }
+
+    synchronized String summary() {
+        int passed = 0;
+        int failed = 0;
+        int skipped = 0;
+        for (Result result : results.values()) {
+            if (PASSED.equals(result.status)) {
+                passed++;
+            } else if (FAILED.equals(result.status)) {
+                failed++;
+            } else {
+                skipped++;
+            }
+        }
+        return String.format("%d items: %d passed, %d failed, %d skipped, %d leases re-queued, %d queued, %d leased",
+                itemCount, passed, failed, skipped, requeued, queue.size(), leases.size());
+    }
+
+    private void requeue(Lease lease, String reason) {
+        if (results.containsKey(lease.item)) {
+            return;
+        }
+        if (attempts.getOrDefault(lease.item, 0) >= maxAttempts) {
+            results.put(lease.item, new Result(lease.item, FAILED, System.currentTimeMillis() - lease.startedAt,
+                    lease.worker, attempts.get(lease.item)));
+            logger.warn("Giving up on {} after {} attempts: {}", lease.item, maxAttempts, reason);
+        } else {
+            queue.addFirst(lease.item);
+            requeued++;
+            logger.warn("Re-queued {}: {}", lease.item, reason);
+        }
+        notifyAll();
+    }
+
+    static final class Lease {
+        final long id;
+        final String item;
+        final String worker;
+        final long startedAt;
+
+        private Lease(long id, String item, String worker, long startedAt) {
+            this.id = id;
+            this.item = item;
+            this.worker = worker;
+            this.startedAt = startedAt;
+        }
+    }
+
+    static final class Result {
+        final String item;
+        final String status;
+        final long millis;
+        final String worker;
+        final int attempts;
+
+        private Result(String item, String status, long millis, String worker, int attempts) {
+            this.item = item;
+            this.status = status;
+            this.millis = millis;
+            this.worker = worker;
+            this.attempts = attempts;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.automation.core.distributed;
+
+import com.automation.config.ConfigManager;
+import com.automation.core.listeners.DriverLifecycleListener;
+import com.automation.core.listeners.DurationScheduler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.TestListenerAdapter;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Worker Node - Pulls test methods and scenarios from a WorkCoordinator and runs them
+ * Runs one item at a time through TestNG or Cucumber, so BaseTest and Hooks manage the browser exactly
+ * as in a normal run. The suite level work of DriverLifecycleListener (app server, driver pool warm-up,
+ * metrics, pool shutdown) is done once around all items, and the duration history is left to the
+ * coordinator, which records every result. Start as many workers, on as many machines, as the
+ * coordinator should feed:
+ * java -cp ... -Ddistributed.coordinator.host=HOST com.automation.core.distributed.WorkerNode
+ */
+public class WorkerNode {
+    private static final Logger logger = LogManager.getLogger(WorkerNode.class);
+
+    private final String host;
+    private final int port;
+    private final String name;
+    private final Map<String, String> suiteParameters;
+    private int completed;
+
+    public WorkerNode(String host, int port) throws IOException {
+        this.host = host;
+        this.port = port;
+        this.name = InetAddress.getLocalHost().getHostName() + "-" + ManagementFactory.getRuntimeMXBean().getName()
+                .split("@")[0];
+        String suiteFile = ConfigManager.getInstance().getProperty("distributed.suite", "testng.xml");
+        List<XmlSuite> suites = suiteFile.isEmpty() ? Collections.emptyList() : WorkCoordinator.parseSuites(suiteFile);
+        // Suite parameters such as browser, so methods run as they would from the suite file
+        this.suiteParameters = suites.isEmpty() ? Collections.emptyMap() : suites.get(0).getParameters();
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfigManager config = ConfigManager.getInstance();
+        WorkerNode worker = new WorkerNode(config.getProperty("distributed.coordinator.host", "localhost"),
+                config.getIntProperty("distributed.coordinator.port", 47100));
+        worker.run();
+        System.exit(0);
+    }
+
+    /**
+     * Work until the coordinator has nothing left or goes away
+     */
+    public void run() {
+        logger.info("Worker {} pulling work from {}:{}", name, host, port);
+        DurationScheduler.disableHistorySaving();
+        DriverLifecycleListener.startRun(suiteParameters.get("browser"));
+        try {
+            work();
+        } finally {
+            DriverLifecycleListener.finishRun("Worker " + name);
+        }
+        logger.info("Worker {} finished {} items", name, completed);
+    }
+
+    private void work() {
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8)) {
+            out.println("HELLO " + name);
+            while (true) {
+                out.println("NEXT");
+                String reply = in.readLine();
+                if (reply == null || reply.equals("DONE")) {
+                    return;
+                }
+                if (reply.equals("WAIT")) {
+                    // Other workers hold the last items; one of them may still be re-queued
+                    Thread.sleep(1000);
+                    continue;
+                }
+                String[] parts = reply.split(" ", 3);
+                long start = System.currentTimeMillis();
+                String status = runItem(parts[2]);
+                out.println("RESULT " + parts[1] + " " + status + " " + (System.currentTimeMillis() - start));
+                completed++;
+                logger.info("{} {} in {} ms", status, parts[2], System.currentTimeMillis() - start);
+            }
+        } catch (IOException e) {
+            logger.warn("Worker connection {} to {}:{} ended: {}", name, host, port, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String runItem(String item) {
+        try {
+            if (item.startsWith(WorkCoordinator.TESTNG_PREFIX)) {
+                return runTestMethod(item.substring(WorkCoordinator.TESTNG_PREFIX.length()));
+            }
+            if (item.startsWith(WorkCoordinator.CUCUMBER_PREFIX)) {
+                return runScenario(item.substring(WorkCoordinator.CUCUMBER_PREFIX.length()));
+            }
+            logger.error("Unknown work item {}", item);
+        } catch (RuntimeException e) {
+            logger.error("Running {} failed", item, e);
+        }
+        return WorkQueue.FAILED;
+    }
+
+    /**
+     * One test method with all its data provider invocations, through BaseTest's configuration methods
+     */
+    private String runTestMethod(String method) {
+        String[] parts = method.split("#", 2);
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Worker " + name);
+        suite.setParameters(new HashMap<>(suiteParameters));
+        XmlTest test = new XmlTest(suite);
+        test.setName(method);
+        XmlClass xmlClass = new XmlClass(parts[0], false);
+        xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(parts[1])));
+        test.setXmlClasses(Collections.singletonList(xmlClass));
+
+        TestNG testng = new TestNG(false);
+        testng.setXmlSuites(Collections.singletonList(suite));
+        testng.setVerbose(0);
+        TestListenerAdapter results = new TestListenerAdapter();
+        testng.addListener(results);
+        testng.run();
+        if (!results.getFailedTests().isEmpty() || !results.getConfigurationFailures().isEmpty()) {
+            return WorkQueue.FAILED;
+        }
+        return results.getPassedTests().isEmpty() ? WorkQueue.SKIPPED : WorkQueue.PASSED;
+    }
+
+    /**
+     * One scenario, or all examples of an outline, through the Cucumber hooks
+     */
+    private String runScenario(String location) {
+        byte exitStatus = io.cucumber.core.cli.Main.run(new String[]{
+                "--glue", "com.automation.cucumber.stepdefinations",
+                "--monochrome",
+                location}, Thread.currentThread().getContextClassLoader());
+        return exitStatus == 0 ? WorkQueue.PASSED : WorkQueue.FAILED;
+    }
+}
@@ -0,0 +1,239 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Browser Footprint - Peak resident memory and CPU use of every browser the run launched
+ * Samples the driver process and all of its descendants (browser, renderer, GPU processes)
+ * from /proc, so it works on Linux agents and reports nothing elsewhere. Shared pages are
+ * counted once per process, which makes the figures a safe upper bound for thread planning
+ */
+public class BrowserFootprint {
+    private static final Logger logger = LogManager.getLogger(BrowserFootprint.class);
+    private static final long MB = 1024 * 1024;
+    // Share of physical memory browsers may use when suggesting a thread count
+    private static final double MEMORY_HEADROOM = 0.75;
+    // Kernel clock ticks per second of the utime and stime fields in /proc/<pid>/stat, 100 on Linux
+    private static final double CLOCK_TICKS_PER_SECOND = 100;
+
+    private final Map<ProcessHandle, TreeUsage> trees = new ConcurrentHashMap<>();
+    private final List<TreeUsage> finished = new ArrayList<>();
+    private final ScheduledExecutorService sampler;
+
+    private BrowserFootprint(long intervalMillis) {
+        sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "browser-footprint-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sampler.scheduleWithFixedDelay(this::sample, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public static BrowserFootprint getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("browser.footprint.enabled", false)
+                && Files.isReadable(Paths.get("/proc/self/status"));
+    }
+
+    /**
+     * Start sampling the process tree of a started driver service
+     */
+    void track(String browserName, DriverService service) {
+        String portArgument = "--port=" + service.getUrl().getPort();
+        Optional<ProcessHandle> process = ProcessHandle.current().children()
+                .filter(child -> child.info().arguments()
+                        .map(arguments -> List.of(arguments).contains(portArgument))
+                        .orElse(false))
+                .findFirst();
+        if (process.isPresent()) {
+            trees.put(process.get(), new TreeUsage());
+        } else {
+            logger.debug("Driver process for {} on {} not found, memory not tracked", browserName, service.getUrl());
+        }
+    }
+
+    public int getBrowserCount() {
+        synchronized (finished) {
+            return finished.size() + trees.size();
+        }
+    }
+
+    public long getPeakRssBytes() {
+        long max = 0;
+        for (TreeUsage usage : allTrees()) {
+            max = Math.max(max, usage.peakRss.get());
+        }
+        return max;
+    }
+
+    public long getAverageRssBytes() {
+        List<TreeUsage> all = allTrees();
+        long total = 0;
+        for (TreeUsage usage : all) {
+            total += usage.peakRss.get();
+        }
+        return all.isEmpty() ? 0 : total / all.size();
+    }
+
+    /**
+     * Mean CPU cores a browser kept busy while it was sampled, 0 until a browser was sampled twice
+     */
+    public double getAverageCpuCores() {
+        double total = 0;
+        int measured = 0;
+        for (TreeUsage usage : allTrees()) {
+            double cores = usage.cpuCores();
+            if (cores >= 0) {
+                total += cores;
+                measured++;
+            }
+        }
+        return measured == 0 ? 0 : total / measured;
+    }
+
+    /**
+     * Sample the tracked browsers now instead of waiting for the next interval
+     */
+    public void refresh() {
+        sample();
+    }
+
+    /**
+     * Browsers of the largest observed size that fit into the given memory
+     */
+    public int getSuggestedThreadCount(long memoryBytes) {
+        long peak = getPeakRssBytes();
+        return peak == 0 ? 0 : (int) Math.max(1, memoryBytes / peak);
+    }
+
+    public String summary() {
+        sample();
+        if (getBrowserCount() == 0) {
+            return "no browser processes tracked";
+        }
+        String summary = String.format("peak RSS per browser: max %d MB, avg %d MB over %d browser(s), avg %.2f CPU cores",
+                getPeakRssBytes() / MB, getAverageRssBytes() / MB, getBrowserCount(), getAverageCpuCores());
+        long totalMemory = readMemInfo("MemTotal:");
+        if (totalMemory > 0 && getPeakRssBytes() > 0) {
+            long budget = (long) (totalMemory * MEMORY_HEADROOM);
+            summary += String.format("; about %d concurrent browsers fit in %d MB (%.0f%% of %d MB)",
+                    getSuggestedThreadCount(budget), budget / MB, MEMORY_HEADROOM * 100, totalMemory / MB);
+        }
+        return summary;
+    }
+
+    private List<TreeUsage> allTrees() {
+        List<TreeUsage> all;
+        synchronized (finished) {
+            all = new ArrayList<>(finished);
+        }
+        all.addAll(trees.values());
+        return all;
+    }
+
+    private synchronized void sample() {
+        for (Map.Entry<ProcessHandle, TreeUsage> entry : trees.entrySet()) {
+            ProcessHandle process = entry.getKey();
+            if (!process.isAlive()) {
+                if (trees.remove(process) != null) {
+                    synchronized (finished) {
+                        finished.add(entry.getValue());
+                    }
+                }
+                continue;
+            }
+            long rss = rssBytes(process) + process.descendants().mapToLong(BrowserFootprint::rssBytes).sum();
+            long cpuTicks = cpuTicks(process) + process.descendants().mapToLong(BrowserFootprint::cpuTicks).sum();
+            entry.getValue().peakRss.accumulateAndGet(rss, Math::max);
+            entry.getValue().recordCpu(cpuTicks, System.nanoTime());
+        }
+    }
+
+    private static long rssBytes(ProcessHandle process) {
+        return readKilobytes(Paths.get("/proc", String.valueOf(process.pid()), "status"), "VmRSS:");
+    }
+
+    /**
+     * User plus system CPU time of a process in clock ticks
+     */
+    private static long cpuTicks(ProcessHandle process) {
+        try {
+            String stat = new String(Files.readAllBytes(Paths.get("/proc", String.valueOf(process.pid()), "stat")));
+            // Fields after the parenthesised command name start at field 3 (state); utime and stime are 14 and 15
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            return Long.parseLong(fields[11]) + Long.parseLong(fields[12]);
+        } catch (IOException | RuntimeException e) {
+            // The process exited between listing and reading
+            return 0;
+        }
+    }
+
+    /**
+     * A /proc/meminfo field in bytes, 0 where /proc is not available
+     */
+    static long readMemInfo(String field) {
+        return readKilobytes(Paths.get("/proc/meminfo"), field);
+    }
+
+    private static long readKilobytes(Path file, String field) {
+        try {
+            for (String line : Files.readAllLines(file)) {
+                if (line.startsWith(field)) {
+                    return Long.parseLong(line.substring(field.length()).trim().split("\\s+")[0]) * 1024;
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // The process exited between listing and reading
+        }
+        return 0;
+    }
+
+    private static final class TreeUsage {
+        private final AtomicLong peakRss = new AtomicLong();
+        private long firstCpuTicks = -1;
+        private long firstNanos;
+        private long lastCpuTicks;
+        private long lastNanos;
+
+        private synchronized void recordCpu(long cpuTicks, long nanos) {
+            if (firstCpuTicks < 0) {
+                firstCpuTicks = cpuTicks;
+                firstNanos = nanos;
+            }
+            lastCpuTicks = cpuTicks;
+            lastNanos = nanos;
+        }
+
+        private synchronized double cpuCores() {
+            if (firstCpuTicks < 0 || lastNanos == firstNanos) {
+                return -1;
+            }
+            return (lastCpuTicks - firstCpuTicks) / CLOCK_TICKS_PER_SECOND / ((lastNanos - firstNanos) / 1e9);
+        }
+    }
+
+    private static final class Holder {
+        private static final BrowserFootprint INSTANCE = new BrowserFootprint(
+                Math.max(100, ConfigManager.getInstance().getIntProperty("browser.footprint.sample.ms", 1000)));
+    }
+}
@@ -0,0 +1,192 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.firefox.FirefoxOptions;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Browser Profile - Named set of browser flags and preferences selected by browser.profile
+ * "default" keeps the browser as configured elsewhere; "dense" trims memory and background work
+ * so many headless browsers fit on one agent: fixed small viewport, no images, eager page loads,
+ * a capped JavaScript heap and a disk cache directory shared by all sessions
+ */
+public class BrowserProfile {
+    private static final Logger logger = LogManager.getLogger(BrowserProfile.class);
+
+    public static final BrowserProfile DEFAULT = new BrowserProfile("default", Collections.emptyList(),
+            null, false, null, 0, null);
+
+    // Chromium switches that stop work a test never needs; all keep pages functional
+    private static final List<String> DENSE_CHROMIUM_FLAGS = Arrays.asList(
+            "--disable-background-networking",
+            "--disable-background-timer-throttling",
+            "--disable-backgrounding-occluded-windows",
+            "--disable-renderer-backgrounding",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--disable-sync",
+            "--disable-client-side-phishing-detection",
+            "--disable-hang-monitor",
+            "--disable-features=Translate,MediaRouter,OptimizationHints,AutofillServerCommunication",
+            "--metrics-recording-only",
+            "--no-first-run",
+            "--mute-audio",
+            "--renderer-process-limit=2");
+
+    private final String name;
+    private final List<String> chromiumFlags;
+    private final Dimension windowSize;
+    private final boolean imagesDisabled;
+    private final PageLoadStrategy pageLoadStrategy;
+    private final int jsHeapMb;
+    private final String diskCacheDir;
+
+    public BrowserProfile(String name, List<String> chromiumFlags, Dimension windowSize, boolean imagesDisabled,
+                          PageLoadStrategy pageLoadStrategy, int jsHeapMb, String diskCacheDir) {
+        this.name = name;
+        this.chromiumFlags = chromiumFlags;
+        this.windowSize = windowSize;
+        this.imagesDisabled = imagesDisabled;
+        this.pageLoadStrategy = pageLoadStrategy;
+        this.jsHeapMb = jsHeapMb;
+        this.diskCacheDir = diskCacheDir;
+    }
+
+    /**
+     * Profile selected by browser.profile, read once
+     */
+    public static BrowserProfile getActive() {
+        return Holder.ACTIVE;
+    }
+
+    /**
+     * Profile by name, with the browser.profile.* overrides applied
+     */
+    public static BrowserProfile forName(String name) {
+        ConfigManager config = ConfigManager.getInstance();
+        switch (name.trim().toLowerCase()) {
+            case "default":
+                return DEFAULT;
+            case "dense":
+                String cacheDir = config.getProperty("browser.profile.disk.cache.dir", "");
+                return new BrowserProfile("dense", DENSE_CHROMIUM_FLAGS,
+                        parseSize(config.getProperty("browser.profile.window.size", "1280x800")),
+                        !config.getBooleanProperty("browser.profile.images", false),
+                        PageLoadStrategy.EAGER,
+                        config.getIntProperty("browser.profile.js.heap.mb", 512),
+                        cacheDir.isEmpty()
+                                ? Paths.get(System.getProperty("user.home"), ".cache", "the-internet-automation",
+                                        "browser-disk-cache").toString()
+                                : cacheDir);
+            default:
+                throw new IllegalArgumentException("Unknown browser profile '" + name + "', expected default or dense");
+        }
+    }
+
+    /**
+     * Add the profile's switches and preferences to Chrome or Edge options
+     */
+    public void applyTo(ChromiumOptions<?> options) {
+        options.addArguments(chromiumFlags);
+        if (windowSize != null) {
+            options.addArguments("--window-size=" + windowSize.getWidth() + "," + windowSize.getHeight());
+        }
+        if (jsHeapMb > 0) {
+            options.addArguments("--js-flags=--max-old-space-size=" + jsHeapMb);
+        }
+        if (diskCacheDir != null) {
+            options.addArguments("--disk-cache-dir=" + diskCacheDir);
+        }
+        if (imagesDisabled) {
+            Map<String, Object> prefs = new HashMap<>();
+            prefs.put("profile.managed_default_content_settings.images", 2);
+            options.setExperimentalOption("prefs", prefs);
+            options.addArguments("--blink-settings=imagesEnabled=false");
+        }
+        if (pageLoadStrategy != null) {
+            options.setPageLoadStrategy(pageLoadStrategy);
+        }
+    }
+
+    /**
+     * Add the parts of the profile Firefox supports: window size, images and page load strategy
+     */
+    public void applyTo(FirefoxOptions options) {
+        if (windowSize != null) {
+            options.addArguments("--width=" + windowSize.getWidth(), "--height=" + windowSize.getHeight());
+        }
+        if (imagesDisabled) {
+            options.addPreference("permissions.default.image", 2);
+        }
+        if (pageLoadStrategy != null) {
+            options.setPageLoadStrategy(pageLoadStrategy);
+        }
+    }
+
+    /**
+     * Size a new session's window: the profile's fixed viewport, otherwise maximized
+     */
+    public void configureWindow(WebDriver driver) {
+        if (windowSize != null) {
+            driver.manage().window().setSize(windowSize);
+        } else if (ConfigManager.getInstance().getBooleanProperty("browser.maximize", true)) {
+            driver.manage().window().maximize();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Fixed window size, or null when the window is maximized
+     */
+    public Dimension getWindowSize() {
+        return windowSize;
+    }
+
+    public boolean isImagesDisabled() {
+        return imagesDisabled;
+    }
+
+    @Override
+    public String toString() {
+        String window = windowSize != null ? windowSize.getWidth() + "x" + windowSize.getHeight() : "maximized";
+        return name + " (window " + window
+                + ", images " + (imagesDisabled ? "off" : "on")
+                + (pageLoadStrategy != null ? ", " + pageLoadStrategy + " page loads" : "")
+                + (jsHeapMb > 0 ? ", JS heap " + jsHeapMb + " MB" : "") + ")";
+    }
+
+    private static Dimension parseSize(String size) {
+        String[] parts = size.toLowerCase().split("x");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException("Invalid window size '" + size + "', expected WIDTHxHEIGHT");
+        }
+        return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+    }
+
+    /**
+     * Lazy holder - the profile is resolved when the first browser is configured
+     */
+    private static final class Holder {
+        private static final BrowserProfile ACTIVE = forName(ConfigManager.getInstance()
+                .getProperty("browser.profile", "default"));
+
+        static {
+            logger.info("Browser profile: {}", ACTIVE);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.automation.core.driver;
+
+import com.automation.core.base.BasePage;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Command Latency Listener - Times every command of a decorated driver and attributes it to its caller
+ * Commands are named after the object they run on (findElement, element.click, navigate.to, switchTo.frame),
+ * and the caller is the page object method that issued them, or the test or step code when no page object did
+ */
+class CommandLatencyListener implements WebDriverListener {
+    // Calls that only return a local helper object and never reach the browser
+    private static final Set<String> LOCAL_METHODS = Set.of("navigate", "switchTo", "manage", "timeouts", "window",
+            "logs", "getWrappedDriver", "getWrappedElement", "getDevTools", "getCapabilities", "getSessionId");
+    private static final Set<String> FRAMEWORK_PACKAGES = Set.of("java.", "jdk.", "sun.", "com.sun.", "org.openqa.",
+            "net.bytebuddy.", "org.testng.", "io.cucumber.", "com.automation.core.", "com.automation.ui.actions.");
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final ThreadLocal<Deque<Long>> startNanos = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (isTimed(method)) {
+            startNanos.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(target, method, false);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(target, method, true);
+    }
+
+    private void finish(Object target, Method method, boolean failed) {
+        if (!isTimed(method)) {
+            return;
+        }
+        Long start = startNanos.get().poll();
+        if (start != null) {
+            CommandStatistics.record(commandName(target, method), callSite(), System.nanoTime() - start, failed);
+        }
+    }
+
+    private static boolean isTimed(Method method) {
+        return method.getDeclaringClass() != Object.class && !LOCAL_METHODS.contains(method.getName());
+    }
+
+    private static String commandName(Object target, Method method) {
+        if (target instanceof WebDriver) {
+            return method.getName();
+        }
+        if (target instanceof WebElement) {
+            return "element." + method.getName();
+        }
+        if (target instanceof WebDriver.Navigation) {
+            return "navigate." + method.getName();
+        }
+        if (target instanceof WebDriver.TargetLocator) {
+            return "switchTo." + method.getName();
+        }
+        if (target instanceof Alert) {
+            return "alert." + method.getName();
+        }
+        if (target instanceof WebDriver.Window) {
+            return "window." + method.getName();
+        }
+        return "manage." + method.getName();
+    }
+
+    /**
+     * Page object method on the current stack, else the first frame outside the framework and its libraries
+     */
+    private static String callSite() {
+        Optional<StackWalker.StackFrame> frame = stackWalker.walk(frames -> frames
+                .filter(f -> BasePage.class.isAssignableFrom(f.getDeclaringClass()) && f.getDeclaringClass() != BasePage.class)
+                .findFirst());
+        if (frame.isEmpty()) {
+            frame = stackWalker.walk(frames -> frames
+                    .filter(f -> FRAMEWORK_PACKAGES.stream().noneMatch(f.getClassName()::startsWith))
+                    .findFirst());
+        }
+        return frame.map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1) + "." + f.getMethodName())
+                .orElse(null);
+    }
+}
@@ -0,0 +1,274 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Command Statistics - Suite-wide latency of every WebDriver command and the page object methods issuing them
+ * Each thread records into its own histograms, so recording takes no lock and shares no counter; the
+ * histograms are merged when the summary is taken, after the test threads finished. Latencies are
+ * bucketed with about 3% precision, which is what the p50/p95/p99 columns are accurate to
+ */
+public class CommandStatistics {
+    // Latencies up to 64 microseconds are exact; above, every power of two is split into 32 buckets
+    private static final int EXACT_MICROS = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = EXACT_MICROS + (MAX_EXPONENT - 5) * SUB_BUCKETS;
+
+    private static final Queue<ThreadRecorder> recorders = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<ThreadRecorder> recorder = ThreadLocal.withInitial(() -> {
+        ThreadRecorder threadRecorder = new ThreadRecorder();
+        recorders.add(threadRecorder);
+        return threadRecorder;
+    });
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("webdriver.commands.instrumentation.enabled", false);
+    }
+
+    /**
+     * The driver wrapped so that every command it and its elements execute is timed, or the driver itself when disabled
+     */
+    public static WebDriver instrument(WebDriver driver) {
+        if (!isEnabled()) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new CommandLatencyListener()).decorate(driver);
+    }
+
+    /**
+     * Record one command issued from a call site on the current thread
+     */
+    static void record(String command, String callSite, long nanos, boolean failed) {
+        long micros = Math.max(0, nanos / 1000);
+        ThreadRecorder threadRecorder = recorder.get();
+        Histogram histogram = threadRecorder.commands.computeIfAbsent(command, name -> new Histogram());
+        histogram.add(micros, failed);
+        if (callSite != null) {
+            threadRecorder.callSites.computeIfAbsent(callSite, site -> new CallSite()).add(micros, command);
+        }
+    }
+
+    public static boolean isEmpty() {
+        for (ThreadRecorder threadRecorder : recorders) {
+            if (!threadRecorder.commands.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Table of count and percentiles per command, followed by the call sites that spent most time in commands
+     */
+    public static String summary(int topCallSites) {
+        Map<String, Histogram> commands = mergeCommands();
+        if (commands.isEmpty()) {
+            return "no WebDriver commands recorded";
+        }
+        StringBuilder builder = new StringBuilder();
+        builder.append(System.lineSeparator())
+                .append(String.format("  %-32s %8s %8s %9s %9s %9s %9s %10s",
+                        "command", "count", "errors", "p50 ms", "p95 ms", "p99 ms", "max ms", "total s"));
+        for (Map.Entry<String, Histogram> entry : commands.entrySet()) {
+            Histogram histogram = entry.getValue();
+            builder.append(System.lineSeparator())
+                    .append(String.format("  %-32s %8d %8d %9.1f %9.1f %9.1f %9.1f %10.1f",
+                            entry.getKey(), histogram.count, histogram.errors, millis(histogram.percentile(0.50)),
+                            millis(histogram.percentile(0.95)), millis(histogram.percentile(0.99)),
+                            millis(histogram.max), histogram.totalMicros / 1e6));
+        }
+        List<Map.Entry<String, CallSite>> callSites = topCallSites(topCallSites);
+        if (!callSites.isEmpty()) {
+            builder.append(System.lineSeparator())
+                    .append(String.format("  %-48s %8s %10s %9s %9s  %s",
+                            "call site (by time in commands)", "count", "total s", "mean ms", "max ms", "slowest command"));
+            for (Map.Entry<String, CallSite> entry : callSites) {
+                CallSite callSite = entry.getValue();
+                builder.append(System.lineSeparator())
+                        .append(String.format("  %-48s %8d %10.1f %9.1f %9.1f  %s",
+                                entry.getKey(), callSite.count, callSite.totalMicros / 1e6,
+                                millis(callSite.totalMicros / callSite.count), millis(callSite.maxMicros),
+                                callSite.slowestCommand));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Write the same figures as JSON for dashboards and run-to-run comparison
+     */
+    public static void writeReport(Path file, int topCallSites) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        ObjectNode report = mapper.createObjectNode();
+        ArrayNode commandNodes = report.putArray("commands");
+        for (Map.Entry<String, Histogram> entry : mergeCommands().entrySet()) {
+            Histogram histogram = entry.getValue();
+            ObjectNode node = commandNodes.addObject();
+            node.put("command", entry.getKey());
+            node.put("count", histogram.count);
+            node.put("errors", histogram.errors);
+            node.put("p50Ms", millis(histogram.percentile(0.50)));
+            node.put("p95Ms", millis(histogram.percentile(0.95)));
+            node.put("p99Ms", millis(histogram.percentile(0.99)));
+            node.put("maxMs", millis(histogram.max));
+            node.put("totalMs", millis(histogram.totalMicros));
+        }
+        ArrayNode callSiteNodes = report.putArray("callSites");
+        for (Map.Entry<String, CallSite> entry : topCallSites(topCallSites)) {
+            CallSite callSite = entry.getValue();
+            ObjectNode node = callSiteNodes.addObject();
+            node.put("callSite", entry.getKey());
+            node.put("count", callSite.count);
+            node.put("totalMs", millis(callSite.totalMicros));
+            node.put("meanMs", millis(callSite.totalMicros / callSite.count));
+            node.put("maxMs", millis(callSite.maxMicros));
+            node.put("slowestCommand", callSite.slowestCommand);
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        mapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), report);
+    }
+
+    private static Map<String, Histogram> mergeCommands() {
+        Map<String, Histogram> merged = new TreeMap<>();
+        for (ThreadRecorder threadRecorder : recorders) {
+            for (Map.Entry<String, Histogram> entry : threadRecorder.commands.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), command -> new Histogram()).addAll(entry.getValue());
+            }
+        }
+        return merged;
+    }
+
+    private static List<Map.Entry<String, CallSite>> topCallSites(int limit) {
+        Map<String, CallSite> merged = new TreeMap<>();
+        for (ThreadRecorder threadRecorder : recorders) {
+            for (Map.Entry<String, CallSite> entry : threadRecorder.callSites.entrySet()) {
+                merged.computeIfAbsent(entry.getKey(), site -> new CallSite()).addAll(entry.getValue());
+            }
+        }
+        List<Map.Entry<String, CallSite>> sorted = new ArrayList<>(merged.entrySet());
+        sorted.sort(Comparator.comparingLong((Map.Entry<String, CallSite> entry) -> entry.getValue().totalMicros)
+                .reversed());
+        return sorted.subList(0, Math.min(Math.max(0, limit), sorted.size()));
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static int bucket(long micros) {
+        if (micros < EXACT_MICROS) {
+            return (int) micros;
+        }
+        int exponent = Math.min(MAX_EXPONENT, 63 - Long.numberOfLeadingZeros(micros));
+        int subBucket = exponent == MAX_EXPONENT && micros >= (1L << (MAX_EXPONENT + 1))
+                ? SUB_BUCKETS - 1
+                : (int) ((micros >>> (exponent - 5)) & (SUB_BUCKETS - 1));
+        return EXACT_MICROS + (exponent - 6) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Highest latency that falls into a bucket
+     */
+    private static long bucketUpperBound(int bucket) {
+        if (bucket < EXACT_MICROS) {
+            return bucket;
+        }
+        int exponent = (bucket - EXACT_MICROS) / SUB_BUCKETS + 6;
+        long subBucket = (bucket - EXACT_MICROS) % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - 5)) - 1;
+    }
+
+    /**
+     * Counters only the owning thread writes; plain fields, read once the suite finished
+     */
+    private static final class ThreadRecorder {
+        private final Map<String, Histogram> commands = new ConcurrentHashMap<>();
+        private final Map<String, CallSite> callSites = new ConcurrentHashMap<>();
+    }
+
+    private static final class Histogram {
+        private final long[] counts = new long[BUCKET_COUNT];
+        private long count;
+        private long errors;
+        private long totalMicros;
+        private long max;
+
+        private void add(long micros, boolean failed) {
+            counts[bucket(micros)]++;
+            count++;
+            totalMicros += micros;
+            max = Math.max(max, micros);
+            if (failed) {
+                errors++;
+            }
+        }
+
+        private void addAll(Histogram other) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+            count += other.count;
+            errors += other.errors;
+            totalMicros += other.totalMicros;
+            max = Math.max(max, other.max);
+        }
+
+        private long percentile(double fraction) {
+            long rank = (long) Math.ceil(fraction * count);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return Math.min(max, bucketUpperBound(i));
+                }
+            }
+            return max;
+        }
+    }
+
+    private static final class CallSite {
+        private long count;
+        private long totalMicros;
+        private long maxMicros;
+        private String slowestCommand = "";
+
+        private void add(long micros, String command) {
+            count++;
+            totalMicros += micros;
+            if (micros >= maxMicros) {
+                maxMicros = micros;
+                slowestCommand = command;
+            }
+        }
+
+        private void addAll(CallSite other) {
+            count += other.count;
+            totalMicros += other.totalMicros;
+            if (other.maxMicros >= maxMicros) {
+                maxMicros = other.maxMicros;
+                slowestCommand = other.slowestCommand;
+            }
+        }
+    }
+}
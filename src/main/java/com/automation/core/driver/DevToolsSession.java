@@ -0,0 +1,76 @@
+package com.automation.core.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * DevTools Session - Shared Chrome DevTools Protocol connection of one driver
+ * Sends raw CDP commands so no CDP version specific classes are needed, and lets several
+ * recorders and interceptors subscribe to the same events and unsubscribe independently
+ */
+public class DevToolsSession {
+    private static final Map<WebDriver, DevToolsSession> sessions = new WeakHashMap<>();
+
+    private final DevTools devTools;
+    private final Map<String, List<Consumer<Map<String, Object>>>> subscribers = new ConcurrentHashMap<>();
+
+    private DevToolsSession(DevTools devTools) {
+        this.devTools = devTools;
+        devTools.createSessionIfThereIsNotOne();
+    }
+
+    public static boolean isSupported(WebDriver driver) {
+        return driver instanceof HasDevTools;
+    }
+
+    /**
+     * The session of a driver, connecting on first use
+     */
+    public static DevToolsSession of(WebDriver driver) {
+        synchronized (sessions) {
+            DevToolsSession session = sessions.get(driver);
+            if (session == null) {
+                session = new DevToolsSession(((HasDevTools) driver).getDevTools());
+                sessions.put(driver, session);
+            }
+            return session;
+        }
+    }
+
+    public Map<String, Object> send(String method) {
+        return send(method, Collections.emptyMap());
+    }
+
+    /**
+     * Send a command and return its result object
+     */
+    public Map<String, Object> send(String method, Map<String, Object> params) {
+        return devTools.send(new Command<Map<String, Object>>(method, params, Json.MAP_TYPE));
+    }
+
+    /**
+     * Receive the parameters of every event with the given name until the returned handle is run
+     */
+    public Runnable subscribe(String event, Consumer<Map<String, Object>> consumer) {
+        List<Consumer<Map<String, Object>>> consumers = subscribers.computeIfAbsent(event, name -> {
+            List<Consumer<Map<String, Object>>> list = new CopyOnWriteArrayList<>();
+            devTools.addListener(new Event<Map<String, Object>>(name, input -> input.read(Json.MAP_TYPE)),
+                    params -> list.forEach(subscriber -> subscriber.accept(params)));
+            return list;
+        });
+        consumers.add(consumer);
+        return () -> consumers.remove(consumer);
+    }
+}
@@ -0,0 +1,84 @@
+package com.automation.core.driver;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Driver Binary Cache - Persistent map of resolved driver binaries
+ * Entries are keyed by browser and installed browser version and stored in a
+ * properties file so later runs can skip WebDriverManager resolution entirely
+ */
+public class DriverBinaryCache {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryCache.class);
+    private final Path cacheFile;
+    private final Properties entries = new Properties();
+
+    public DriverBinaryCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+        load();
+    }
+
+    /**
+     * Get the cached binary for a key, ignoring entries whose file no longer exists
+     */
+    public synchronized Path get(String key) {
+        String value = entries.getProperty(key);
+        if (value == null) {
+            return null;
+        }
+        Path binary = Paths.get(value);
+        if (!Files.isExecutable(binary)) {
+            logger.warn("Cached driver binary for {} is missing or not executable: {}", key, binary);
+            entries.remove(key);
+            return null;
+        }
+        return binary;
+    }
+
+    public synchronized void put(String key, Path binary) {
+        entries.setProperty(key, binary.toAbsolutePath().toString());
+        store();
+    }
+
+    public Path getCacheFile() {
+        return cacheFile;
+    }
+
+    private void load() {
+        if (!Files.exists(cacheFile)) {
+            return;
+        }
+        try (InputStream inputStream = Files.newInputStream(cacheFile)) {
+            entries.load(inputStream);
+            logger.info("Loaded {} cached driver binaries from: {}", entries.size(), cacheFile);
+        } catch (IOException e) {
+            logger.warn("Could not read driver binary cache {}: {}", cacheFile, e.getMessage());
+        }
+    }
+
+    private void store() {
+        try {
+            Path parent = cacheFile.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            // Write to a temp file and move it so concurrent JVMs never read a partial file
+            Path tempFile = Files.createTempFile(parent, "driver-binaries", ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                entries.store(outputStream, "Resolved driver binaries by browser and browser version");
+            }
+            Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Could not write driver binary cache {}: {}", cacheFile, e.getMessage());
+        }
+    }
+}
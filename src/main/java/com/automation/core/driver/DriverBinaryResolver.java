@@ -0,0 +1,162 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import com.automation.constants.FrameworkConstants;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Driver Binary Resolver - Resolves browser driver binaries once per JVM
+ * Concurrent callers for the same browser wait on a single resolution. Results
+ * are persisted per browser and installed browser version in a DriverBinaryCache,
+ * and in offline mode only the cache is consulted so the network is never touched.
+ * When the browser version cannot be detected nothing is cached, since a browser
+ * upgrade would otherwise keep serving the old driver
+ */
+public class DriverBinaryResolver {
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final Pattern VERSION_PATTERN = Pattern.compile("\\d+(\\.\\d+)+");
+    private static final String UNKNOWN_VERSION = "unknown";
+    private static final Map<String, Path> resolvedBinaries = new ConcurrentHashMap<>();
+    private static volatile DriverBinaryCache binaryCache;
+
+    /**
+     * Get the driver binary for a browser, resolving it on first use
+     */
+    public static Path resolve(String browserName) {
+        return resolvedBinaries.computeIfAbsent(browserFamily(browserName), DriverBinaryResolver::resolveBinary);
+    }
+
+    /**
+     * Map browser variants such as chrome-headless to the browser they run on
+     */
+    static String browserFamily(String browserName) {
+        String name = browserName.toLowerCase();
+        if (name.startsWith(FrameworkConstants.FIREFOX)) {
+            return FrameworkConstants.FIREFOX;
+        }
+        if (name.startsWith(FrameworkConstants.EDGE)) {
+            return FrameworkConstants.EDGE;
+        }
+        return FrameworkConstants.CHROME;
+    }
+
+    private static Path resolveBinary(String browserFamily) {
+        ConfigManager config = ConfigManager.getInstance();
+        boolean offline = config.getBooleanProperty("driver.binary.offline", false);
+        if (!offline && !config.getBooleanProperty("driver.binary.cache.enabled", true)) {
+            return resolveWithWebDriverManager(browserFamily);
+        }
+
+        DriverBinaryCache cache = getBinaryCache();
+        String browserVersion = detectBrowserVersion(browserFamily);
+        if (!offline && UNKNOWN_VERSION.equals(browserVersion)) {
+            logger.info("Could not detect the installed {} version, resolving its driver without the cache",
+                    browserFamily);
+            return resolveWithWebDriverManager(browserFamily);
+        }
+        // Offline, an entry for an unknown version is the one an operator added by hand
+        String cacheKey = browserFamily + "@" + browserVersion;
+        Path cached = cache.get(cacheKey);
+        if (cached != null) {
+            logger.info("Using cached {} driver binary: {}", cacheKey, cached);
+            return cached;
+        }
+        if (offline) {
+            throw new IllegalStateException("Offline mode is enabled and no cached driver binary exists for "
+                    + cacheKey + " in " + cache.getCacheFile()
+                    + ". Run once with network access or add the entry to the cache file.");
+        }
+
+        Path binary = resolveWithWebDriverManager(browserFamily);
+        cache.put(cacheKey, binary);
+        return binary;
+    }
+
+    private static Path resolveWithWebDriverManager(String browserFamily) {
+        WebDriverManager manager = webDriverManagerFor(browserFamily);
+        manager.setup();
+        Path binary = Paths.get(manager.getDownloadedDriverPath());
+        logger.info("Resolved {} driver binary: {}", browserFamily, binary);
+        return binary;
+    }
+
+    /**
+     * Detect the installed browser version locally by asking the browser binary
+     * Falls back to "unknown" when the browser cannot be found or queried
+     */
+    static String detectBrowserVersion(String browserFamily) {
+        Optional<Path> browserPath = webDriverManagerFor(browserFamily).getBrowserPath();
+        if (!browserPath.isPresent()) {
+            return UNKNOWN_VERSION;
+        }
+        List<String> command;
+        if (System.getProperty("os.name", "").toLowerCase().startsWith("windows")) {
+            // On Windows "--version" opens a browser window instead of printing the version,
+            // so read the version resource of the executable instead
+            command = Arrays.asList("powershell.exe", "-NoProfile", "-NonInteractive", "-Command",
+                    "(Get-Item -LiteralPath '" + browserPath.get().toString().replace("'", "''")
+                            + "').VersionInfo.ProductVersion");
+        } else {
+            command = Arrays.asList(browserPath.get().toString(), "--version");
+        }
+        try {
+            Process process = new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .start();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return UNKNOWN_VERSION;
+            }
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = VERSION_PATTERN.matcher(output);
+            return matcher.find() ? matcher.group() : UNKNOWN_VERSION;
+        } catch (IOException e) {
+            logger.debug("Could not detect {} version: {}", browserFamily, e.getMessage());
+            return UNKNOWN_VERSION;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private static DriverBinaryCache getBinaryCache() {
+        if (binaryCache == null) {
+            synchronized (DriverBinaryResolver.class) {
+                if (binaryCache == null) {
+                    String cacheFile = ConfigManager.getInstance().getProperty("driver.binary.cache.file", "");
+                    binaryCache = new DriverBinaryCache(cacheFile.isEmpty()
+                            ? Paths.get(System.getProperty("user.home"), ".cache", "the-internet-automation",
+                                    "driver-binaries.properties")
+                            : Paths.get(cacheFile));
+                }
+            }
+        }
+        return binaryCache;
+    }
+
+    private static WebDriverManager webDriverManagerFor(String browserFamily) {
+        switch (browserFamily) {
+            case FrameworkConstants.FIREFOX:
+                return WebDriverManager.firefoxdriver();
+            case FrameworkConstants.EDGE:
+                return WebDriverManager.edgedriver();
+            default:
+                return WebDriverManager.chromedriver();
+        }
+    }
+}
@@ -1,17 +1,30 @@
 package com.automation.core.driver;
 
 import com.automation.config.ConfigManager;
+import com.automation.config.ConfigSource;
 import com.automation.constants.FrameworkConstants;
-import io.github.bonigarcia.wdm.WebDriverManager;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.remote.AbstractDriverOptions;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * WebDriver Factory - Creates and configures WebDriver instances
@@ -20,8 +33,32 @@ import org.openqa.selenium.firefox.FirefoxOptions;
 public class DriverFactory {
     private static final Logger logger = LogManager.getLogger(DriverFactory.class);
     private static final ConfigManager config = ConfigManager.getInstance();
+    // Margin between the longest in-page wait and the script timeout, so the page's own timer always fires first
+    private static final Duration SCRIPT_TIMEOUT_HEADROOM = Duration.ofSeconds(5);
+    private static final DriverStartupMetrics startupMetrics = new DriverStartupMetrics();
     
     public static WebDriver createDriver(String browserName) {
+        return createDriver(browserName, NetworkPolicy.getSuitePolicy());
+    }
+    
+    /**
+     * Create a driver whose traffic is intercepted with the given network policy on Chromium browsers
+     * With command instrumentation enabled the driver is decorated so that every command is timed
+     */
+    public static WebDriver createDriver(String browserName, NetworkPolicy networkPolicy) {
+        WebDriver driver = CommandStatistics.instrument(launchBrowser(browserName));
+        if (!networkPolicy.isEmpty()) {
+            try {
+                NetworkInterceptor.install(driver, networkPolicy);
+            } catch (RuntimeException e) {
+                driver.quit();
+                throw new IllegalStateException("Failed to install network policy for: " + browserName, e);
+            }
+        }
+        return driver;
+    }
+    
+    private static WebDriver launchBrowser(String browserName) {
         logger.info("Creating WebDriver instance for browser: {}", browserName);
         
         switch (browserName.toLowerCase()) {
@@ -41,36 +78,110 @@ public class DriverFactory {
         }
     }
     
+    /**
+     * Build the capabilities a driver for the given browser is created with
+     * Used by the session pool to tell compatible sessions apart
+     */
+    public static Capabilities getCapabilities(String browserName) {
+        switch (browserName.toLowerCase()) {
+            case "firefox":
+                return getFirefoxOptions();
+            case "firefox-headless":
+                FirefoxOptions firefoxOptions = getFirefoxOptions();
+                firefoxOptions.addArguments("--headless");
+                return firefoxOptions;
+            case "edge":
+                return getEdgeOptions();
+            case "chrome-headless":
+                ChromeOptions chromeOptions = getChromeOptions();
+                chromeOptions.addArguments("--headless");
+                return chromeOptions;
+            default:
+                return getChromeOptions();
+        }
+    }
+    
     private static WebDriver createChromeDriver() {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = getChromeOptions();
-        return new ChromeDriver(options);
+        return createChromeDriver(getChromeOptions());
     }
     
     private static WebDriver createChromeHeadlessDriver() {
-        WebDriverManager.chromedriver().setup();
         ChromeOptions options = getChromeOptions();
         options.addArguments("--headless");
-        return new ChromeDriver(options);
+        return createChromeDriver(options);
+    }
+    
+    private static WebDriver createChromeDriver(ChromeOptions options) {
+        return launch(FrameworkConstants.CHROME,
+                binary -> new ChromeDriverService.Builder().usingDriverExecutable(binary).build(),
+                service -> new ChromeDriver(service, options));
     }
     
     private static WebDriver createFirefoxDriver() {
-        WebDriverManager.firefoxdriver().setup();
-        FirefoxOptions options = getFirefoxOptions();
-        return new FirefoxDriver(options);
+        return createFirefoxDriver(getFirefoxOptions());
     }
     
     private static WebDriver createFirefoxHeadlessDriver() {
-        WebDriverManager.firefoxdriver().setup();
         FirefoxOptions options = getFirefoxOptions();
         options.addArguments("--headless");
-        return new FirefoxDriver(options);
+        return createFirefoxDriver(options);
+    }
+    
+    private static WebDriver createFirefoxDriver(FirefoxOptions options) {
+        return launch(FrameworkConstants.FIREFOX,
+                binary -> new GeckoDriverService.Builder().usingDriverExecutable(binary).build(),
+                service -> new FirefoxDriver(service, options));
     }
     
     private static WebDriver createEdgeDriver() {
-        WebDriverManager.edgedriver().setup();
         EdgeOptions options = getEdgeOptions();
-        return new EdgeDriver(options);
+        return launch(FrameworkConstants.EDGE,
+                binary -> new EdgeDriverService.Builder().usingDriverExecutable(binary).build(),
+                service -> new EdgeDriver(service, options));
+    }
+    
+    /**
+     * Start a driver service and open a session on it, timing each startup phase
+     */
+    private static <S extends DriverService> WebDriver launch(String browserName,
+                                                              Function<File, S> serviceFactory,
+                                                              Function<S, WebDriver> sessionFactory) {
+        long startNanos = System.nanoTime();
+        File binary = DriverBinaryResolver.resolve(browserName).toFile();
+        long resolvedNanos = System.nanoTime();
+        
+        S service = serviceFactory.apply(binary);
+        try {
+            service.start();
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start driver service for: " + browserName, e);
+        }
+        long spawnedNanos = System.nanoTime();
+        
+        WebDriver driver;
+        try {
+            driver = sessionFactory.apply(service);
+        } catch (RuntimeException e) {
+            service.stop();
+            throw e;
+        }
+        long readyNanos = System.nanoTime();
+        if (BrowserFootprint.isEnabled()) {
+            BrowserFootprint.getInstance().track(browserName, service);
+        }
+        
+        startupMetrics.record(resolvedNanos - startNanos, spawnedNanos - resolvedNanos, readyNanos - spawnedNanos);
+        logger.info("Started {} in {} ms (binary resolution: {} ms, process spawn: {} ms, session handshake: {} ms)",
+                browserName,
+                TimeUnit.NANOSECONDS.toMillis(readyNanos - startNanos),
+                TimeUnit.NANOSECONDS.toMillis(resolvedNanos - startNanos),
+                TimeUnit.NANOSECONDS.toMillis(spawnedNanos - resolvedNanos),
+                TimeUnit.NANOSECONDS.toMillis(readyNanos - spawnedNanos));
+        return driver;
+    }
+    
+    public static DriverStartupMetrics getStartupMetrics() {
+        return startupMetrics;
     }
     
     private static ChromeOptions getChromeOptions() {
@@ -90,8 +201,9 @@ public class DriverFactory {
             logger.info("Running Chrome in headed mode");
         }
         
-        // Only maximize in headed mode
-        if (!headlessMode && config.getBooleanProperty("browser.maximize", true)) {
+        // Only maximize in headed mode and when the browser profile has no fixed viewport
+        BrowserProfile profile = BrowserProfile.getActive();
+        if (!headlessMode && profile.getWindowSize() == null && config.getBooleanProperty("browser.maximize", true)) {
             options.addArguments("--start-maximized");
         }
         
@@ -99,41 +211,64 @@ public class DriverFactory {
             options.addArguments("--disable-notifications");
         }
         
+        profile.applyTo(options);
+        applyTimeouts(options);
         return options;
     }
     
     /**
      * Determine if headless mode should be used
-     * Priority: System property > Environment variable > Config file
+     * Priority: System property > Environment variable > Config file, resolved once by ConfigManager
      */
     private static boolean isHeadlessMode() {
-        // Check system property first (highest priority)
-        String headlessProperty = System.getProperty("headless");
-        if (headlessProperty != null) {
-            boolean headless = Boolean.parseBoolean(headlessProperty);
-            logger.info("Headless mode set via system property: {}", headless);
-            return headless;
-        }
-        
-        // Check environment variable second
-        String headlessEnv = System.getenv("HEADLESS");
-        if (headlessEnv != null) {
-            boolean headless = Boolean.parseBoolean(headlessEnv);
-            logger.info("Headless mode set via environment variable: {}", headless);
-            return headless;
-        }
-        
-        // Fall back to config file (default)
         boolean headless = config.getBooleanProperty("browser.headless", false);
-        logger.info("Headless mode set via config file: {}", headless);
+        ConfigSource source = config.getSource("browser.headless");
+        logger.info("Headless mode set via {}: {}", source != null ? source.getDescription() : "default", headless);
         return headless;
     }
     
+    /**
+     * Page load strategy and timeouts as session capabilities, so every session starts with them
+     * An explicit selenium.page.load.strategy wins over the browser profile's strategy
+     */
+    private static void applyTimeouts(AbstractDriverOptions<?> options) {
+        String strategy = config.getProperty("selenium.page.load.strategy", "").trim();
+        if (!strategy.isEmpty()) {
+            PageLoadStrategy pageLoadStrategy = PageLoadStrategy.fromString(strategy.toLowerCase());
+            if (pageLoadStrategy == null) {
+                throw new IllegalArgumentException("Invalid selenium.page.load.strategy '" + strategy
+                        + "', expected normal, eager or none");
+            }
+            options.setPageLoadStrategy(pageLoadStrategy);
+        }
+        options.setPageLoadTimeout(Duration.ofSeconds(
+                config.getIntProperty("selenium.page.load.timeout", FrameworkConstants.PAGE_LOAD_TIMEOUT)));
+        options.setImplicitWaitTimeout(Duration.ofSeconds(config.getIntProperty("selenium.implicit.wait", 0)));
+        options.setScriptTimeout(getScriptTimeout());
+    }
+    
+    /**
+     * Session script timeout: selenium.timeout plus headroom, since in-page waits run as one async script
+     */
+    public static Duration getScriptTimeout() {
+        return Duration.ofSeconds(config.getIntProperty("selenium.timeout", FrameworkConstants.EXPLICIT_WAIT_TIMEOUT))
+                .plus(SCRIPT_TIMEOUT_HEADROOM);
+    }
+    
+    /**
+     * Longest budget an in-page wait can have before the driver abandons its script
+     */
+    public static Duration getMaxInPageWait() {
+        return getScriptTimeout().minus(SCRIPT_TIMEOUT_HEADROOM);
+    }
+    
     private static FirefoxOptions getFirefoxOptions() {
         FirefoxOptions options = new FirefoxOptions();
         options.addArguments("--disable-dev-shm-usage");
         options.addArguments("--disable-extensions");
         options.addArguments("--no-sandbox");
+        BrowserProfile.getActive().applyTo(options);
+        applyTimeouts(options);
         return options;
     }
     
@@ -144,6 +279,8 @@ public class DriverFactory {
         options.addArguments("--no-sandbox");
         options.addArguments("--disable-gpu");
         options.addArguments("--remote-allow-origins=*");
+        BrowserProfile.getActive().applyTo(options);
+        applyTimeouts(options);
         return options;
     }
 }
\ No newline at end of file
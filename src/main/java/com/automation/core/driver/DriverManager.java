@@ -1,5 +1,6 @@
 package com.automation.core.driver;
 
+import com.automation.ui.actions.WaitContext;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.WebDriver;
@@ -11,10 +12,14 @@ import org.openqa.selenium.WebDriver;
 public class DriverManager {
     private static final Logger logger = LogManager.getLogger(DriverManager.class);
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<WaitContext> waitContextThreadLocal = new ThreadLocal<>();
+    private static final ThreadLocal<PerformanceRecorder> performanceRecorderThreadLocal = new ThreadLocal<>();
     
     public static void setDriver(WebDriver driver) {
         logger.debug("Setting WebDriver for thread: {}", Thread.currentThread().getName());
         driverThreadLocal.set(driver);
+        waitContextThreadLocal.remove();
+        performanceRecorderThreadLocal.remove();
     }
     
     public static WebDriver getDriver() {
@@ -26,12 +31,127 @@ public class DriverManager {
         return driver;
     }
     
+    /**
+     * Wait context of the current thread's driver, shared by all of its page objects
+     */
+    public static WaitContext getWaitContext() {
+        WebDriver driver = getDriver();
+        WaitContext context = waitContextThreadLocal.get();
+        if (context == null || context.getDriver() != driver) {
+            context = new WaitContext(driver);
+            waitContextThreadLocal.set(context);
+        }
+        return context;
+    }
+    
+    /**
+     * Performance recorder of the current thread's driver
+     */
+    public static PerformanceRecorder getPerformanceRecorder() {
+        WebDriver driver = getDriver();
+        PerformanceRecorder recorder = performanceRecorderThreadLocal.get();
+        if (recorder == null || recorder.getDriver() != driver) {
+            recorder = new PerformanceRecorder(driver);
+            performanceRecorderThreadLocal.set(recorder);
+        }
+        return recorder;
+    }
+    
+    /**
+     * Intercept the current driver's traffic with a test specific policy until the driver is released
+     */
+    public static void useNetworkPolicy(NetworkPolicy policy) {
+        WebDriver driver = getDriver();
+        NetworkInterceptor interceptor = NetworkInterceptor.of(driver);
+        if (interceptor == null) {
+            interceptor = NetworkInterceptor.install(driver, NetworkPolicy.NONE);
+        }
+        if (interceptor != null) {
+            interceptor.usePolicy(policy);
+        }
+    }
+    
     public static void quitDriver() {
         WebDriver driver = driverThreadLocal.get();
         if (driver != null) {
             logger.info("Quitting WebDriver for thread: {}", Thread.currentThread().getName());
-            driver.quit();
+            try {
+                if (DriverPool.isEnabled()) {
+                    DriverPool.getInstance().retire(driver);
+                } else {
+                    driver.quit();
+                }
+            } finally {
+                driverThreadLocal.remove();
+                waitContextThreadLocal.remove();
+                performanceRecorderThreadLocal.remove();
+                releaseSlot();
+            }
+        }
+    }
+    
+    /**
+     * Start a driver for the current thread, leasing a warm session when pooling is enabled
+     * With automatic parallelism the thread first waits for a browser slot
+     */
+    public static WebDriver startDriver(String browserName) {
+        if (ParallelismController.isEnabled()) {
+            ParallelismController.getInstance().acquire();
+        }
+        WebDriver driver;
+        try {
+            driver = DriverPool.isEnabled()
+                    ? DriverPool.getInstance().lease(browserName)
+                    : DriverFactory.createDriver(browserName);
+        } catch (RuntimeException e) {
+            releaseSlot();
+            throw e;
+        }
+        setDriver(driver);
+        return driver;
+    }
+    
+    /**
+     * Release the current thread's driver, returning it to the pool or quitting it
+     */
+    public static void releaseDriver() {
+        WebDriver driver = driverThreadLocal.get();
+        if (driver != null) {
             driverThreadLocal.remove();
+            waitContextThreadLocal.remove();
+            performanceRecorderThreadLocal.remove();
+            try {
+                NetworkInterceptor interceptor = NetworkInterceptor.of(driver);
+                if (interceptor != null) {
+                    try {
+                        interceptor.restoreDefaultPolicy();
+                    } catch (RuntimeException e) {
+                        // A crashed browser or lost DevTools connection; the session cannot be reused
+                        logger.warn("Could not restore the network policy, retiring the driver: {}", e.getMessage());
+                        if (DriverPool.isEnabled()) {
+                            DriverPool.getInstance().retire(driver);
+                        } else {
+                            driver.quit();
+                        }
+                        return;
+                    }
+                }
+                if (DriverPool.isEnabled()) {
+                    logger.info("Releasing WebDriver to pool for thread: {}", Thread.currentThread().getName());
+                    DriverPool.getInstance().release(driver);
+                } else {
+                    logger.info("Quitting WebDriver for thread: {}", Thread.currentThread().getName());
+                    driver.quit();
+                }
+            } finally {
+                releaseSlot();
+            }
+        }
+    }
+    
+    private static void releaseSlot() {
+        if (ParallelismController.isEnabled()) {
+            ParallelismController.getInstance().release();
         }
     }
     
@@ -0,0 +1,437 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Driver Pool - Bounded pool of reusable WebDriver sessions
+ * Sessions are keyed by browser name and options fingerprint, leased to one
+ * thread at a time, reset on return and retired after a configurable number
+ * of uses or a failed health check
+ */
+public class DriverPool {
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+
+    private final int maxSessions;
+    private final int maxUsesPerSession;
+    private final long leaseTimeoutMillis;
+    private final Map<String, Deque<PooledSession>> idleSessions = new HashMap<>();
+    private final Map<WebDriver, PooledSession> leasedSessions = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Map<String, String> sessionKeys = new ConcurrentHashMap<>();
+    private final DriverPoolMetrics metrics = new DriverPoolMetrics();
+    private int totalSessions;
+    private boolean shutdown;
+
+    DriverPool(int maxSessions, int maxUsesPerSession, long leaseTimeoutMillis) {
+        this.maxSessions = maxSessions;
+        this.maxUsesPerSession = maxUsesPerSession;
+        this.leaseTimeoutMillis = leaseTimeoutMillis;
+        logger.info("Driver pool created. Max sessions: {}, max uses per session: {}, lease timeout: {} ms",
+                maxSessions, maxUsesPerSession, leaseTimeoutMillis);
+    }
+
+    public static DriverPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("driver.pool.enabled", false);
+    }
+
+    /**
+     * Lease a warm session for the given browser, creating one if the pool has capacity
+     */
+    public WebDriver lease(String browserName) {
+        String key = sessionKey(browserName);
+        long startNanos = System.nanoTime();
+        long deadline = System.currentTimeMillis() + leaseTimeoutMillis;
+
+        while (true) {
+            PooledSession session = null;
+            PooledSession evicted = null;
+            boolean create = false;
+
+            synchronized (this) {
+                if (shutdown) {
+                    throw new IllegalStateException("Driver pool has been shut down");
+                }
+                Deque<PooledSession> idle = idleSessions.get(key);
+                if (idle != null && !idle.isEmpty()) {
+                    session = idle.pollFirst();
+                } else if (totalSessions < maxSessions) {
+                    totalSessions++;
+                    create = true;
+                } else if ((evicted = pollIdleSessionOtherThan(key)) != null) {
+                    // Capacity is held by an idle session of another kind; replace it
+                    create = true;
+                } else {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        throw new IllegalStateException("Timed out after " + leaseTimeoutMillis
+                                + " ms waiting for a driver session for: " + browserName);
+                    }
+                    try {
+                        wait(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IllegalStateException("Interrupted while waiting for a driver session", e);
+                    }
+                    continue;
+                }
+            }
+
+            if (evicted != null) {
+                quitQuietly(evicted);
+                metrics.recordRetired();
+            }
+
+            if (create) {
+                try {
+                    session = new PooledSession(key, DriverFactory.createDriver(browserName));
+                    metrics.recordCreated();
+                } catch (RuntimeException e) {
+                    synchronized (this) {
+                        totalSessions--;
+                        notifyAll();
+                    }
+                    throw e;
+                }
+            } else if (!isHealthy(session)) {
+                metrics.recordHealthCheckFailure();
+                retire(session);
+                continue;
+            }
+
+            session.uses++;
+            leasedSessions.put(session.driver, session);
+            metrics.recordLease(System.nanoTime() - startNanos);
+            logger.debug("Leased driver session {} (use {}) to thread: {}",
+                    key, session.uses, Thread.currentThread().getName());
+            return session.driver;
+        }
+    }
+
+    /**
+     * Launch warm sessions in the background so the first lease on every worker finds one ready
+     * Driver binaries are resolved once before the sessions are launched concurrently
+     */
+    public CompletableFuture<Void> warmUp(String browserName, int sessions) {
+        String key = sessionKey(browserName);
+        int threads = Math.max(1, sessions);
+        AtomicInteger threadCounter = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "driver-warmup-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long startNanos = System.nanoTime();
+        logger.info("Warming up {} {} session(s) in the background", sessions, browserName);
+
+        CompletableFuture<Path> binary = CompletableFuture.supplyAsync(
+                () -> DriverBinaryResolver.resolve(browserName), executor);
+        CompletableFuture<?>[] launches = new CompletableFuture<?>[sessions];
+        for (int i = 0; i < sessions; i++) {
+            launches[i] = binary.thenRunAsync(() -> addWarmSession(browserName, key), executor);
+        }
+
+        return CompletableFuture.allOf(launches).whenComplete((result, error) -> {
+            executor.shutdown();
+            if (error != null) {
+                logger.warn("Driver warm-up did not complete: {}", error.getMessage());
+            }
+            logger.info("Driver warm-up finished in {} ms. {}",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos),
+                    DriverFactory.getStartupMetrics().summary());
+        });
+    }
+
+    private void addWarmSession(String browserName, String key) {
+        synchronized (this) {
+            if (shutdown || totalSessions >= maxSessions) {
+                return;
+            }
+            totalSessions++;
+        }
+
+        WebDriver driver;
+        try {
+            driver = DriverFactory.createDriver(browserName);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to launch warm {} session: {}", browserName, e.getMessage());
+            synchronized (this) {
+                totalSessions--;
+                notifyAll();
+            }
+            return;
+        }
+        metrics.recordCreated();
+
+        boolean accepted;
+        synchronized (this) {
+            accepted = !shutdown;
+            if (accepted) {
+                idleSessions.computeIfAbsent(key, k -> new ArrayDeque<>()).offerLast(new PooledSession(key, driver));
+                notifyAll();
+            }
+        }
+        if (!accepted) {
+            retire(new PooledSession(key, driver));
+        }
+    }
+
+    /**
+     * Return a leased session, resetting it for the next lease or retiring it
+     */
+    public void release(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session == null) {
+            logger.warn("Driver was not leased from the pool, quitting it");
+            driver.quit();
+            return;
+        }
+
+        if (session.uses >= maxUsesPerSession) {
+            logger.debug("Driver session {} reached {} uses, retiring it", session.key, session.uses);
+            retire(session);
+            return;
+        }
+
+        long startNanos = System.nanoTime();
+        try {
+            reset(session.driver);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to reset driver session {}, retiring it: {}", session.key, e.getMessage());
+            metrics.recordHealthCheckFailure();
+            retire(session);
+            return;
+        }
+        metrics.recordReset(System.nanoTime() - startNanos);
+
+        boolean accepted;
+        synchronized (this) {
+            accepted = !shutdown;
+            if (accepted) {
+                idleSessions.computeIfAbsent(session.key, k -> new ArrayDeque<>()).offerLast(session);
+                notifyAll();
+            }
+        }
+        if (!accepted) {
+            retire(session);
+        }
+    }
+
+    /**
+     * Quit a session and free its slot in the pool
+     */
+    public void retire(WebDriver driver) {
+        PooledSession session = leasedSessions.remove(driver);
+        if (session != null) {
+            retire(session);
+        } else {
+            quitQuietly(driver);
+        }
+    }
+
+    /**
+     * Quit idle sessions, oldest first, until at most maxAlive sessions are open
+     * Returns how many were quit; leased sessions are left alone and retire when they come back
+     */
+    public int retireIdleSessions(int maxAlive) {
+        List<PooledSession> toQuit = new ArrayList<>();
+        synchronized (this) {
+            for (Iterator<Deque<PooledSession>> it = idleSessions.values().iterator();
+                 it.hasNext() && totalSessions > maxAlive; ) {
+                Deque<PooledSession> idle = it.next();
+                while (!idle.isEmpty() && totalSessions > maxAlive) {
+                    toQuit.add(idle.pollFirst());
+                    totalSessions--;
+                }
+                if (idle.isEmpty()) {
+                    it.remove();
+                }
+            }
+            notifyAll();
+        }
+        toQuit.forEach(session -> {
+            quitQuietly(session);
+            metrics.recordRetired();
+        });
+        return toQuit.size();
+    }
+
+    /**
+     * Quit every idle session and refuse further leases
+     */
+    public void shutdown() {
+        List<PooledSession> toQuit = new ArrayList<>();
+        synchronized (this) {
+            if (shutdown) {
+                return;
+            }
+            shutdown = true;
+            for (Deque<PooledSession> idle : idleSessions.values()) {
+                toQuit.addAll(idle);
+            }
+            idleSessions.clear();
+            totalSessions -= toQuit.size();
+            notifyAll();
+        }
+        toQuit.forEach(session -> {
+            quitQuietly(session);
+            metrics.recordRetired();
+        });
+        logger.info("Driver pool shut down. {}", metrics.summary(this));
+    }
+
+    public synchronized int getTotalSessions() {
+        return totalSessions;
+    }
+
+    public synchronized int getIdleSessions() {
+        return idleSessions.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    public int getLeasedSessions() {
+        return leasedSessions.size();
+    }
+
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+
+    public DriverPoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void retire(PooledSession session) {
+        quitQuietly(session);
+        metrics.recordRetired();
+        synchronized (this) {
+            totalSessions--;
+            notifyAll();
+        }
+    }
+
+    private PooledSession pollIdleSessionOtherThan(String key) {
+        for (Iterator<Map.Entry<String, Deque<PooledSession>>> it = idleSessions.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Deque<PooledSession>> entry = it.next();
+            if (!entry.getKey().equals(key) && !entry.getValue().isEmpty()) {
+                PooledSession session = entry.getValue().pollFirst();
+                if (entry.getValue().isEmpty()) {
+                    it.remove();
+                }
+                return session;
+            }
+        }
+        return null;
+    }
+
+    private boolean isHealthy(PooledSession session) {
+        try {
+            return !session.driver.getWindowHandles().isEmpty();
+        } catch (RuntimeException e) {
+            logger.warn("Health check failed for driver session {}: {}", session.key, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Bring a session back to a blank state: one window, top frame, no cookies or storage
+     */
+    private void reset(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        String keep = handles.iterator().next();
+        for (String handle : handles) {
+            if (!handle.equals(keep)) {
+                driver.switchTo().window(handle);
+                driver.close();
+            }
+        }
+        driver.switchTo().window(keep);
+        driver.switchTo().defaultContent();
+
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        } catch (RuntimeException e) {
+            logger.debug("Could not clear web storage: {}", e.getMessage());
+        }
+
+        if (driver instanceof HasCdp) {
+            // Clears cookies for every domain, not just the current document
+            ((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Collections.emptyMap());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+        driver.get("about:blank");
+    }
+
+    private void quitQuietly(PooledSession session) {
+        quitQuietly(session.driver);
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            logger.warn("Error while quitting pooled driver: {}", e.getMessage());
+        }
+    }
+
+    private String sessionKey(String browserName) {
+        return sessionKeys.computeIfAbsent(browserName.toLowerCase(), name -> name + "#"
+                + Integer.toHexString(DriverFactory.getCapabilities(name).asMap().hashCode()));
+    }
+
+    private static final class PooledSession {
+        private final String key;
+        private final WebDriver driver;
+        private int uses;
+
+        private PooledSession(String key, WebDriver driver) {
+            this.key = key;
+            this.driver = driver;
+        }
+    }
+
+    private static final class Holder {
+        private static final DriverPool INSTANCE = create();
+
+        private static DriverPool create() {
+            ConfigManager config = ConfigManager.getInstance();
+            int size = config.getIntProperty("driver.pool.size", 3);
+            // With automatic parallelism the controller bounds the browsers, so the pool must hold its maximum
+            if (ParallelismController.isEnabled()) {
+                size = Math.max(size, ParallelismController.getMaxThreads());
+            }
+            DriverPool pool = new DriverPool(
+                    size,
+                    config.getIntProperty("driver.pool.max.uses", 50),
+                    config.getIntProperty("driver.pool.lease.timeout", 120) * 1000L);
+            Runtime.getRuntime().addShutdownHook(new Thread(pool::shutdown, "driver-pool-shutdown"));
+            return pool;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.automation.core.driver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Driver Pool Metrics - Counters and timings for the driver session pool
+ * Used to size the pool against the TestNG thread count
+ */
+public class DriverPoolMetrics {
+    private final LongAdder created = new LongAdder();
+    private final LongAdder retired = new LongAdder();
+    private final LongAdder healthCheckFailures = new LongAdder();
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder leaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+    private final LongAdder resets = new LongAdder();
+    private final LongAdder resetNanos = new LongAdder();
+    private final AtomicLong maxResetNanos = new AtomicLong();
+
+    void recordCreated() {
+        created.increment();
+    }
+
+    void recordRetired() {
+        retired.increment();
+    }
+
+    void recordHealthCheckFailure() {
+        healthCheckFailures.increment();
+    }
+
+    void recordLease(long waitNanos) {
+        leases.increment();
+        leaseWaitNanos.add(waitNanos);
+        maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    void recordReset(long durationNanos) {
+        resets.increment();
+        resetNanos.add(durationNanos);
+        maxResetNanos.accumulateAndGet(durationNanos, Math::max);
+    }
+
+    public long getCreatedSessions() {
+        return created.sum();
+    }
+
+    public long getRetiredSessions() {
+        return retired.sum();
+    }
+
+    public long getHealthCheckFailures() {
+        return healthCheckFailures.sum();
+    }
+
+    public long getLeaseCount() {
+        return leases.sum();
+    }
+
+    public long getAverageLeaseWaitMillis() {
+        return average(leaseWaitNanos.sum(), leases.sum());
+    }
+
+    public long getMaxLeaseWaitMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos.get());
+    }
+
+    public long getResetCount() {
+        return resets.sum();
+    }
+
+    public long getAverageResetMillis() {
+        return average(resetNanos.sum(), resets.sum());
+    }
+
+    public long getMaxResetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxResetNanos.get());
+    }
+
+    /**
+     * One-line summary including the current pool occupancy
+     */
+    public String summary(DriverPool pool) {
+        return String.format("Pool size: %d/%d (idle %d, leased %d), created: %d, retired: %d, "
+                        + "health check failures: %d, leases: %d, lease wait avg/max: %d/%d ms, "
+                        + "resets: %d, reset avg/max: %d/%d ms",
+                pool.getTotalSessions(), pool.getMaxSessions(), pool.getIdleSessions(), pool.getLeasedSessions(),
+                getCreatedSessions(), getRetiredSessions(), getHealthCheckFailures(), getLeaseCount(),
+                getAverageLeaseWaitMillis(), getMaxLeaseWaitMillis(),
+                getResetCount(), getAverageResetMillis(), getMaxResetMillis());
+    }
+
+    private static long average(long totalNanos, long count) {
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / count);
+    }
+}
@@ -0,0 +1,79 @@
+package com.automation.core.driver;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Driver Startup Metrics - Per-phase timings of browser session startup
+ * Splits cold start into binary resolution, driver process spawn and session handshake
+ */
+public class DriverStartupMetrics {
+
+    public enum Phase {
+        BINARY_RESOLUTION("binary resolution"),
+        PROCESS_SPAWN("process spawn"),
+        SESSION_HANDSHAKE("session handshake");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private final LongAdder launches = new LongAdder();
+    private final LongAdder[] totalNanos = new LongAdder[Phase.values().length];
+    private final AtomicLong[] maxNanos = new AtomicLong[Phase.values().length];
+
+    public DriverStartupMetrics() {
+        for (int i = 0; i < totalNanos.length; i++) {
+            totalNanos[i] = new LongAdder();
+            maxNanos[i] = new AtomicLong();
+        }
+    }
+
+    void record(long binaryResolutionNanos, long processSpawnNanos, long sessionHandshakeNanos) {
+        launches.increment();
+        record(Phase.BINARY_RESOLUTION, binaryResolutionNanos);
+        record(Phase.PROCESS_SPAWN, processSpawnNanos);
+        record(Phase.SESSION_HANDSHAKE, sessionHandshakeNanos);
+    }
+
+    private void record(Phase phase, long nanos) {
+        totalNanos[phase.ordinal()].add(nanos);
+        maxNanos[phase.ordinal()].accumulateAndGet(nanos, Math::max);
+    }
+
+    public long getLaunchCount() {
+        return launches.sum();
+    }
+
+    public long getTotalMillis(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos[phase.ordinal()].sum());
+    }
+
+    public long getAverageMillis(Phase phase) {
+        long count = launches.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos[phase.ordinal()].sum() / count);
+    }
+
+    public long getMaxMillis(Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(maxNanos[phase.ordinal()].get());
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder("Driver launches: ").append(getLaunchCount());
+        for (Phase phase : Phase.values()) {
+            summary.append(", ").append(phase.getLabel())
+                    .append(" total/avg/max: ").append(getTotalMillis(phase))
+                    .append('/').append(getAverageMillis(phase))
+                    .append('/').append(getMaxMillis(phase)).append(" ms");
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,241 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Network Interceptor - Applies a NetworkPolicy to a browser session with DevTools Fetch interception
+ * Only requests matching a policy pattern are paused: blocked requests fail, stubbed requests are
+ * fulfilled from their file, and cacheable GET requests are fulfilled from a response cache that is
+ * shared by all sessions of the JVM. Sessions start with the suite policy from DriverFactory and a
+ * test can switch to its own policy until the driver is released
+ */
+public class NetworkInterceptor {
+    private static final Logger logger = LogManager.getLogger(NetworkInterceptor.class);
+    private static final Map<WebDriver, NetworkInterceptor> interceptors = new WeakHashMap<>();
+    private static final Map<String, CachedResponse> responseCache = new ConcurrentHashMap<>();
+    private static final int MAX_CACHE_ENTRIES =
+            ConfigManager.getInstance().getIntProperty("network.policy.cache.max.entries", 500);
+
+    private final DevToolsSession devTools;
+    private final NetworkPolicy defaultPolicy;
+    private volatile NetworkPolicy policy = NetworkPolicy.NONE;
+    private final LongAdder blocked = new LongAdder();
+    private final LongAdder stubbed = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder cacheStores = new LongAdder();
+
+    private NetworkInterceptor(DevToolsSession devTools, NetworkPolicy defaultPolicy) {
+        this.devTools = devTools;
+        this.defaultPolicy = defaultPolicy;
+    }
+
+    /**
+     * Intercept the driver's traffic with a default policy; returns null when the browser has no DevTools
+     */
+    public static NetworkInterceptor install(WebDriver driver, NetworkPolicy defaultPolicy) {
+        if (!DevToolsSession.isSupported(driver)) {
+            if (!defaultPolicy.isEmpty()) {
+                logger.warn("Network policy ignored, {} does not support DevTools", driver.getClass().getSimpleName());
+            }
+            return null;
+        }
+        NetworkInterceptor interceptor = new NetworkInterceptor(DevToolsSession.of(driver), defaultPolicy);
+        interceptor.devTools.subscribe("Fetch.requestPaused", interceptor::onRequestPaused);
+        interceptor.usePolicy(defaultPolicy);
+        synchronized (interceptors) {
+            interceptors.put(driver, interceptor);
+        }
+        logger.info("Network policy installed: {}", defaultPolicy);
+        return interceptor;
+    }
+
+    /**
+     * Interceptor of a driver, or null when none was installed
+     */
+    public static NetworkInterceptor of(WebDriver driver) {
+        synchronized (interceptors) {
+            return interceptors.get(driver);
+        }
+    }
+
+    /**
+     * Switch to another policy, e.g. for a single test
+     */
+    public synchronized void usePolicy(NetworkPolicy newPolicy) {
+        if (newPolicy.isEmpty()) {
+            if (!policy.isEmpty()) {
+                devTools.send("Fetch.disable");
+            }
+        } else {
+            List<Map<String, Object>> patterns = new ArrayList<>();
+            for (String pattern : newPolicy.getRequestPatterns()) {
+                patterns.add(pattern(pattern, "Request"));
+            }
+            for (String pattern : newPolicy.getResponsePatterns()) {
+                patterns.add(pattern(pattern, "Response"));
+            }
+            devTools.send("Fetch.enable", Collections.singletonMap("patterns", patterns));
+        }
+        policy = newPolicy;
+    }
+
+    /**
+     * Go back to the policy the session was created with
+     */
+    public void restoreDefaultPolicy() {
+        if (policy != defaultPolicy) {
+            usePolicy(defaultPolicy);
+        }
+    }
+
+    public NetworkPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getBlockedCount() {
+        return blocked.sum();
+    }
+
+    public long getStubbedCount() {
+        return stubbed.sum();
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.sum();
+    }
+
+    public String summary() {
+        return "blocked=" + blocked.sum() + ", stubbed=" + stubbed.sum() + ", cache hits=" + cacheHits.sum()
+                + ", cached=" + cacheStores.sum() + " (shared cache size " + responseCache.size() + ")";
+    }
+
+    /**
+     * Drop all responses cached by any session
+     */
+    public static void clearCache() {
+        responseCache.clear();
+    }
+
+    private void onRequestPaused(Map<String, Object> params) {
+        String requestId = (String) params.get("requestId");
+        @SuppressWarnings("unchecked")
+        Map<String, Object> request = (Map<String, Object>) params.get("request");
+        String url = (String) request.get("url");
+        boolean get = "GET".equals(request.get("method"));
+        NetworkPolicy current = policy;
+        try {
+            if (params.containsKey("responseStatusCode") || params.containsKey("responseErrorReason")) {
+                if (get && current.isCacheable(url)) {
+                    store(requestId, url, params);
+                }
+                continueRequest(requestId);
+            } else if (current.isBlocked(url)) {
+                blocked.increment();
+                Map<String, Object> fail = new HashMap<>();
+                fail.put("requestId", requestId);
+                fail.put("errorReason", "BlockedByClient");
+                devTools.send("Fetch.failRequest", fail);
+                logger.debug("Blocked {}", url);
+            } else if (current.getStub(url) != null) {
+                stubbed.increment();
+                NetworkPolicy.Stub stub = current.getStub(url);
+                fulfill(requestId, 200, Collections.singletonList(header("Content-Type", stub.getContentType())),
+                        stub.getBase64Body());
+                logger.debug("Stubbed {} with {}", url, stub.getFile());
+            } else if (get && current.isCacheable(url) && responseCache.containsKey(url)) {
+                cacheHits.increment();
+                CachedResponse cached = responseCache.get(url);
+                fulfill(requestId, cached.statusCode, cached.headers, cached.base64Body);
+            } else {
+                continueRequest(requestId);
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Interception of {} failed, continuing the request: {}", url, e.getMessage());
+            try {
+                continueRequest(requestId);
+            } catch (RuntimeException ignored) {
+                // The request was already answered or the page is gone
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void store(String requestId, String url, Map<String, Object> params) {
+        Object status = params.get("responseStatusCode");
+        if (!(status instanceof Number) || ((Number) status).intValue() != 200
+                || responseCache.size() >= MAX_CACHE_ENTRIES) {
+            return;
+        }
+        Map<String, Object> body = devTools.send("Fetch.getResponseBody", Collections.singletonMap("requestId", requestId));
+        String base64Body = Boolean.TRUE.equals(body.get("base64Encoded"))
+                ? (String) body.get("body")
+                : Base64.getEncoder().encodeToString(((String) body.get("body")).getBytes(StandardCharsets.UTF_8));
+        // The body is already decoded, so encoding and length headers of the original response no longer apply
+        List<Map<String, Object>> headers = new ArrayList<>();
+        Object responseHeaders = params.get("responseHeaders");
+        if (responseHeaders instanceof List) {
+            for (Map<String, Object> header : (List<Map<String, Object>>) responseHeaders) {
+                String name = String.valueOf(header.get("name"));
+                if (!name.equalsIgnoreCase("content-encoding") && !name.equalsIgnoreCase("content-length")) {
+                    headers.add(header);
+                }
+            }
+        }
+        if (responseCache.putIfAbsent(url, new CachedResponse(200, headers, base64Body)) == null) {
+            cacheStores.increment();
+        }
+    }
+
+    private void fulfill(String requestId, int statusCode, List<Map<String, Object>> headers, String base64Body) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("requestId", requestId);
+        response.put("responseCode", statusCode);
+        response.put("responseHeaders", headers);
+        response.put("body", base64Body);
+        devTools.send("Fetch.fulfillRequest", response);
+    }
+
+    private void continueRequest(String requestId) {
+        devTools.send("Fetch.continueRequest", Collections.singletonMap("requestId", requestId));
+    }
+
+    private static Map<String, Object> pattern(String urlPattern, String requestStage) {
+        Map<String, Object> pattern = new HashMap<>();
+        pattern.put("urlPattern", urlPattern);
+        pattern.put("requestStage", requestStage);
+        return pattern;
+    }
+
+    private static Map<String, Object> header(String name, String value) {
+        Map<String, Object> header = new HashMap<>();
+        header.put("name", name);
+        header.put("value", value);
+        return header;
+    }
+
+    private static final class CachedResponse {
+        private final int statusCode;
+        private final List<Map<String, Object>> headers;
+        private final String base64Body;
+
+        private CachedResponse(int statusCode, List<Map<String, Object>> headers, String base64Body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.base64Body = base64Body;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Network Policy - Requests a browser session blocks, answers from local files or caches
+ * URL patterns use DevTools Fetch wildcards matched against the full URL: '*' for any
+ * characters and '?' for exactly one. Policies are immutable; block, stub and cache return copies
+ */
+public class NetworkPolicy {
+    public static final NetworkPolicy NONE = new NetworkPolicy(
+            Collections.emptyList(), Collections.emptyMap(), Collections.emptyList());
+
+    private final List<String> blockPatterns;
+    private final Map<String, Stub> stubs;
+    private final List<String> cachePatterns;
+    private final List<Pattern> blockRegexes = new ArrayList<>();
+    private final Map<Pattern, Stub> stubRegexes = new LinkedHashMap<>();
+    private final List<Pattern> cacheRegexes = new ArrayList<>();
+
+    private NetworkPolicy(List<String> blockPatterns, Map<String, Stub> stubs, List<String> cachePatterns) {
+        this.blockPatterns = Collections.unmodifiableList(blockPatterns);
+        this.stubs = Collections.unmodifiableMap(stubs);
+        this.cachePatterns = Collections.unmodifiableList(cachePatterns);
+        for (String pattern : blockPatterns) {
+            blockRegexes.add(toRegex(pattern));
+        }
+        for (Map.Entry<String, Stub> stub : stubs.entrySet()) {
+            stubRegexes.put(toRegex(stub.getKey()), stub.getValue());
+        }
+        for (String pattern : cachePatterns) {
+            cacheRegexes.add(toRegex(pattern));
+        }
+    }
+
+    /**
+     * Suite policy every new session starts with: the configured policy when network.policy.enabled
+     * is true, otherwise NONE. Read from the configuration once
+     */
+    public static NetworkPolicy getSuitePolicy() {
+        return Holder.SUITE_POLICY;
+    }
+
+    /**
+     * Policy configured by network.policy.block, network.policy.stubs and network.policy.cache
+     */
+    public static NetworkPolicy fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        NetworkPolicy policy = NONE.block(split(config.getProperty("network.policy.block", "")).toArray(new String[0]))
+                .cache(split(config.getProperty("network.policy.cache", "")).toArray(new String[0]));
+        for (String stub : split(config.getProperty("network.policy.stubs", ""))) {
+            int separator = stub.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid network.policy.stubs entry '" + stub
+                        + "', expected pattern=file");
+            }
+            policy = policy.stub(stub.substring(0, separator).trim(), stub.substring(separator + 1).trim());
+        }
+        return policy;
+    }
+
+    /**
+     * Copy of this policy that also fails requests matching the patterns
+     */
+    public NetworkPolicy block(String... patterns) {
+        List<String> block = new ArrayList<>(blockPatterns);
+        Collections.addAll(block, patterns);
+        return new NetworkPolicy(block, stubs, cachePatterns);
+    }
+
+    /**
+     * Copy of this policy that answers requests matching the pattern with a file from the classpath or disk
+     */
+    public NetworkPolicy stub(String pattern, String file) {
+        Map<String, Stub> stub = new LinkedHashMap<>(stubs);
+        stub.put(pattern, Stub.load(file));
+        return new NetworkPolicy(blockPatterns, stub, cachePatterns);
+    }
+
+    /**
+     * Copy of this policy that keeps successful responses to matching GET requests in memory across sessions
+     */
+    public NetworkPolicy cache(String... patterns) {
+        List<String> cache = new ArrayList<>(cachePatterns);
+        Collections.addAll(cache, patterns);
+        return new NetworkPolicy(blockPatterns, stubs, cache);
+    }
+
+    public boolean isEmpty() {
+        return blockPatterns.isEmpty() && stubs.isEmpty() && cachePatterns.isEmpty();
+    }
+
+    public boolean isBlocked(String url) {
+        return matchesAny(blockRegexes, url);
+    }
+
+    /**
+     * Canned response for a URL, or null when it is not stubbed
+     */
+    public Stub getStub(String url) {
+        for (Map.Entry<Pattern, Stub> stub : stubRegexes.entrySet()) {
+            if (stub.getKey().matcher(url).matches()) {
+                return stub.getValue();
+            }
+        }
+        return null;
+    }
+
+    public boolean isCacheable(String url) {
+        return matchesAny(cacheRegexes, url);
+    }
+
+    /**
+     * Patterns of requests that must be paused before they are sent
+     */
+    List<String> getRequestPatterns() {
+        List<String> patterns = new ArrayList<>(blockPatterns);
+        patterns.addAll(stubs.keySet());
+        patterns.addAll(cachePatterns);
+        return patterns;
+    }
+
+    /**
+     * Patterns of requests whose responses must be paused to fill the cache
+     */
+    List<String> getResponsePatterns() {
+        return cachePatterns;
+    }
+
+    @Override
+    public String toString() {
+        return isEmpty() ? "none" : "block=" + blockPatterns + ", stubs=" + stubs.keySet() + ", cache=" + cachePatterns;
+    }
+
+    private static boolean matchesAny(List<Pattern> patterns, String url) {
+        for (Pattern pattern : patterns) {
+            if (pattern.matcher(url).matches()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Pattern toRegex(String wildcard) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < wildcard.length(); i++) {
+            char c = wildcard.charAt(i);
+            if (c == '\\' && i + 1 < wildcard.length()) {
+                literal.append(wildcard.charAt(++i));
+            } else if (c == '*' || c == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.DOTALL);
+    }
+
+    private static List<String> split(String value) {
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.trim().isEmpty()) {
+                values.add(part.trim());
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Lazy holder - stub files are read when the first session is created
+     */
+    private static final class Holder {
+        private static final NetworkPolicy SUITE_POLICY =
+                ConfigManager.getInstance().getBooleanProperty("network.policy.enabled", false) ? fromConfig() : NONE;
+    }
+
+    /**
+     * Canned 200 response read once from a local file
+     */
+    public static class Stub {
+        private final String file;
+        private final String contentType;
+        private final String base64Body;
+
+        private Stub(String file, String contentType, String base64Body) {
+            this.file = file;
+            this.contentType = contentType;
+            this.base64Body = base64Body;
+        }
+
+        static Stub load(String file) {
+            byte[] body;
+            try (InputStream resource = NetworkPolicy.class.getClassLoader().getResourceAsStream(file)) {
+                if (resource != null) {
+                    body = resource.readAllBytes();
+                } else {
+                    Path path = Paths.get(file);
+                    if (!Files.isRegularFile(path)) {
+                        throw new IllegalStateException("Stub file not found on classpath or disk: " + file);
+                    }
+                    body = Files.readAllBytes(path);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read stub file: " + file, e);
+            }
+            return new Stub(file, contentType(file), Base64.getEncoder().encodeToString(body));
+        }
+
+        public String getFile() {
+            return file;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        String getBase64Body() {
+            return base64Body;
+        }
+
+        private static String contentType(String file) {
+            String name = file.toLowerCase();
+            String extension = name.substring(name.lastIndexOf('.') + 1);
+            switch (extension) {
+                case "js":
+                    return "application/javascript";
+                case "css":
+                    return "text/css";
+                case "json":
+                    return "application/json";
+                case "html":
+                    return "text/html";
+                case "svg":
+                    return "image/svg+xml";
+                case "png":
+                    return "image/png";
+                case "gif":
+                    return "image/gif";
+                case "jpg":
+                case "jpeg":
+                    return "image/jpeg";
+                case "woff2":
+                    return "font/woff2";
+                default:
+                    return "application/octet-stream";
+            }
+        }
+    }
+}
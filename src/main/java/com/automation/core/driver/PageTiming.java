@@ -0,0 +1,76 @@
+package com.automation.core.driver;
+
+/**
+ * Page Timing - Navigation timing, resource timing and long tasks of one loaded document
+ * Milliseconds are relative to the navigation start as measured by the browser itself
+ */
+public class PageTiming {
+    private final String url;
+    private final long timeToFirstByteMillis;
+    private final long domContentLoadedMillis;
+    private final long loadMillis;
+    private final int resourceCount;
+    private final long resourceBytes;
+    private final int longTaskCount;
+    private final long longTaskMillis;
+
+    public PageTiming(String url, long timeToFirstByteMillis, long domContentLoadedMillis, long loadMillis,
+                      int resourceCount, long resourceBytes, int longTaskCount, long longTaskMillis) {
+        this.url = url;
+        this.timeToFirstByteMillis = timeToFirstByteMillis;
+        this.domContentLoadedMillis = domContentLoadedMillis;
+        this.loadMillis = loadMillis;
+        this.resourceCount = resourceCount;
+        this.resourceBytes = resourceBytes;
+        this.longTaskCount = longTaskCount;
+        this.longTaskMillis = longTaskMillis;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public long getTimeToFirstByteMillis() {
+        return timeToFirstByteMillis;
+    }
+
+    public long getDomContentLoadedMillis() {
+        return domContentLoadedMillis;
+    }
+
+    /**
+     * Time until the load event finished, -1 while the page is still loading
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    public int getResourceCount() {
+        return resourceCount;
+    }
+
+    /**
+     * Bytes transferred for subresources, 0 for cached and cross-origin resources without timing access
+     */
+    public long getResourceBytes() {
+        return resourceBytes;
+    }
+
+    /**
+     * Main thread tasks over 50 ms, -1 when the browser does not report long tasks
+     */
+    public int getLongTaskCount() {
+        return longTaskCount;
+    }
+
+    public long getLongTaskMillis() {
+        return longTaskMillis;
+    }
+
+    @Override
+    public String toString() {
+        return url + " ttfb=" + timeToFirstByteMillis + " ms, domContentLoaded=" + domContentLoadedMillis
+                + " ms, load=" + loadMillis + " ms, resources=" + resourceCount + " (" + resourceBytes + " bytes)"
+                + (longTaskCount >= 0 ? ", long tasks=" + longTaskCount + " (" + longTaskMillis + " ms)" : "");
+    }
+}
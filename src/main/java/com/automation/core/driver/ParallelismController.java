@@ -0,0 +1,305 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parallelism Controller - Sizes the number of concurrently running browsers to the host
+ * Every driver start takes a permit and every release returns it. The run starts with
+ * parallelism.warmup.threads browsers; once BrowserFootprint measured what one browser costs, the
+ * permit count is set to what fits under the memory and load ceilings, then grown one step while
+ * tests queue for a permit and there is headroom, and shrunk one step while a ceiling is exceeded.
+ * Running tests keep their browser when the count shrinks; the next ones wait, and idle pooled
+ * browsers above the count are closed. The driver pool warms up as many browsers as the controller
+ * starts with and is sized to parallelism.max.threads. TestNG sizes its
+ * pool once per run, so the suite thread-count is raised to parallelism.max.threads and this
+ * gate decides how many of those threads hold a browser
+ */
+public class ParallelismController {
+    private static final Logger logger = LogManager.getLogger(ParallelismController.class);
+    private static final long MB = 1024 * 1024;
+    // Adjustments with running browsers after which warm-up uses the configured footprint, e.g. for remote browsers
+    private static final int WARMUP_ROUNDS = 3;
+
+    private final int minThreads;
+    private final int maxThreads;
+    private final double memoryCeiling;
+    private final double loadCeiling;
+    private final long defaultBrowserRss;
+    private final double defaultBrowserCpu;
+    private final int cores = Runtime.getRuntime().availableProcessors();
+    private final ThreadLocal<Boolean> holdsPermit = ThreadLocal.withInitial(() -> false);
+    private final ScheduledExecutorService adjuster;
+
+    private int target;
+    private int active;
+    private int waiting;
+    private int peakActive;
+    private int lowestTarget;
+    private int highestTarget;
+    private int decisions;
+    private long waitNanos;
+    private boolean warmedUp;
+    private int warmupRounds;
+
+    private ParallelismController(int minThreads, int maxThreads, int warmupThreads, double memoryCeiling,
+                                  double loadCeiling, long defaultBrowserRss, double defaultBrowserCpu,
+                                  long intervalMillis) {
+        if (minThreads < 1 || maxThreads < minThreads) {
+            throw new IllegalArgumentException("Invalid parallelism bounds " + minThreads + ".." + maxThreads
+                    + ", expected 1 <= parallelism.min.threads <= parallelism.max.threads");
+        }
+        if (memoryCeiling <= 0 || memoryCeiling > 1 || loadCeiling <= 0 || loadCeiling > 1) {
+            throw new IllegalArgumentException("parallelism.memory.ceiling and parallelism.load.ceiling must be in (0, 1]");
+        }
+        this.minThreads = minThreads;
+        this.maxThreads = maxThreads;
+        this.memoryCeiling = memoryCeiling;
+        this.loadCeiling = loadCeiling;
+        this.defaultBrowserRss = defaultBrowserRss;
+        this.defaultBrowserCpu = defaultBrowserCpu;
+        this.target = Math.max(minThreads, Math.min(warmupThreads, maxThreads));
+        this.lowestTarget = target;
+        this.highestTarget = target;
+        adjuster = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "parallelism-controller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        adjuster.scheduleWithFixedDelay(this::adjust, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        logger.info("Automatic parallelism: starting with {} browser(s), bounds {}..{}, memory ceiling {}%, load ceiling {}%",
+                target, minThreads, maxThreads, percent(memoryCeiling), percent(loadCeiling));
+    }
+
+    public static ParallelismController getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("parallelism.auto.enabled", false);
+    }
+
+    /**
+     * Upper bound of concurrent browsers
+     */
+    public static int getMaxThreads() {
+        return Math.max(1, ConfigManager.getInstance().getIntProperty("parallelism.max.threads", 8));
+    }
+
+    /**
+     * Wait until the current thread may start a browser; a thread that already holds a permit keeps it
+     */
+    public void acquire() {
+        if (holdsPermit.get()) {
+            return;
+        }
+        long start = System.nanoTime();
+        synchronized (this) {
+            waiting++;
+            try {
+                while (active >= target) {
+                    wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a browser slot", e);
+            } finally {
+                waiting--;
+            }
+            active++;
+            peakActive = Math.max(peakActive, active);
+            waitNanos += System.nanoTime() - start;
+        }
+        holdsPermit.set(true);
+    }
+
+    /**
+     * Return the current thread's permit, if it holds one
+     */
+    public void release() {
+        if (!holdsPermit.get()) {
+            return;
+        }
+        holdsPermit.remove();
+        synchronized (this) {
+            active--;
+            notifyAll();
+        }
+    }
+
+    public synchronized int getTarget() {
+        return target;
+    }
+
+    public synchronized String summary() {
+        return String.format("%d..%d concurrent browsers (bounds %d..%d), peak %d running, %d scaling decisions, "
+                        + "%.1f s spent waiting for a browser slot",
+                lowestTarget, highestTarget, minThreads, maxThreads, peakActive, decisions, waitNanos / 1e9);
+    }
+
+    private void adjust() {
+        try {
+            HostLoad host = HostLoad.measure(cores);
+            BrowserFootprint footprint = BrowserFootprint.isEnabled() ? BrowserFootprint.getInstance() : null;
+            if (footprint != null) {
+                footprint.refresh();
+            }
+            long browserRss = footprint != null && footprint.getAverageRssBytes() > 0
+                    ? footprint.getAverageRssBytes() : defaultBrowserRss;
+            double browserCpu = footprint != null && footprint.getAverageCpuCores() > 0
+                    ? footprint.getAverageCpuCores() : defaultBrowserCpu;
+            int idle = DriverPool.isEnabled() ? DriverPool.getInstance().getIdleSessions() : 0;
+            synchronized (this) {
+                String metrics = String.format("memory %d%% of %d MB used (ceiling %d%%), CPU load %d%% of %d cores "
+                                + "(ceiling %d%%), browser %d MB / %.2f cores%s, %d running, %d idle, %d waiting",
+                        percent(host.memoryUsed()), host.totalMemory / MB, percent(memoryCeiling),
+                        percent(host.cpuLoad), cores, percent(loadCeiling), browserRss / MB, browserCpu,
+                        footprint != null && footprint.getAverageCpuCores() > 0 ? " measured" : " configured",
+                        active, idle, waiting);
+                if (!warmedUp) {
+                    boolean measured = footprint != null
+                            && footprint.getAverageRssBytes() > 0 && footprint.getAverageCpuCores() > 0;
+                    if (active > 0) {
+                        warmupRounds++;
+                    }
+                    // Without /proc nothing is measured, so size from the configured browser footprint right away
+                    if (footprint != null && !measured && warmupRounds < WARMUP_ROUNDS) {
+                        return;
+                    }
+                    warmedUp = true;
+                    setTarget(fit(host, idle, browserRss, browserCpu), measured ? "warm-up measured the browser footprint"
+                            : "sized from the configured browser footprint", metrics);
+                } else if (host.memoryUsed() > memoryCeiling || host.cpuLoad > loadCeiling) {
+                    setTarget(target - 1, host.memoryUsed() > memoryCeiling ? "memory above ceiling"
+                            : "CPU load above ceiling", metrics);
+                } else if (waiting > 0 && active >= target
+                        && host.memoryUsed() + (double) browserRss / host.totalMemory <= memoryCeiling
+                        && host.cpuLoad + browserCpu / cores <= loadCeiling) {
+                    setTarget(target + 1, "tests waiting and headroom for another browser", metrics);
+                }
+            }
+            if (DriverPool.isEnabled()) {
+                int retired = DriverPool.getInstance().retireIdleSessions(getTarget());
+                if (retired > 0) {
+                    logger.info("Closed {} idle pooled browser(s) above the parallelism target of {}",
+                            retired, getTarget());
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Parallelism adjustment failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Browsers that fit under both ceilings, counting what the running and idle pooled browsers already use
+     */
+    private int fit(HostLoad host, int idle, long browserRss, double browserCpu) {
+        long otherMemory = Math.max(0, host.usedMemory - (active + idle) * browserRss);
+        double otherCores = Math.max(0, host.cpuLoad * cores - active * browserCpu);
+        long byMemory = (long) ((host.totalMemory * memoryCeiling - otherMemory) / Math.max(MB, browserRss));
+        long byCpu = (long) ((cores * loadCeiling - otherCores) / Math.max(0.01, browserCpu));
+        return (int) Math.min(byMemory, byCpu);
+    }
+
+    private void setTarget(int requested, String reason, String metrics) {
+        int bounded = Math.max(minThreads, Math.min(maxThreads, requested));
+        if (bounded == target) {
+            logger.debug("Parallelism stays at {} ({}): {}", target, reason, metrics);
+            return;
+        }
+        logger.info("Parallelism {} -> {} ({}): {}", target, bounded, reason, metrics);
+        target = bounded;
+        lowestTarget = Math.min(lowestTarget, target);
+        highestTarget = Math.max(highestTarget, target);
+        decisions++;
+        notifyAll();
+    }
+
+    private static long percent(double fraction) {
+        return Math.round(fraction * 100);
+    }
+
+    /**
+     * Host memory and CPU load at one point in time
+     */
+    private static final class HostLoad {
+        private final long totalMemory;
+        private final long usedMemory;
+        private final double cpuLoad;
+
+        private HostLoad(long totalMemory, long usedMemory, double cpuLoad) {
+            this.totalMemory = totalMemory;
+            this.usedMemory = usedMemory;
+            this.cpuLoad = cpuLoad;
+        }
+
+        private static HostLoad measure(int cores) {
+            OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+            long total = BrowserFootprint.readMemInfo("MemTotal:");
+            // MemAvailable counts reclaimable page cache as free, which the JVM's free memory does not
+            long available = BrowserFootprint.readMemInfo("MemAvailable:");
+            if (total == 0) {
+                total = (long) osMetric(os, "getTotalMemorySize", "getTotalPhysicalMemorySize");
+                available = (long) osMetric(os, "getFreeMemorySize", "getFreePhysicalMemorySize");
+            }
+            double cpuLoad = osMetric(os, "getCpuLoad", "getSystemCpuLoad");
+            if (cpuLoad < 0) {
+                cpuLoad = Math.max(0, os.getSystemLoadAverage()) / cores;
+            }
+            return new HostLoad(Math.max(1, total), Math.max(0, total - available), Math.min(1, cpuLoad));
+        }
+
+        /**
+         * Value of the first getter com.sun.management.OperatingSystemMXBean has, or -1
+         * Java 14 renamed the host-wide getters and deprecated the Java 11 names this build targets,
+         * so both are looked up by name on the exported interface instead of compiled against
+         */
+        private static double osMetric(OperatingSystemMXBean os, String... getters) {
+            if (!(os instanceof com.sun.management.OperatingSystemMXBean)) {
+                return -1;
+            }
+            for (String getter : getters) {
+                try {
+                    Method method = com.sun.management.OperatingSystemMXBean.class.getMethod(getter);
+                    return ((Number) method.invoke(os)).doubleValue();
+                } catch (NoSuchMethodException e) {
+                    // Not on this JDK, try the older name
+                } catch (ReflectiveOperationException | RuntimeException e) {
+                    logger.debug("Could not read {} from the OS MXBean: {}", getter, e.getMessage());
+                    return -1;
+                }
+            }
+            return -1;
+        }
+
+        private double memoryUsed() {
+            return (double) usedMemory / totalMemory;
+        }
+    }
+
+    private static final class Holder {
+        private static final ParallelismController INSTANCE = create();
+
+        private static ParallelismController create() {
+            ConfigManager config = ConfigManager.getInstance();
+            int max = getMaxThreads();
+            return new ParallelismController(
+                    Math.min(max, Math.max(1, config.getIntProperty("parallelism.min.threads", 1))),
+                    max,
+                    config.getIntProperty("parallelism.warmup.threads", 1),
+                    Double.parseDouble(config.getProperty("parallelism.memory.ceiling", "0.8")),
+                    Double.parseDouble(config.getProperty("parallelism.load.ceiling", "0.85")),
+                    config.getIntProperty("parallelism.browser.rss.mb", 500) * MB,
+                    Double.parseDouble(config.getProperty("parallelism.browser.cpu.cores", "0.5")),
+                    Math.max(500, config.getIntProperty("parallelism.adjust.interval.ms", 5000)));
+        }
+    }
+}
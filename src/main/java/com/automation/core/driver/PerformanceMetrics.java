@@ -0,0 +1,96 @@
+package com.automation.core.driver;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Performance Metrics - Browser-side performance of one test
+ * Page timings come from the Performance API of every captured document, request counts and
+ * bytes from the DevTools network domain when the browser supports it
+ */
+public class PerformanceMetrics {
+    private final List<PageTiming> pages;
+    private final boolean networkCaptured;
+    private final long requestCount;
+    private final long responseBytes;
+    private final long failedRequests;
+    private final long errorResponses;
+
+    public PerformanceMetrics(List<PageTiming> pages, boolean networkCaptured, long requestCount,
+                              long responseBytes, long failedRequests, long errorResponses) {
+        this.pages = Collections.unmodifiableList(pages);
+        this.networkCaptured = networkCaptured;
+        this.requestCount = requestCount;
+        this.responseBytes = responseBytes;
+        this.failedRequests = failedRequests;
+        this.errorResponses = errorResponses;
+    }
+
+    /**
+     * Captured documents in the order they were visited
+     */
+    public List<PageTiming> getPages() {
+        return pages;
+    }
+
+    /**
+     * Whether request counts and bytes were recorded over DevTools
+     */
+    public boolean isNetworkCaptured() {
+        return networkCaptured;
+    }
+
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Encoded bytes received for all requests, including headers
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    public long getFailedRequests() {
+        return failedRequests;
+    }
+
+    /**
+     * Responses with a 4xx or 5xx status
+     */
+    public long getErrorResponses() {
+        return errorResponses;
+    }
+
+    public long getMaxLoadMillis() {
+        long max = 0;
+        for (PageTiming page : pages) {
+            max = Math.max(max, page.getLoadMillis());
+        }
+        return max;
+    }
+
+    public long getLongTaskMillis() {
+        long total = 0;
+        for (PageTiming page : pages) {
+            total += Math.max(0, page.getLongTaskMillis());
+        }
+        return total;
+    }
+
+    public String summary() {
+        StringBuilder summary = new StringBuilder("pages=").append(pages.size())
+                .append(", max load=").append(getMaxLoadMillis()).append(" ms")
+                .append(", long tasks=").append(getLongTaskMillis()).append(" ms");
+        if (networkCaptured) {
+            summary.append(", requests=").append(requestCount)
+                    .append(", bytes=").append(responseBytes)
+                    .append(", failed=").append(failedRequests)
+                    .append(", 4xx/5xx=").append(errorResponses);
+        }
+        for (PageTiming page : pages) {
+            summary.append(System.lineSeparator()).append("  ").append(page);
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,177 @@
+package com.automation.core.driver;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Performance Recorder - Records browser-side performance of a driver session per test
+ * Reads navigation timing, resource timing and long tasks through the Performance API and, on
+ * Chromium browsers, counts requests and bytes over the driver's DevToolsSession.
+ * Recording never fails a test; unsupported parts are skipped
+ */
+public class PerformanceRecorder {
+    private static final Logger logger = LogManager.getLogger(PerformanceRecorder.class);
+
+    // Installed in every new document so long tasks are observed from the first script on
+    private static final String LONG_TASK_OBSERVER_SCRIPT =
+            "window.__perfLongTasks = [];"
+            + "try {"
+            + "  new PerformanceObserver(function(list) {"
+            + "    list.getEntries().forEach(function(e) { window.__perfLongTasks.push(e.duration); });"
+            + "  }).observe({type: 'longtask', buffered: true});"
+            + "} catch (e) {}";
+
+    private static final String PAGE_TIMING_SCRIPT =
+            "if (!/^https?:/.test(location.href)) { return null; }"
+            + "var nav = performance.getEntriesByType('navigation')[0];"
+            + "var resources = performance.getEntriesByType('resource');"
+            + "var bytes = 0;"
+            + "resources.forEach(function(r) { bytes += r.transferSize || 0; });"
+            + "var tasks = window.__perfLongTasks;"
+            + "var taskMillis = 0;"
+            + "(tasks || []).forEach(function(d) { taskMillis += d; });"
+            + "return [location.href,"
+            + "  nav ? Math.round(nav.responseStart - nav.startTime) : -1,"
+            + "  nav ? Math.round(nav.domContentLoadedEventEnd - nav.startTime) : -1,"
+            + "  nav && nav.loadEventEnd > 0 ? Math.round(nav.loadEventEnd - nav.startTime) : -1,"
+            + "  resources.length, bytes,"
+            + "  tasks ? tasks.length : -1, Math.round(taskMillis)];";
+
+    private final WebDriver driver;
+    private final List<PageTiming> pages = Collections.synchronizedList(new ArrayList<>());
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder responseBytes = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final LongAdder errorResponses = new LongAdder();
+    private final List<Runnable> subscriptions = new ArrayList<>();
+    private DevToolsSession devTools;
+    private String longTaskScriptId;
+    private boolean recording;
+
+    public PerformanceRecorder(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("performance.capture.enabled", false);
+    }
+
+    /**
+     * Start recording for a new test, discarding anything recorded before
+     */
+    public void start() {
+        if (devTools != null) {
+            stopDevTools();
+        }
+        pages.clear();
+        requests.reset();
+        responseBytes.reset();
+        failedRequests.reset();
+        errorResponses.reset();
+        recording = true;
+        if (DevToolsSession.isSupported(driver)
+                && ConfigManager.getInstance().getBooleanProperty("performance.capture.network", true)) {
+            try {
+                startDevTools();
+            } catch (RuntimeException e) {
+                logger.warn("DevTools capture unavailable, recording page timings only: {}", e.getMessage());
+                subscriptions.forEach(Runnable::run);
+                subscriptions.clear();
+                devTools = null;
+            }
+        }
+    }
+
+    /**
+     * Record the timings of the current document, e.g. before navigating away from it
+     */
+    public void capturePage() {
+        if (!recording) {
+            return;
+        }
+        try {
+            Object result = ((JavascriptExecutor) driver).executeScript(PAGE_TIMING_SCRIPT);
+            if (result instanceof List) {
+                List<?> values = (List<?>) result;
+                pages.add(new PageTiming((String) values.get(0), asLong(values.get(1)), asLong(values.get(2)),
+                        asLong(values.get(3)), (int) asLong(values.get(4)), asLong(values.get(5)),
+                        (int) asLong(values.get(6)), asLong(values.get(7))));
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not capture page timing: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Capture the current document, stop recording and return the metrics of the test
+     */
+    public PerformanceMetrics stop() {
+        capturePage();
+        recording = false;
+        boolean networkCaptured = devTools != null;
+        if (networkCaptured) {
+            stopDevTools();
+        }
+        return new PerformanceMetrics(new ArrayList<>(pages), networkCaptured, requests.sum(),
+                responseBytes.sum(), failedRequests.sum(), errorResponses.sum());
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    private void startDevTools() {
+        devTools = DevToolsSession.of(driver);
+        subscriptions.add(devTools.subscribe("Network.requestWillBeSent", params -> requests.increment()));
+        subscriptions.add(devTools.subscribe("Network.responseReceived", params -> {
+            Object response = params.get("response");
+            if (response instanceof Map && asLong(((Map<?, ?>) response).get("status")) >= 400) {
+                errorResponses.increment();
+            }
+        }));
+        subscriptions.add(devTools.subscribe("Network.loadingFinished",
+                params -> responseBytes.add(asLong(params.get("encodedDataLength")))));
+        subscriptions.add(devTools.subscribe("Network.loadingFailed", params -> {
+            if (!Boolean.TRUE.equals(params.get("canceled"))) {
+                failedRequests.increment();
+            }
+        }));
+        devTools.send("Network.enable");
+        longTaskScriptId = (String) devTools.send("Page.addScriptToEvaluateOnNewDocument",
+                Collections.singletonMap("source", LONG_TASK_OBSERVER_SCRIPT)).get("identifier");
+    }
+
+    private void stopDevTools() {
+        subscriptions.forEach(Runnable::run);
+        subscriptions.clear();
+        try {
+            devTools.send("Network.disable");
+            if (longTaskScriptId != null) {
+                devTools.send("Page.removeScriptToEvaluateOnNewDocument",
+                        Collections.singletonMap("identifier", longTaskScriptId));
+            }
+        } catch (RuntimeException e) {
+            logger.debug("Could not detach DevTools capture: {}", e.getMessage());
+        } finally {
+            devTools = null;
+            longTaskScriptId = null;
+        }
+    }
+
+    private static long asLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0;
+    }
+}
@@ -0,0 +1,148 @@
+package com.automation.core.listeners;
+
+import com.automation.config.ConfigManager;
+import com.automation.config.ConfigSource;
+import com.automation.core.base.NavigationStatistics;
+import com.automation.core.driver.BrowserFootprint;
+import com.automation.core.driver.CommandStatistics;
+import com.automation.core.driver.DriverFactory;
+import com.automation.core.driver.DriverPool;
+import com.automation.core.driver.ParallelismController;
+import com.automation.server.EmbeddedAppServer;
+import com.automation.utils.ScreenshotWriter;
+import com.automation.ui.actions.WaitHistogram;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Driver Lifecycle Listener - Suite level driver setup and teardown
+ * Sizes the suite's thread pool from test.thread.count, or for automatic parallelism, starts the embedded
+ * app server and warms up pooled sessions when the suite starts, then reports driver, browser memory,
+ * command latency and wait metrics and quits pooled sessions when the suite ends
+ */
+public class DriverLifecycleListener implements IAlterSuiteListener, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(DriverLifecycleListener.class);
+
+    /**
+     * With automatic parallelism TestNG gets a thread per possible browser and ParallelismController decides
+     * how many of them run; otherwise a configured test.thread.count replaces the suite file's thread-count
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        int threads = ParallelismController.isEnabled()
+                ? ParallelismController.getMaxThreads()
+                : ConfigManager.getInstance().getIntProperty("test.thread.count", 0);
+        if (threads <= 0) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            if (suite.getThreadCount() != threads) {
+                logger.info("Suite '{}' thread-count {} -> {}{}", suite.getName(), suite.getThreadCount(), threads,
+                        ParallelismController.isEnabled() ? " (automatic parallelism limits concurrent browsers)" : "");
+                suite.setThreadCount(threads);
+            }
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        startRun(suite.getParameter("browser"));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        finishRun(suite.getName());
+    }
+
+    /**
+     * Suite start work, also done once by a distributed worker around all the items it runs
+     */
+    public static void startRun(String suiteBrowser) {
+        ConfigManager config = ConfigManager.getInstance();
+        if (EmbeddedAppServer.isEnabled()) {
+            EmbeddedAppServer.getInstance();
+        }
+        if (!DriverPool.isEnabled() || !config.getBooleanProperty("driver.pool.warmup.enabled", true)) {
+            return;
+        }
+
+        // Same precedence as BaseTest: -Dbrowser / BROWSER over suite parameter
+        String browser = suiteBrowser != null ? suiteBrowser : "chrome";
+        ConfigSource browserSource = config.getSource("browser.default");
+        if (browserSource != null && browserSource.isOverride()) {
+            browser = config.getProperty("browser.default");
+        }
+
+        DriverPool pool = DriverPool.getInstance();
+        // Automatic parallelism starts with fewer browsers than the pool holds; warm up only those
+        int sessions = ParallelismController.isEnabled()
+                ? ParallelismController.getInstance().getTarget()
+                : config.getIntProperty("driver.pool.warmup.sessions", pool.getMaxSessions());
+        pool.warmUp(browser, Math.min(sessions, pool.getMaxSessions()));
+    }
+
+    /**
+     * Suite end reporting and pool shutdown, also done once by a distributed worker when it stops
+     */
+    public static void finishRun(String suiteName) {
+        logger.info("Driver startup metrics for suite '{}': {}",
+                suiteName, DriverFactory.getStartupMetrics().summary());
+        if (BrowserFootprint.isEnabled()) {
+            logger.info("Browser memory for suite '{}': {}", suiteName, BrowserFootprint.getInstance().summary());
+        }
+        if (ParallelismController.isEnabled()) {
+            logger.info("Automatic parallelism for suite '{}': {}", suiteName,
+                    ParallelismController.getInstance().summary());
+        }
+        logger.info("Wait durations per condition for suite '{}':{}", suiteName, WaitHistogram.summary());
+        if (!CommandStatistics.isEmpty()) {
+            reportCommandLatency(suiteName);
+        }
+        ScreenshotWriter screenshots = ScreenshotWriter.getInstance();
+        if (screenshots.getCaptureCount() > 0) {
+            screenshots.flush(ConfigManager.getInstance().getIntProperty("screenshot.flush.timeout", 30) * 1000L);
+            logger.info("Screenshots for suite '{}': {}", suiteName, screenshots.summary());
+        }
+        if (!NavigationStatistics.isEmpty()) {
+            logger.info("Navigation time per page for suite '{}' (saved vs waiting for the load event):{}",
+                    suiteName, NavigationStatistics.summary());
+        }
+        if (DriverPool.isEnabled()) {
+            DriverPool pool = DriverPool.getInstance();
+            logger.info("Driver pool metrics for suite '{}': {}", suiteName, pool.getMetrics().summary(pool));
+            pool.shutdown();
+        }
+        if (EmbeddedAppServer.isEnabled()) {
+            EmbeddedAppServer appServer = EmbeddedAppServer.getInstance();
+            logger.info("Embedded app server served {} requests for suite '{}'",
+                    appServer.getRequestCount(), suiteName);
+            if (appServer.getFaultInjector().getScenario().injectsFaults()) {
+                logger.info("Injected faults for suite '{}': {}", suiteName,
+                        appServer.getFaultInjector().summary());
+            }
+        }
+    }
+
+    private static void reportCommandLatency(String suiteName) {
+        ConfigManager config = ConfigManager.getInstance();
+        int topCallSites = config.getIntProperty("webdriver.commands.top.call.sites", 10);
+        logger.info("WebDriver command latency for suite '{}':{}", suiteName,
+                CommandStatistics.summary(topCallSites));
+        String reportFile = config.getProperty("webdriver.commands.report.file", "");
+        if (!reportFile.isEmpty()) {
+            try {
+                CommandStatistics.writeReport(Paths.get(reportFile), topCallSites);
+            } catch (IOException e) {
+                logger.warn("Could not write WebDriver command report {}: {}", reportFile, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,271 @@
+package com.automation.core.listeners;
+
+import com.automation.config.ConfigManager;
+import com.automation.core.sharding.Shard;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Duration Scheduler - Longest-first scheduling of a whole suite on one worker pool
+ * The <test> blocks of a suite run one after another, so the slowest block leaves the other
+ * workers idle at its tail. With test.scheduler.enabled the blocks are merged into one block and
+ * methods are handed to its pool longest-first by their recorded duration, the LPT bin-packing
+ * order. Durations of every run are recorded for the next one, and predicted and actual
+ * makespan are logged when the suite ends
+ */
+public class DurationScheduler implements IAlterSuiteListener, IMethodInterceptor, ISuiteListener {
+    private static final Logger logger = LogManager.getLogger(DurationScheduler.class);
+    private static final String MERGED_TEST_NAME = "Scheduled Tests";
+    // Estimate for a method when no history exists at all
+    private static final long DEFAULT_METHOD_MILLIS = 10_000;
+
+    // Original <test> block and its thread count per class, to predict the block by block makespan
+    private static final Map<String, String> originalBlocks = new ConcurrentHashMap<>();
+    private static final Map<String, Integer> blockThreads = new ConcurrentHashMap<>();
+    private static final Map<String, Prediction> predictions = new ConcurrentHashMap<>();
+    private static volatile boolean historySaving = true;
+
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("test.scheduler.enabled", false);
+    }
+
+    public static TestDurationHistory getHistory() {
+        return Holder.HISTORY;
+    }
+
+    /**
+     * Leave the shared history file to another process, e.g. the coordinator of a distributed run
+     */
+    public static void disableHistorySaving() {
+        historySaving = false;
+    }
+
+    /**
+     * Save recorded durations; a shard writes only its own part, into its output directory
+     */
+    public static void saveHistory() {
+        if (!historySaving) {
+            return;
+        }
+        Shard shard = Shard.current();
+        if (shard.isSharded()) {
+            getHistory().saveRecorded(shard.getOutputDir().resolve("test-durations.properties"));
+        } else {
+            getHistory().save();
+        }
+    }
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!isEnabled()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            List<XmlTest> tests = new ArrayList<>(suite.getTests());
+            for (XmlTest test : tests) {
+                for (XmlClass xmlClass : test.getXmlClasses()) {
+                    originalBlocks.put(xmlClass.getName(), test.getName());
+                }
+                blockThreads.put(test.getName(), test.getThreadCount());
+            }
+            if (tests.size() > 1 && canMerge(suite, tests)) {
+                merge(suite, tests);
+            }
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Shard shard = Shard.current();
+        if (shard.isSharded()) {
+            methods = shard.select("methods of '" + context.getName() + "'", methods,
+                    method -> TestDurationHistory.key(method.getMethod()));
+        }
+        if (!isEnabled() || methods.size() < 2) {
+            return methods;
+        }
+        TestDurationHistory history = getHistory();
+        long unknownMillis = history.getMeanMillis(DEFAULT_METHOD_MILLIS);
+        Map<IMethodInstance, Long> estimates = new HashMap<>();
+        int unknown = 0;
+        for (IMethodInstance method : methods) {
+            String key = TestDurationHistory.key(method.getMethod());
+            if (!history.contains(key)) {
+                unknown++;
+            }
+            estimates.put(method, history.getMillis(key, unknownMillis));
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        ordered.sort(Comparator.comparingLong((IMethodInstance method) -> estimates.get(method)).reversed());
+
+        int threads = Math.max(1, context.getCurrentXmlTest().getThreadCount());
+        List<Long> durations = new ArrayList<>();
+        Map<String, List<Long>> blocks = new LinkedHashMap<>();
+        for (IMethodInstance method : ordered) {
+            durations.add(estimates.get(method));
+            String block = originalBlocks.getOrDefault(method.getMethod().getRealClass().getName(), context.getName());
+            blocks.computeIfAbsent(block, name -> new ArrayList<>()).add(estimates.get(method));
+        }
+        long blockByBlock = 0;
+        for (Map.Entry<String, List<Long>> block : blocks.entrySet()) {
+            blockByBlock += makespan(block.getValue(), Math.max(1, blockThreads.getOrDefault(block.getKey(), threads)));
+        }
+        Prediction prediction = new Prediction(makespan(durations, threads), blockByBlock);
+        predictions.merge(context.getSuite().getName(), prediction, Prediction::plus);
+        logger.info("Scheduled {} methods of '{}' longest-first on {} workers ({} without history): "
+                        + "predicted makespan {} s, {} s with blocks one after another",
+                ordered.size(), context.getName(), threads, unknown,
+                seconds(prediction.scheduledMillis), seconds(prediction.blockByBlockMillis));
+        return ordered;
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        long first = Long.MAX_VALUE;
+        long last = 0;
+        Map<String, Long> runDurations = new HashMap<>();
+        for (ISuiteResult suiteResult : suite.getResults().values()) {
+            ITestContext context = suiteResult.getTestContext();
+            List<ITestResult> results = new ArrayList<>(context.getPassedTests().getAllResults());
+            results.addAll(context.getFailedTests().getAllResults());
+            results.addAll(context.getFailedButWithinSuccessPercentageTests().getAllResults());
+            for (ITestResult result : results) {
+                first = Math.min(first, result.getStartMillis());
+                last = Math.max(last, result.getEndMillis());
+                runDurations.merge(TestDurationHistory.key(result.getMethod()),
+                        result.getEndMillis() - result.getStartMillis(), Long::sum);
+            }
+        }
+        if (runDurations.isEmpty()) {
+            return;
+        }
+        TestDurationHistory history = getHistory();
+        runDurations.forEach(history::record);
+        saveHistory();
+
+        Prediction prediction = predictions.remove(suite.getName());
+        if (prediction != null) {
+            logger.info("Makespan of suite '{}': actual {} s, predicted {} s, {} s predicted with blocks one after another",
+                    suite.getName(), seconds(last - first), seconds(prediction.scheduledMillis),
+                    seconds(prediction.blockByBlockMillis));
+        } else {
+            logger.info("Makespan of suite '{}': actual {} s; durations of {} methods recorded for scheduling",
+                    suite.getName(), seconds(last - first), runDurations.size());
+        }
+    }
+
+    /**
+     * Time until the last worker is idle when durations are assigned in order to the least loaded worker
+     */
+    static long makespan(List<Long> durations, int workers) {
+        PriorityQueue<Long> loads = new PriorityQueue<>();
+        for (int i = 0; i < workers; i++) {
+            loads.add(0L);
+        }
+        long makespan = 0;
+        for (long duration : durations) {
+            long load = loads.poll() + duration;
+            makespan = Math.max(makespan, load);
+            loads.add(load);
+        }
+        return makespan;
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+
+    /**
+     * Blocks can only share a pool when they differ in nothing but their classes and parameters
+     */
+    private static boolean canMerge(XmlSuite suite, List<XmlTest> tests) {
+        Set<String> classes = new HashSet<>();
+        for (XmlTest test : tests) {
+            if (!test.getIncludedGroups().isEmpty() || !test.getExcludedGroups().isEmpty()
+                    || !test.getXmlPackages().isEmpty() || !test.getMethodSelectors().isEmpty()) {
+                logger.info("Suite '{}' not merged: block '{}' selects groups, packages or methods",
+                        suite.getName(), test.getName());
+                return false;
+            }
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                if (!classes.add(xmlClass.getName())) {
+                    logger.info("Suite '{}' not merged: {} appears in more than one block",
+                            suite.getName(), xmlClass.getName());
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void merge(XmlSuite suite, List<XmlTest> tests) {
+        XmlTest merged = new XmlTest(suite);
+        merged.setName(MERGED_TEST_NAME);
+        int threads = ConfigManager.getInstance().getIntProperty("test.scheduler.threads", 0);
+        if (threads > 0) {
+            merged.setThreadCount(threads);
+        }
+        List<XmlClass> classes = new ArrayList<>();
+        for (XmlTest test : tests) {
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                XmlClass copy = (XmlClass) xmlClass.clone();
+                // Parameters of the block now travel with its classes
+                Map<String, String> parameters = new HashMap<>(test.getLocalParameters());
+                parameters.putAll(xmlClass.getLocalParameters());
+                copy.setParameters(parameters);
+                copy.setXmlTest(merged);
+                classes.add(copy);
+            }
+        }
+        merged.setXmlClasses(classes);
+        suite.getTests().removeIf(test -> test != merged);
+        if (!suite.getTests().contains(merged)) {
+            suite.getTests().add(merged);
+        }
+        logger.info("Merged {} test blocks of suite '{}' into '{}' with {} workers",
+                tests.size(), suite.getName(), MERGED_TEST_NAME, merged.getThreadCount());
+    }
+
+    private static final class Prediction {
+        private final long scheduledMillis;
+        private final long blockByBlockMillis;
+
+        private Prediction(long scheduledMillis, long blockByBlockMillis) {
+            this.scheduledMillis = scheduledMillis;
+            this.blockByBlockMillis = blockByBlockMillis;
+        }
+
+        // Blocks that were not merged still run one after another
+        private Prediction plus(Prediction other) {
+            return new Prediction(scheduledMillis + other.scheduledMillis, blockByBlockMillis + other.blockByBlockMillis);
+        }
+    }
+
+    private static final class Holder {
+        private static final TestDurationHistory HISTORY = TestDurationHistory.load(Paths.get(ConfigManager.getInstance()
+                .getProperty("test.scheduler.history.file", "reports/test-durations.properties")));
+    }
+}
@@ -0,0 +1,167 @@
+package com.automation.core.listeners;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Test Duration History - Recent duration of every test method, kept in a local properties file
+ * Each run is blended into the stored duration, so one unusually slow run does not reorder the suite
+ */
+public class TestDurationHistory {
+    private static final Logger logger = LogManager.getLogger(TestDurationHistory.class);
+    // Weight of the latest run in the stored duration
+    private static final double LATEST_RUN_WEIGHT = 0.5;
+
+    private final Path file;
+    private final Map<String, Long> durations = new ConcurrentHashMap<>();
+    private final Set<String> recorded = ConcurrentHashMap.newKeySet();
+
+    private TestDurationHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * History stored in a file; empty when the file does not exist yet or cannot be read
+     */
+    public static TestDurationHistory load(Path file) {
+        TestDurationHistory history = new TestDurationHistory(file);
+        if (Files.isRegularFile(file)) {
+            Properties properties = new Properties();
+            try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                properties.load(reader);
+            } catch (IOException | IllegalArgumentException e) {
+                logger.warn("Ignoring unreadable test duration history {}: {}", file, e.getMessage());
+                return history;
+            }
+            for (String key : properties.stringPropertyNames()) {
+                try {
+                    history.durations.put(key, Long.parseLong(properties.getProperty(key).trim()));
+                } catch (NumberFormatException e) {
+                    // One bad line costs its own entry, not the whole history
+                    logger.warn("Ignoring test duration entry '{}' in {}: {}", key, file, e.getMessage());
+                }
+            }
+        }
+        return history;
+    }
+
+    /**
+     * History key of a test method: class#method, shared by all invocations of a data driven test
+     */
+    public static String key(ITestNGMethod method) {
+        return method.getRealClass().getName() + "#" + method.getMethodName();
+    }
+
+    public boolean isEmpty() {
+        return durations.isEmpty();
+    }
+
+    public int size() {
+        return durations.size();
+    }
+
+    public boolean contains(String key) {
+        return durations.containsKey(key);
+    }
+
+    public long getMillis(String key, long defaultMillis) {
+        return durations.getOrDefault(key, defaultMillis);
+    }
+
+    /**
+     * Mean of all known durations, the estimate for methods that never ran
+     */
+    public long getMeanMillis(long defaultMillis) {
+        List<Long> values = new ArrayList<>(durations.values());
+        if (values.isEmpty()) {
+            return defaultMillis;
+        }
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total / values.size();
+    }
+
+    /**
+     * History key of a Cucumber scenario: feature URI and line, unique per example of an outline
+     */
+    public static String scenarioKey(Object uri, int line) {
+        return uri + ":" + line;
+    }
+
+    public void record(String key, long millis) {
+        durations.merge(key, millis,
+                (stored, latest) -> Math.round(stored * (1 - LATEST_RUN_WEIGHT) + latest * LATEST_RUN_WEIGHT));
+        recorded.add(key);
+    }
+
+    /**
+     * Take over durations from another history, e.g. the part of the suite another shard ran
+     */
+    public void putAll(TestDurationHistory other) {
+        durations.putAll(other.durations);
+    }
+
+    public void save() {
+        write(file, durations);
+    }
+
+    /**
+     * Save only the durations recorded by this run, so shard files can be merged without conflicts
+     * Entries already in the target, e.g. from the shard's TestNG run before its Cucumber run, are kept
+     */
+    public void saveRecorded(Path target) {
+        Map<String, Long> entries = new TreeMap<>(load(target).durations);
+        for (String key : recorded) {
+            entries.put(key, durations.get(key));
+        }
+        write(target, entries);
+    }
+
+    private synchronized void write(Path target, Map<String, Long> entries) {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Test method durations in milliseconds, written by DurationScheduler");
+        for (Map.Entry<String, Long> entry : new TreeMap<>(entries).entrySet()) {
+            lines.add(escapeKey(entry.getKey()) + "=" + entry.getValue());
+        }
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.write(target, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warn("Could not save test duration history {}: {}", target, e.getMessage());
+        }
+    }
+
+    /**
+     * Escape what Properties.load would otherwise end a key at, such as the ':' of scenario URIs
+     */
+    private static String escapeKey(String key) {
+        StringBuilder escaped = new StringBuilder(key.length() + 8);
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if ("\\:= \t#!".indexOf(c) >= 0) {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,148 @@
+package com.automation.core.sharding;
+
+import com.automation.config.ConfigManager;
+import com.automation.core.listeners.DurationScheduler;
+import com.automation.core.listeners.TestDurationHistory;
+import io.cucumber.testng.Pickle;
+import io.cucumber.testng.PickleWrapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Shard - This JVM's share of a suite that is split across JVMs or machines
+ * Set shard.index (0-based) and shard.total. Every shard computes the same longest-first partition
+ * from the same recorded durations, with ties broken by name, so together the shards run every
+ * test exactly once without talking to each other. Shards read the shared duration history but
+ * write what they measured to their own output directory, for ShardReportMerger to combine
+ */
+public final class Shard {
+    private static final Logger logger = LogManager.getLogger(Shard.class);
+    // Estimate for a test when no history exists at all
+    private static final long DEFAULT_MILLIS = 10_000;
+
+    private final int index;
+    private final int total;
+
+    public Shard(int index, int total) {
+        if (total < 1 || index < 0 || index >= total) {
+            throw new IllegalArgumentException("Invalid shard " + index + " of " + total
+                    + ", expected 0 <= shard.index < shard.total");
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Shard of this JVM from shard.index and shard.total, read once; a single shard runs everything
+     */
+    public static Shard current() {
+        return Holder.CURRENT;
+    }
+
+    public boolean isSharded() {
+        return total > 1;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Directory this shard writes its measured durations and reports to
+     */
+    public Path getOutputDir() {
+        String dir = ConfigManager.getInstance().getProperty("shard.output.dir", "");
+        return dir.isEmpty() ? Paths.get("target", "shards", "shard-" + index) : Paths.get(dir);
+    }
+
+    /**
+     * Items of this shard, longest first, from a partition that every shard computes identically
+     */
+    public <T> List<T> select(String label, List<T> items, Function<T, String> keys) {
+        TestDurationHistory history = DurationScheduler.getHistory();
+        long unknownMillis = history.getMeanMillis(DEFAULT_MILLIS);
+        List<Entry<T>> entries = new ArrayList<>();
+        for (T item : items) {
+            String key = keys.apply(item);
+            entries.add(new Entry<>(item, key, history.getMillis(key, unknownMillis)));
+        }
+        entries.sort(Comparator.comparingLong((Entry<T> entry) -> entry.millis).reversed()
+                .thenComparing(entry -> entry.key));
+
+        // Longest-first onto the least loaded shard, lowest index on ties
+        long[] loads = new long[total];
+        List<T> selected = new ArrayList<>();
+        for (Entry<T> entry : entries) {
+            int target = 0;
+            for (int shard = 1; shard < total; shard++) {
+                if (loads[shard] < loads[target]) {
+                    target = shard;
+                }
+            }
+            loads[target] += entry.millis;
+            if (target == index) {
+                selected.add(entry.item);
+            }
+        }
+        long min = Arrays.stream(loads).min().orElse(0);
+        long max = Arrays.stream(loads).max().orElse(0);
+        logger.info("Shard {}: {} of {} {}, predicted {} s (shards {}-{} s, spread {}%)", this, selected.size(),
+                items.size(), label, seconds(loads[index]), seconds(min), seconds(max),
+                max == 0 ? 0 : (max - min) * 100 / max);
+        return selected;
+    }
+
+    /**
+     * This shard's rows of a Cucumber runner's scenarios() data provider
+     */
+    public static Object[][] selectScenarios(Object[][] scenarios) {
+        Shard shard = current();
+        if (!shard.isSharded()) {
+            return scenarios;
+        }
+        List<Object[]> selected = shard.select("scenarios", Arrays.asList(scenarios), row -> {
+            Pickle pickle = ((PickleWrapper) row[0]).getPickle();
+            return TestDurationHistory.scenarioKey(pickle.getUri(), pickle.getLine());
+        });
+        return selected.toArray(new Object[0][]);
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+
+    @Override
+    public String toString() {
+        return (index + 1) + "/" + total;
+    }
+
+    private static final class Entry<T> {
+        private final T item;
+        private final String key;
+        private final long millis;
+
+        private Entry(T item, String key, long millis) {
+            this.item = item;
+            this.key = key;
+            this.millis = millis;
+        }
+    }
+
+    private static final class Holder {
+        private static final Shard CURRENT = new Shard(
+                ConfigManager.getInstance().getIntProperty("shard.index", 0),
+                ConfigManager.getInstance().getIntProperty("shard.total", 1));
+    }
+}
@@ -0,0 +1,206 @@
+package com.automation.core.sharding;
+
+import com.automation.core.listeners.DurationScheduler;
+import com.automation.core.listeners.TestDurationHistory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Shard Report Merger - Combines the reports of all shards into one
+ * Run once every shard has finished, with the directory that holds the shard-N output directories:
+ * java -cp ... com.automation.core.sharding.ShardReportMerger target/shards target/shards/merged
+ * Merges the TestNG testng-results.xml files and the Cucumber JSON reports (scenarios of one
+ * feature that ran on different shards end up in one feature again), folds the measured durations
+ * into the shared history for the next partition, and logs how evenly the shards finished
+ */
+public class ShardReportMerger {
+    private static final Logger logger = LogManager.getLogger(ShardReportMerger.class);
+    private static final String TESTNG_RESULTS = "testng-results.xml";
+    private static final String CUCUMBER_JSON = "cucumber.json";
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    public static void main(String[] args) throws IOException {
+        Path shardsDir = Paths.get(args.length > 0 ? args[0] : "target/shards");
+        Path outputDir = args.length > 1 ? Paths.get(args[1]) : shardsDir.resolve("merged");
+        new ShardReportMerger().merge(shardsDir, outputDir);
+    }
+
+    /**
+     * Merge the output of every shard-N directory below shardsDir into outputDir
+     */
+    public void merge(Path shardsDir, Path outputDir) throws IOException {
+        List<Path> shards;
+        try (Stream<Path> children = Files.list(shardsDir)) {
+            shards = children.filter(Files::isDirectory)
+                    .filter(dir -> dir.getFileName().toString().startsWith("shard-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        if (shards.isEmpty()) {
+            throw new IllegalArgumentException("No shard-N directories found in " + shardsDir);
+        }
+        Files.createDirectories(outputDir);
+
+        List<Long> shardMillis = new ArrayList<>();
+        Document testngResults = null;
+        Map<String, ObjectNode> features = new LinkedHashMap<>();
+        TestDurationHistory history = DurationScheduler.getHistory();
+        for (Path shard : shards) {
+            long testngMillis = 0;
+            for (Path file : find(shard, TESTNG_RESULTS)) {
+                Document document = parse(file);
+                testngMillis += suiteMillis(document);
+                testngResults = testngResults == null ? document : append(testngResults, document);
+            }
+            long cucumberMillis = 0;
+            for (Path file : find(shard, CUCUMBER_JSON)) {
+                cucumberMillis += mergeFeatures(features, mapper.readTree(file.toFile()));
+            }
+            Path durations = shard.resolve("test-durations.properties");
+            if (Files.isRegularFile(durations)) {
+                history.putAll(TestDurationHistory.load(durations));
+            }
+            shardMillis.add(testngMillis + cucumberMillis);
+            logger.info("{}: TestNG {} s, Cucumber scenarios {} s", shard.getFileName(),
+                    seconds(testngMillis), seconds(cucumberMillis));
+        }
+
+        if (testngResults != null) {
+            write(testngResults, outputDir.resolve(TESTNG_RESULTS));
+        }
+        if (!features.isEmpty()) {
+            ArrayNode merged = mapper.createArrayNode();
+            features.values().forEach(merged::add);
+            mapper.writerWithDefaultPrettyPrinter().writeValue(outputDir.resolve(CUCUMBER_JSON).toFile(), merged);
+        }
+        history.save();
+
+        long min = shardMillis.stream().mapToLong(Long::longValue).min().orElse(0);
+        long max = shardMillis.stream().mapToLong(Long::longValue).max().orElse(0);
+        logger.info("Merged {} shards into {}: slowest {} s, fastest {} s, spread {}%", shards.size(), outputDir,
+                seconds(max), seconds(min), max == 0 ? 0 : (max - min) * 100 / max);
+    }
+
+    private static List<Path> find(Path dir, String fileName) throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(file -> file.getFileName().toString().equalsIgnoreCase(fileName))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    /**
+     * Add the features of one Cucumber report; returns the scenario time it contains
+     */
+    private static long mergeFeatures(Map<String, ObjectNode> features, JsonNode report) {
+        long nanos = 0;
+        for (JsonNode feature : report) {
+            String uri = feature.path("uri").asText();
+            ObjectNode merged = features.get(uri);
+            if (merged == null) {
+                features.put(uri, ((ObjectNode) feature).deepCopy());
+            } else {
+                ArrayNode elements = merged.withArray("elements");
+                feature.path("elements").forEach(elements::add);
+            }
+            for (JsonNode element : feature.path("elements")) {
+                for (JsonNode step : element.path("steps")) {
+                    nanos += step.path("result").path("duration").asLong();
+                }
+            }
+        }
+        return nanos / 1_000_000;
+    }
+
+    private static long suiteMillis(Document document) {
+        long millis = 0;
+        NodeList suites = document.getDocumentElement().getElementsByTagName("suite");
+        for (int i = 0; i < suites.getLength(); i++) {
+            String duration = ((Element) suites.item(i)).getAttribute("duration-ms");
+            millis += duration.isEmpty() ? 0 : Long.parseLong(duration);
+        }
+        return millis;
+    }
+
+    /**
+     * Sum the counters of the root element and append the other shard's suites
+     */
+    private static Document append(Document target, Document source) {
+        Element targetRoot = target.getDocumentElement();
+        NamedNodeMap counters = source.getDocumentElement().getAttributes();
+        for (int i = 0; i < counters.getLength(); i++) {
+            Node counter = counters.item(i);
+            String current = targetRoot.getAttribute(counter.getNodeName());
+            try {
+                targetRoot.setAttribute(counter.getNodeName(), String.valueOf(
+                        (current.isEmpty() ? 0 : Long.parseLong(current)) + Long.parseLong(counter.getNodeValue())));
+            } catch (NumberFormatException e) {
+                // Not a counter
+            }
+        }
+        NodeList children = source.getDocumentElement().getChildNodes();
+        for (int i = 0; i < children.getLength(); i++) {
+            Node child = children.item(i);
+            if ("suite".equals(child.getNodeName())) {
+                targetRoot.appendChild(target.importNode(child, true));
+            }
+        }
+        return target;
+    }
+
+    private static Document parse(Path file) throws IOException {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            return builder.parse(file.toFile());
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Cannot read TestNG results " + file, e);
+        }
+    }
+
+    private static void write(Document document, Path file) throws IOException {
+        try {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.INDENT, "yes");
+            transformer.transform(new DOMSource(document), new StreamResult(file.toFile()));
+        } catch (TransformerException e) {
+            throw new IOException("Cannot write merged TestNG results " + file, e);
+        }
+    }
+
+    private static String seconds(long millis) {
+        return String.format("%.1f", millis / 1000.0);
+    }
+}
@@ -0,0 +1,80 @@
+package com.automation.server;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * App Assets - Static assets of the embedded app, generated once and kept in memory
+ */
+public class AppAssets {
+
+    public static final String STYLESHEET =
+            "body { font-family: 'Helvetica Neue', Helvetica, Arial, sans-serif; margin: 0; color: #222; }\n"
+            + ".row { max-width: 62.5em; margin: 0 auto; padding: 0 15px; }\n"
+            + ".row:after { content: ''; display: table; clear: both; }\n"
+            + ".large-2 { width: 16.66%; float: left; } .large-10 { width: 83.33%; float: left; }\n"
+            + ".large-12 { width: 100%; } .large-centered { margin: 0 auto; float: none; }\n"
+            + ".flash { padding: 14px 24px; margin: 10px 0; border: 1px solid; color: #fff; font-weight: bold; }\n"
+            + ".flash.success { background: #5da423; } .flash.error { background: #c60f13; }\n"
+            + ".flash.notice { background: #2ba6cb; } .flash .close { float: right; color: #333; }\n"
+            + ".button { display: block; margin: 0 0 12px; padding: 12px 20px; background: #2ba6cb; color: #fff;\n"
+            + "  text-decoration: none; text-align: center; }\n"
+            + ".button.alert { background: #c60f13; } .button.success { background: #5da423; }\n"
+            + "table { border-collapse: collapse; } td, th { border: 1px solid #ddd; padding: 6px 10px; }\n"
+            + ".figure { display: inline-block; position: relative; margin: 0 20px 20px 0; }\n"
+            + ".figure img { width: 160px; height: 160px; }\n"
+            + ".figure .figcaption { display: none; position: absolute; left: 0; bottom: 0; width: 100%;\n"
+            + "  background: rgba(0, 0, 0, 0.6); color: #fff; }\n"
+            + ".figure:hover .figcaption { display: block; } .figcaption a { color: #fff; }\n"
+            + "#columns .column { height: 150px; width: 150px; float: left; border: 2px solid #666;\n"
+            + "  background-color: #ccc; margin-right: 5px; text-align: center; cursor: move; }\n"
+            + "#columns .column.over { border: 2px dashed #000; }\n"
+            + "#columns .column header { color: #fff; padding: 5px; background: #666; }\n"
+            + "#menu { position: fixed; top: 0; left: 0; width: 100%; background: #fff; z-index: 10; }\n"
+            + "#menu ul { list-style: none; margin: 0; padding: 10px; }\n"
+            + "#menu li { display: inline; margin-right: 20px; }\n"
+            + ".scroll p { line-height: 2; }\n"
+            + ".panel { border: 1px solid #d9d9d9; padding: 20px; background: #f2f2f2; }\n"
+            + ".dropzone { min-height: 120px; }\n";
+
+    private static final byte[] STYLESHEET_BYTES = STYLESHEET.getBytes(StandardCharsets.UTF_8);
+    private static final byte[] AVATAR = renderAvatar();
+
+    public static byte[] stylesheet() {
+        return STYLESHEET_BYTES;
+    }
+
+    /**
+     * Blank user avatar served for /img/avatar-blank.jpg
+     */
+    public static byte[] avatar() {
+        return AVATAR;
+    }
+
+    private static byte[] renderAvatar() {
+        BufferedImage image = new BufferedImage(160, 160, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            graphics.setColor(new Color(0xDDDDDD));
+            graphics.fillRect(0, 0, 160, 160);
+            graphics.setColor(new Color(0xAAAAAA));
+            graphics.fillOval(50, 25, 60, 60);
+            graphics.fillOval(20, 95, 120, 110);
+        } finally {
+            graphics.dispose();
+        }
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream()) {
+            ImageIO.write(image, "jpg", output);
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to render avatar image", e);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.automation.server;
+
+import com.automation.constants.FrameworkConstants;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * App Pages - HTML of the embedded the-internet stand-in
+ * Markup mirrors the public site closely enough for every page object's locators;
+ * jQuery behaviour is replaced by small inline scripts
+ */
+public class AppPages {
+    private static final String[] BUTTON_LABELS = {"foo", "bar", "baz", "qux"};
+    private static final String[] CELL_WORDS = {"Iuvaret", "Apeirian", "Adipisci", "Definiebas", "Consequuntur",
+            "Phaedrum"};
+
+    /**
+     * Standard page: flash message row, content row and footer
+     */
+    public static String layout(String flash, String content) {
+        return "<!DOCTYPE html>\n<html class=\"no-js\" lang=\"en\"><head>"
+                + "<meta charset=\"utf-8\"><meta name=\"viewport\" content=\"width=device-width\">"
+                + "<title>The Internet</title><link rel=\"stylesheet\" href=\"/css/app.css\"></head><body>"
+                + "<div class=\"row\"><div id=\"flash-messages\" class=\"large-12 columns\">" + flash + "</div></div>"
+                + "<div class=\"row\"><div id=\"content\" class=\"large-12 columns\">" + content + "</div></div>"
+                + "<div id=\"page-footer\" class=\"row\"><div class=\"large-4 large-centered columns\"><hr>"
+                + "<div style=\"text-align: center;\">Powered by "
+                + "<a target=\"_blank\" href=\"http://elementalselenium.com/\">Elemental Selenium</a></div></div></div>"
+                + "</body></html>";
+    }
+
+    /**
+     * Flash message div, styled success, error or notice
+     */
+    public static String flash(String type, String message) {
+        return "<div data-alert id=\"flash\" class=\"flash " + type + "\">\n" + message + "\n"
+                + "<a href=\"#\" class=\"close\">x</a></div>";
+    }
+
+    public static String index() {
+        String[][] links = {
+                {FrameworkConstants.ADD_REMOVE_ELEMENTS_URL, "Add/Remove Elements"},
+                {FrameworkConstants.BROKEN_IMAGES_URL, "Broken Images"},
+                {FrameworkConstants.CHALLENGING_DOM_URL, "Challenging DOM"},
+                {FrameworkConstants.CHECKBOXES_URL, "Checkboxes"},
+                {FrameworkConstants.CONTEXT_MENU_URL, "Context Menu"},
+                {FrameworkConstants.DRAG_AND_DROP_URL, "Drag and Drop"},
+                {FrameworkConstants.DROPDOWN_URL, "Dropdown"},
+                {FrameworkConstants.DYNAMIC_LOADING_URL, "Dynamic Loading"},
+                {FrameworkConstants.FILE_UPLOAD_URL, "File Upload"},
+                {FrameworkConstants.FLOATING_MENU_URL, "Floating Menu"},
+                {FrameworkConstants.LOGIN_URL, "Form Authentication"},
+                {FrameworkConstants.FRAMES_URL, "Frames"},
+                {FrameworkConstants.HOVERS_URL, "Hovers"},
+                {FrameworkConstants.INPUTS_URL, "Inputs"},
+                {FrameworkConstants.WINDOWS_URL, "Multiple Windows"},
+                {"/notification_message", "Notification Messages"},
+                {FrameworkConstants.REDIRECTOR_URL, "Redirect Link"},
+                {FrameworkConstants.STATUS_CODES_URL, "Status Codes"}};
+        StringBuilder list = new StringBuilder();
+        for (String[] link : links) {
+            list.append("<li><a href=\"").append(link[0]).append("\">").append(link[1]).append("</a></li>");
+        }
+        return layout("", "<h1 class=\"heading\">Welcome to the-internet</h1>"
+                + "<h2>Available Examples</h2><ul>" + list + "</ul>");
+    }
+
+    public static String login(String flash) {
+        return layout(flash, "<div class=\"example login\"><h2>Login Page</h2>"
+                + "<h4 class=\"subheader\">This is where you can log into the secure area. Enter <em>tomsmith</em> "
+                + "for the username and <em>SuperSecretPassword!</em> for the password. "
+                + "If the information is wrong you should see error messages.</h4>"
+                + "<form name=\"login\" method=\"post\" action=\"/authenticate\" id=\"login\">"
+                + "<div class=\"row\"><div class=\"large-6 small-12 columns\"><label for=\"username\">Username</label>"
+                + "<input type=\"text\" name=\"username\" id=\"username\"></div></div>"
+                + "<div class=\"row\"><div class=\"large-6 small-12 columns\"><label for=\"password\">Password</label>"
+                + "<input type=\"password\" name=\"password\" id=\"password\"></div></div>"
+                + "<button class=\"radius\" type=\"submit\"><i class=\"fa fa-2x fa-sign-in\"> Login</i></button>"
+                + "</form></div>");
+    }
+
+    public static String secureArea(String flash) {
+        return layout(flash, "<div class=\"example\"><h2><i class=\"icon-lock\"></i> Secure Area</h2>"
+                + "<h4 class=\"subheader\">Welcome to the Secure Area. When you are done click logout below.</h4>"
+                + "<a class=\"button secondary radius\" href=\"/logout\"><i class=\"icon-2x icon-signout\"> Logout</i></a>"
+                + "</div>");
+    }
+
+    public static String inputs() {
+        return layout("", "<div class=\"example\"><h3>Inputs</h3>"
+                + "<div class=\"no-js-hide\"><p>Number</p><input type=\"number\"></div></div>");
+    }
+
+    public static String checkboxes() {
+        return layout("", "<div class=\"example\"><h3>Checkboxes</h3><form id=\"checkboxes\">"
+                + "<input type=\"checkbox\"> checkbox 1<br>"
+                + "<input type=\"checkbox\" checked> checkbox 2</form></div>");
+    }
+
+    public static String dropdown() {
+        return layout("", "<div class=\"example\"><h3>Dropdown List</h3><select id=\"dropdown\">"
+                + "<option value=\"\" disabled=\"disabled\" selected=\"selected\">Please select an option</option>"
+                + "<option value=\"1\">Option 1</option><option value=\"2\">Option 2</option></select></div>");
+    }
+
+    public static String fileUpload() {
+        return layout("", "<div class=\"example\"><h3>File Uploader</h3>"
+                + "<p>Choose a file on your system and then click upload. Or, drag and drop a file into the area below.</p>"
+                + "<form method=\"POST\" enctype=\"multipart/form-data\" action=\"/upload\">"
+                + "<input id=\"file-upload\" type=\"file\" name=\"file\">"
+                + "<input class=\"button\" id=\"file-submit\" type=\"submit\" value=\"Upload\"></form><br>"
+                + "<div id=\"drag-drop-upload\" class=\"dropzone panel\"></div></div>");
+    }
+
+    public static String fileUploaded(String fileName) {
+        return layout("", "<div class=\"example\"><h3>File Uploaded!</h3>"
+                + "<div id=\"uploaded-files\" class=\"panel text-center\">\n" + escape(fileName) + "\n</div></div>");
+    }
+
+    public static String dynamicLoading() {
+        return layout("", "<div class=\"example\"><h3>Dynamically Loaded Page Elements</h3>"
+                + "<p>It's common to see an action get triggered that returns a result dynamically. "
+                + "It does not rely on the page to reload or finish loading. "
+                + "The page automatically gets updated (e.g. hiding elements, showing elements, updating copy, etc) "
+                + "through the use of JavaScript.</p><p>There are two examples. One in which an element already "
+                + "exists on the page but it is not displayed. And anonther where the element is not on the page "
+                + "and gets added in.</p>"
+                + "<a href=\"/dynamic_loading/1\">Example 1: Element on page that is hidden</a><br>"
+                + "<a href=\"/dynamic_loading/2\">Example 2: Element rendered after the fact</a></div>");
+    }
+
+    /**
+     * Example 1 hides an existing element, example 2 renders it after the loading delay
+     */
+    public static String dynamicLoadingExample(int example, long delayMillis) {
+        boolean rendered = example == 2;
+        String heading = rendered ? "Example 2: Element rendered after the fact"
+                : "Example 1: Element on page that is hidden";
+        String finish = rendered ? "" : "<div id=\"finish\" style=\"display:none\"><h4>Hello World!</h4></div>";
+        String reveal = rendered
+                ? "var finish = document.createElement('div'); finish.id = 'finish';"
+                + "finish.innerHTML = '<h4>Hello World!</h4>'; document.getElementById('start').after(finish);"
+                : "document.getElementById('finish').style.display = 'block';";
+        return layout("", "<div class=\"example\"><h3>Dynamically Loaded Page Elements</h3><h4>" + heading + "</h4>"
+                + "<div id=\"start\"><button>Start</button></div>" + finish
+                + "<div id=\"loading\" style=\"display:none\">Loading... </div></div>"
+                + "<script>document.querySelector('#start button').addEventListener('click', function() {"
+                + "document.getElementById('start').style.display = 'none';"
+                + "document.getElementById('loading').style.display = 'block';"
+                + "setTimeout(function() { document.getElementById('loading').style.display = 'none';"
+                + reveal + " }, " + delayMillis + "); });</script>");
+    }
+
+    public static String addRemoveElements() {
+        return layout("", "<div class=\"example\"><h3>Add/Remove Elements</h3>"
+                + "<button onclick=\"addElement()\">Add Element</button><div id=\"elements\"></div></div>"
+                + "<script>function addElement() {"
+                + "var button = document.createElement('button'); button.className = 'added-manually';"
+                + "button.textContent = 'Delete'; button.onclick = function() { button.remove(); };"
+                + "document.getElementById('elements').appendChild(button); }</script>");
+    }
+
+    public static String dragAndDrop() {
+        return layout("", "<div class=\"example\"><h3>Drag and Drop</h3><div id=\"columns\">"
+                + "<div class=\"column\" id=\"column-a\" draggable=\"true\"><header>A</header></div>"
+                + "<div class=\"column\" id=\"column-b\" draggable=\"true\"><header>B</header></div></div></div>"
+                + "<script>var dragged = null;"
+                + "document.querySelectorAll('#columns .column').forEach(function(column) {"
+                + "column.addEventListener('dragstart', function(e) { dragged = this; this.style.opacity = '0.4';"
+                + "  e.dataTransfer.effectAllowed = 'move'; e.dataTransfer.setData('text/html', this.innerHTML); });"
+                + "column.addEventListener('dragover', function(e) { e.preventDefault();"
+                + "  e.dataTransfer.dropEffect = 'move'; return false; });"
+                + "column.addEventListener('dragenter', function() { this.classList.add('over'); });"
+                + "column.addEventListener('dragleave', function() { this.classList.remove('over'); });"
+                + "column.addEventListener('drop', function(e) { e.stopPropagation(); e.preventDefault();"
+                + "  if (dragged && dragged !== this) { dragged.innerHTML = this.innerHTML;"
+                + "  this.innerHTML = e.dataTransfer.getData('text/html'); } return false; });"
+                + "column.addEventListener('dragend', function() { this.style.opacity = '1';"
+                + "  document.querySelectorAll('#columns .column').forEach(function(c) { c.classList.remove('over'); });"
+                + "}); });</script>");
+    }
+
+    public static String windows() {
+        return layout("", "<div class=\"example\"><h3>Opening a new window</h3>"
+                + "<a href=\"/windows/new\" target=\"_blank\">Click Here</a></div>");
+    }
+
+    public static String newWindow() {
+        return "<!DOCTYPE html>\n<html><head><title>New Window</title></head><body>"
+                + "<div class=\"example\"><h3>New Window</h3></div></body></html>";
+    }
+
+    public static String contextMenu() {
+        return layout("", "<div class=\"example\"><h3>Context Menu</h3>"
+                + "<p>Context menu items are custom additions that appear in the right-click menu.</p>"
+                + "<p>Right-click in the box below to see one called 'the-internet'. "
+                + "When you click it, it will trigger a JavaScript alert.</p>"
+                + "<div id=\"hot-spot\" oncontextmenu=\"displayMessage()\" "
+                + "style=\"border-style: dashed; border-width: 5px; width: 250px; height: 150px;\"></div></div>"
+                + "<script>function displayMessage() { alert('You selected a context menu'); }</script>");
+    }
+
+    public static String frames() {
+        return layout("", "<div class=\"example\"><h3>Frames</h3><ul>"
+                + "<li><a href=\"/nested_frames\">Nested Frames</a></li>"
+                + "<li><a href=\"/iframe\">iFrame</a></li></ul></div>");
+    }
+
+    public static String nestedFrames() {
+        return "<!DOCTYPE html PUBLIC \"-//W3C//DTD HTML 4.01 Frameset//EN\">\n<html><head><title></title></head>"
+                + "<frameset rows=\"50%,50%\">"
+                + "<frame src=\"/frame_top\" scrolling=\"no\" name=\"frame-top\">"
+                + "<frame src=\"/frame_bottom\" scrolling=\"no\" name=\"frame-bottom\">"
+                + "</frameset></html>";
+    }
+
+    public static String topFrame() {
+        return "<!DOCTYPE html PUBLIC \"-//W3C//DTD HTML 4.01 Frameset//EN\">\n<html><head><title></title></head>"
+                + "<frameset frameborder=\"1\" name=\"frameset-middle\" cols=\"33%,33%,33%\">"
+                + "<frame src=\"/frame_left\" scrolling=\"no\" name=\"frame-left\">"
+                + "<frame src=\"/frame_middle\" scrolling=\"no\" name=\"frame-middle\">"
+                + "<frame src=\"/frame_right\" scrolling=\"no\" name=\"frame-right\">"
+                + "</frameset></html>";
+    }
+
+    /**
+     * Leaf frame of the nested frames page, e.g. LEFT; the middle frame wraps its text in div#content
+     */
+    public static String frameBody(String text) {
+        String body = "MIDDLE".equals(text) ? "<div id=\"content\">" + text + "</div>" : "\n" + text + "\n";
+        return "<html><head></head><body>" + body + "</body></html>";
+    }
+
+    public static String iframe() {
+        return layout("", "<div class=\"example\"><h3>An iFrame containing the TinyMCE WYSIWYG Editor</h3>"
+                + "<div id=\"mceu_13\" class=\"mce-tinymce mce-container mce-panel\">"
+                + "<iframe id=\"mce_0_ifr\" src=\"/tinymce\" frameborder=\"0\" allowtransparency=\"true\" "
+                + "title=\"Rich Text Area\" style=\"width: 100%; height: 200px; display: block;\"></iframe></div>"
+                + "<textarea id=\"mce_0\" style=\"display: none;\"></textarea></div>");
+    }
+
+    public static String tinyMceDocument() {
+        return "<!DOCTYPE html>\n<html><head><meta charset=\"utf-8\"></head>"
+                + "<body id=\"tinymce\" class=\"mce-content-body\" data-id=\"mce_0\" contenteditable=\"true\">"
+                + "<p>Your content goes here.</p></body></html>";
+    }
+
+    public static String hovers() {
+        StringBuilder figures = new StringBuilder();
+        for (int user = 1; user <= 3; user++) {
+            figures.append("<div class=\"figure\"><img src=\"/img/avatar-blank.jpg\" alt=\"User Avatar\">")
+                    .append("<div class=\"figcaption\"><h5>name: user").append(user).append("</h5>")
+                    .append("<a href=\"/users/").append(user).append("\">View profile</a></div></div>");
+        }
+        return layout("", "<div class=\"example\"><h3>Hovers</h3>"
+                + "<p>Hover over the image for additional information</p>" + figures + "</div>");
+    }
+
+    /**
+     * Challenging DOM - button ids, labels and the canvas answer change on every load
+     */
+    public static String challengingDom() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder buttons = new StringBuilder();
+        for (String style : new String[]{"button", "button alert", "button success"}) {
+            buttons.append("<a href=\"\" id=\"").append(Long.toHexString(random.nextLong())).append("\" class=\"")
+                    .append(style).append("\">").append(BUTTON_LABELS[random.nextInt(BUTTON_LABELS.length)])
+                    .append("</a>\n");
+        }
+        String[] headers = {"Lorem", "Ipsum", "Dolor", "Sit", "Amet", "Diceret", "Action"};
+        StringBuilder table = new StringBuilder("<table><thead><tr>");
+        for (String header : headers) {
+            table.append("<th>").append(header).append("</th>");
+        }
+        table.append("</tr></thead><tbody>");
+        for (int row = 0; row < 10; row++) {
+            table.append("<tr>");
+            for (int column = 0; column < headers.length - 1; column++) {
+                table.append("<td>").append(CELL_WORDS[column]).append(row).append("</td>");
+            }
+            table.append("<td><a href=\"#edit\">edit</a> <a href=\"#delete\">delete</a></td></tr>");
+        }
+        table.append("</tbody></table>");
+        return layout("", "<div class=\"example\"><h3>Challenging DOM</h3>"
+                + "<p>The hardest part in automated web testing is finding the best locators (e.g., ones that "
+                + "well named, unique, and unlikely to change). It's more often than not that the application "
+                + "you're testing was not built with this concept in mind. This example demonstrates that with "
+                + "unique IDs, a table with no helpful locators, and a canvas element.</p><hr>"
+                + "<div class=\"row\"><div class=\"large-2 columns\">" + buttons + "</div>"
+                + "<div class=\"large-10 columns\">" + table + "</div></div>"
+                + "<div class=\"row\"><div class=\"large-12 columns\"><canvas id=\"canvas\" width=\"599\" height=\"200\" "
+                + "style=\"border:1px dotted;\"></canvas></div></div></div>"
+                + "<script>var context = document.getElementById('canvas').getContext('2d');"
+                + "context.font = '60px Arial'; context.fillText('Answer: " + random.nextInt(10000, 100000)
+                + "', 90, 112);</script>");
+    }
+
+    public static String notificationMessage(String flash) {
+        return layout(flash, "<div class=\"example\"><h3>Notification Message</h3>"
+                + "<p>The message displayed above the heading is a notification message. It is used to convey "
+                + "information about an action previously taken by the user.</p>"
+                + "<p>Some times a notification message will state that an action was successful and sometimes "
+                + "that it wasn't. This is used to illustrate a notification message that doesn't always return "
+                + "consistent results.</p>"
+                + "<p><a href=\"/notification_message\">Click here</a> to load a new message.</p></div>");
+    }
+
+    public static String floatingMenu() {
+        StringBuilder paragraphs = new StringBuilder();
+        for (int i = 0; i < 10; i++) {
+            paragraphs.append("<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit. Integer fermentum "
+                    + "lorem non nisl ultrices, a ornare sem euismod. Proin consequat lorem in ullamcorper tempus. "
+                    + "Nulla sollicitudin turpis non eros tincidunt, vitae vehicula odio feugiat. Vestibulum ante "
+                    + "ipsum primis in faucibus orci luctus et ultrices posuere cubilia curae; Nam pulvinar cursus "
+                    + "eros, vel sagittis lorem ornare sit amet. Sed in tellus non magna rutrum suscipit. Aliquam "
+                    + "erat volutpat. Etiam vehicula nunc eu lectus vulputate, ac laoreet nisl maximus.</p>");
+        }
+        return layout("", "<div class=\"example\"><div id=\"menu\"><ul>"
+                + "<li><a href=\"#home\">Home</a></li><li><a href=\"#news\">News</a></li>"
+                + "<li><a href=\"#contact\">Contact</a></li><li><a href=\"#about\">About</a></li></ul></div>"
+                + "<div class=\"row\"><div class=\"large-12 columns large-centered\"><h3>Floating Menu</h3>"
+                + "<div class=\"scroll large-10 columns large-centered\">" + paragraphs + "</div></div></div></div>");
+    }
+
+    public static String brokenImages() {
+        return layout("", "<div class=\"example\"><h3>Broken Images</h3>"
+                + "<img src=\"asdf.jpg\"><img src=\"hjkl.jpg\"><img src=\"img/avatar-blank.jpg\"></div>");
+    }
+
+    public static String redirector() {
+        return layout("", "<div class=\"example\"><h3>Redirection</h3>"
+                + "<p>This is separate from directly returning a redirection status code, in that some browsers "
+                + "cannot handle a raw redirect status code without a destination page "
+                + "(e.g. Selenium can't navigate to a 301 status code).</p>"
+                + "<p>Click <a id=\"redirect\" href=\"redirect\">here</a> to trigger a redirect "
+                + "(and be taken to the status codes page).</p></div>");
+    }
+
+    public static String statusCodes() {
+        StringBuilder list = new StringBuilder();
+        for (String code : new String[]{"200", "301", "404", "500"}) {
+            list.append("<li><a href=\"status_codes/").append(code).append("\">").append(code).append("</a></li>");
+        }
+        return layout("", "<div class=\"example\"><h3>Status Codes</h3>"
+                + "<p>HTTP status codes are a standard set of numbers used to communicate from a web server to "
+                + "your browser to indicate the outcome of the request being made (e.g. Success, Redirection, "
+                + "Client Error, Server Error). For a complete list of status codes, go "
+                + "<a target=\"_blank\" href=\"http://www.iana.org/assignments/http-status-codes/http-status-codes.xhtml\">"
+                + "here</a>.</p><p>Some standard status codes you will run into include, but are not limited to:</p>"
+                + "<ul>" + list + "</ul></div>");
+    }
+
+    public static String statusCode(int code) {
+        return layout("", "<div class=\"example\"><h3>Status Codes</h3>"
+                + "<p>This page returned a " + code + " status code.<br><br>"
+                + "For a definition and common list of HTTP status codes, go "
+                + "<a target=\"_blank\" href=\"http://www.iana.org/assignments/http-status-codes/http-status-codes.xhtml\">"
+                + "here</a></p><p><a href=\"/status_codes\">Click here</a> to return to the Status Codes page.</p>"
+                + "</div>");
+    }
+
+    public static String notFound() {
+        return "<!DOCTYPE html>\n<html><head><title>Not Found</title></head><body><h1>Not Found</h1></body></html>";
+    }
+
+    public static String internalServerError() {
+        return "<!DOCTYPE html>\n<html><head><title>Internal Server Error</title></head>"
+                + "<body><h1>Internal Server Error</h1></body></html>";
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+}
@@ -0,0 +1,25 @@
+package com.automation.server;
+
+import com.automation.config.ConfigManager;
+
+/**
+ * Application Under Test - Base URL that pages and tests navigate against
+ * The embedded app server when app.server.embedded is true, otherwise app.base.url
+ */
+public class ApplicationUnderTest {
+    private static final String DEFAULT_BASE_URL = "https://the-internet.herokuapp.com";
+
+    public static String getBaseUrl() {
+        String baseUrl = EmbeddedAppServer.isEnabled()
+                ? EmbeddedAppServer.getInstance().getBaseUrl()
+                : ConfigManager.getInstance().getProperty("app.base.url", DEFAULT_BASE_URL);
+        return baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    /**
+     * Resolve a path such as /login against the base URL; absolute URLs are returned unchanged
+     */
+    public static String resolve(String url) {
+        return url.startsWith("/") ? getBaseUrl() + url : url;
+    }
+}
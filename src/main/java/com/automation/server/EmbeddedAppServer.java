@@ -0,0 +1,383 @@
+package com.automation.server;
+
+import com.automation.config.ConfigManager;
+import com.automation.constants.FrameworkConstants;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded App Server - Local stand-in for the-internet application
+ * Started once per JVM on an ephemeral port. Static pages and assets are rendered
+ * once into memory; only login, flash messages, uploads and the challenging DOM
+ * page are built per request, so hundreds of browser sessions can share one server.
+ * Responses pass through a FaultInjector that reproduces the configured FaultScenario
+ */
+public class EmbeddedAppServer {
+    private static final Logger logger = LogManager.getLogger(EmbeddedAppServer.class);
+    private static final String HTML = "text/html; charset=utf-8";
+    private static final String SESSION_COOKIE = "rack.session";
+    private static final String FLASH_COOKIE = "flash";
+    private static final Pattern UPLOAD_FILE_NAME = Pattern.compile("filename=\"([^\"]*)\"");
+    private static final Map<String, String[]> FLASH_MESSAGES = new HashMap<>();
+
+    static {
+        FLASH_MESSAGES.put("login", new String[]{"success", FrameworkConstants.LOGIN_SUCCESS_MESSAGE});
+        FLASH_MESSAGES.put("logout", new String[]{"success", FrameworkConstants.LOGOUT_SUCCESS_MESSAGE});
+        FLASH_MESSAGES.put("invalid-username", new String[]{"error", FrameworkConstants.INVALID_LOGIN_MESSAGE});
+        FLASH_MESSAGES.put("invalid-password", new String[]{"error", FrameworkConstants.INVALID_PASSWORD_MESSAGE});
+        FLASH_MESSAGES.put("login-required", new String[]{"error", "You must login to view the secure area!"});
+        FLASH_MESSAGES.put("action-successful", new String[]{"notice", "Action successful"});
+        FLASH_MESSAGES.put("action-unsuccessful", new String[]{"notice", "Action unsuccesful, please try again"});
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String baseUrl;
+    private final FaultInjector faults;
+    private final Map<String, Resource> resources = new HashMap<>();
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final LongAdder requests = new LongAdder();
+
+    EmbeddedAppServer(String host, int port, int threads, int backlog, FaultInjector faults) throws IOException {
+        this.faults = faults;
+        registerResources();
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "app-server-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(new InetSocketAddress(host, port), backlog);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(executor);
+        this.server.start();
+        this.baseUrl = "http://" + host + ":" + server.getAddress().getPort();
+    }
+
+    public static EmbeddedAppServer getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Whether pages and tests should run against the embedded app instead of app.base.url
+     */
+    public static boolean isEnabled() {
+        return ConfigManager.getInstance().getBooleanProperty("app.server.embedded", false);
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public long getRequestCount() {
+        return requests.sum();
+    }
+
+    public int getActiveSessionCount() {
+        return sessions.size();
+    }
+
+    public FaultInjector getFaultInjector() {
+        return faults;
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("Embedded app server at {} stopped after {} requests", baseUrl, getRequestCount());
+    }
+
+    private void registerResources() {
+        page("/", AppPages.index());
+        page(FrameworkConstants.INPUTS_URL, AppPages.inputs());
+        page(FrameworkConstants.CHECKBOXES_URL, AppPages.checkboxes());
+        page(FrameworkConstants.DROPDOWN_URL, AppPages.dropdown());
+        page(FrameworkConstants.FILE_UPLOAD_URL, AppPages.fileUpload());
+        page(FrameworkConstants.DYNAMIC_LOADING_URL, AppPages.dynamicLoading());
+        page(FrameworkConstants.ADD_REMOVE_ELEMENTS_URL, AppPages.addRemoveElements());
+        page("/add_remove_elements", AppPages.addRemoveElements());
+        page(FrameworkConstants.DRAG_AND_DROP_URL, AppPages.dragAndDrop());
+        page(FrameworkConstants.WINDOWS_URL, AppPages.windows());
+        page(FrameworkConstants.WINDOWS_URL + "/new", AppPages.newWindow());
+        page(FrameworkConstants.CONTEXT_MENU_URL, AppPages.contextMenu());
+        page(FrameworkConstants.FRAMES_URL, AppPages.frames());
+        page("/nested_frames", AppPages.nestedFrames());
+        page("/frame_top", AppPages.topFrame());
+        page("/frame_left", AppPages.frameBody("LEFT"));
+        page("/frame_middle", AppPages.frameBody("MIDDLE"));
+        page("/frame_right", AppPages.frameBody("RIGHT"));
+        page("/frame_bottom", AppPages.frameBody("BOTTOM"));
+        page("/iframe", AppPages.iframe());
+        page("/tinymce", AppPages.tinyMceDocument());
+        page(FrameworkConstants.HOVERS_URL, AppPages.hovers());
+        page(FrameworkConstants.FLOATING_MENU_URL, AppPages.floatingMenu());
+        page(FrameworkConstants.BROKEN_IMAGES_URL, AppPages.brokenImages());
+        page(FrameworkConstants.REDIRECTOR_URL, AppPages.redirector());
+        page(FrameworkConstants.STATUS_CODES_URL, AppPages.statusCodes());
+        resources.put("/css/app.css", new Resource("text/css; charset=utf-8", AppAssets.stylesheet()));
+        resources.put("/img/avatar-blank.jpg", new Resource("image/jpeg", AppAssets.avatar()));
+    }
+
+    private void page(String path, String html) {
+        resources.put(path, new Resource(HTML, html.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        try {
+            String path = exchange.getRequestURI().getPath();
+            SplittableRandom random = faults.randomFor(path);
+            faults.delay(random);
+            route(exchange, path, random);
+        } catch (RuntimeException e) {
+            logger.error("Embedded app server failed to handle {}: {}", exchange.getRequestURI(), e.getMessage(), e);
+            send(exchange, 500, HTML, AppPages.internalServerError().getBytes(StandardCharsets.UTF_8));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange, String path, SplittableRandom random) throws IOException {
+        boolean post = "POST".equalsIgnoreCase(exchange.getRequestMethod());
+
+        if (path.startsWith(FrameworkConstants.STATUS_CODES_URL)) {
+            int error = faults.statusError(random);
+            if (error > 0) {
+                sendHtml(exchange, error, AppPages.statusCode(error));
+                return;
+            }
+        }
+
+        Resource resource = resources.get(path);
+        if (resource != null && !post) {
+            send(exchange, 200, resource.contentType, resource.body);
+            return;
+        }
+
+        switch (path) {
+            case FrameworkConstants.LOGIN_URL:
+                sendHtml(exchange, 200, AppPages.login(takeFlash(exchange)));
+                return;
+            case "/authenticate":
+                authenticate(exchange);
+                return;
+            case FrameworkConstants.SECURE_AREA_URL:
+                if (hasSession(exchange)) {
+                    sendHtml(exchange, 200, AppPages.secureArea(takeFlash(exchange)));
+                } else {
+                    redirect(exchange, FrameworkConstants.LOGIN_URL, "login-required");
+                }
+                return;
+            case "/logout":
+                if (hasSession(exchange)) {
+                    sessions.remove(cookie(exchange, SESSION_COOKIE));
+                }
+                exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=; Path=/; Max-Age=0");
+                redirect(exchange, FrameworkConstants.LOGIN_URL, "logout");
+                return;
+            case FrameworkConstants.FILE_UPLOAD_URL:
+                upload(exchange);
+                return;
+            case FrameworkConstants.CHALLENGING_DOM_URL:
+                sendHtml(exchange, 200, AppPages.challengingDom());
+                return;
+            case "/notification_message":
+                redirect(exchange, FrameworkConstants.NOTIFICATION_URL,
+                        ThreadLocalRandom.current().nextBoolean() ? "action-successful" : "action-unsuccessful");
+                return;
+            case FrameworkConstants.NOTIFICATION_URL:
+                sendHtml(exchange, 200, AppPages.notificationMessage(takeFlash(exchange)));
+                return;
+            case "/redirect":
+                redirect(exchange, faults.getRedirectHops() > 1 ? "/redirect/1" : FrameworkConstants.STATUS_CODES_URL,
+                        null);
+                return;
+            case FrameworkConstants.DYNAMIC_LOADING_URL + "/1":
+                sendHtml(exchange, 200, AppPages.dynamicLoadingExample(1, faults.revealDelay(random)));
+                return;
+            case FrameworkConstants.DYNAMIC_LOADING_URL + "/2":
+                sendHtml(exchange, 200, AppPages.dynamicLoadingExample(2, faults.revealDelay(random)));
+                return;
+            default:
+                break;
+        }
+
+        if (path.matches("/redirect/[0-9]+")) {
+            int hop = Integer.parseInt(path.substring("/redirect/".length()));
+            redirect(exchange, hop + 1 < faults.getRedirectHops() ? "/redirect/" + (hop + 1)
+                    : FrameworkConstants.STATUS_CODES_URL, null);
+            return;
+        }
+        if (path.startsWith(FrameworkConstants.STATUS_CODES_URL + "/")) {
+            String code = path.substring(FrameworkConstants.STATUS_CODES_URL.length() + 1);
+            if (code.matches("[2-5][0-9][0-9]")) {
+                sendHtml(exchange, Integer.parseInt(code), AppPages.statusCode(Integer.parseInt(code)));
+                return;
+            }
+        }
+        sendHtml(exchange, 404, AppPages.notFound());
+    }
+
+    private void authenticate(HttpExchange exchange) throws IOException {
+        Map<String, String> form = parseForm(new String(readBody(exchange), StandardCharsets.UTF_8));
+        if (!FrameworkConstants.VALID_USERNAME.equals(form.get("username"))) {
+            redirect(exchange, FrameworkConstants.LOGIN_URL, "invalid-username");
+        } else if (!FrameworkConstants.VALID_PASSWORD.equals(form.get("password"))) {
+            redirect(exchange, FrameworkConstants.LOGIN_URL, "invalid-password");
+        } else {
+            String session = UUID.randomUUID().toString();
+            sessions.add(session);
+            exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + session + "; Path=/; HttpOnly");
+            redirect(exchange, FrameworkConstants.SECURE_AREA_URL, "login");
+        }
+    }
+
+    /**
+     * Like the public site, an upload without a file is answered with a 500
+     */
+    private void upload(HttpExchange exchange) throws IOException {
+        String body = new String(readBody(exchange), StandardCharsets.ISO_8859_1);
+        Matcher matcher = UPLOAD_FILE_NAME.matcher(body);
+        if (!matcher.find() || matcher.group(1).isEmpty()) {
+            sendHtml(exchange, 500, AppPages.internalServerError());
+            return;
+        }
+        String fileName = new String(matcher.group(1).getBytes(StandardCharsets.ISO_8859_1), StandardCharsets.UTF_8);
+        sendHtml(exchange, 200, AppPages.fileUploaded(fileName));
+    }
+
+    private boolean hasSession(HttpExchange exchange) {
+        String session = cookie(exchange, SESSION_COOKIE);
+        return session != null && sessions.contains(session);
+    }
+
+    /**
+     * Read and clear the flash message set by the previous redirect
+     */
+    private String takeFlash(HttpExchange exchange) {
+        String[] message = FLASH_MESSAGES.get(cookie(exchange, FLASH_COOKIE));
+        if (message == null) {
+            return "";
+        }
+        exchange.getResponseHeaders().add("Set-Cookie", FLASH_COOKIE + "=; Path=/; Max-Age=0");
+        return AppPages.flash(message[0], message[1]);
+    }
+
+    private void redirect(HttpExchange exchange, String location, String flash) throws IOException {
+        Headers headers = exchange.getResponseHeaders();
+        if (flash != null) {
+            headers.add("Set-Cookie", FLASH_COOKIE + "=" + flash + "; Path=/");
+        }
+        headers.set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    private void sendHtml(HttpExchange exchange, int status, String html) throws IOException {
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        send(exchange, status, HTML, html.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        if ("HEAD".equalsIgnoreCase(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            faults.write(output, body);
+        }
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            return input.readAllBytes();
+        }
+    }
+
+    private static String cookie(HttpExchange exchange, String name) {
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", Collections.emptyList())) {
+            for (String pair : header.split(";")) {
+                int separator = pair.indexOf('=');
+                if (separator > 0 && pair.substring(0, separator).trim().equals(name)) {
+                    return pair.substring(separator + 1).trim();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static Map<String, String> parseForm(String body) {
+        Map<String, String> form = new HashMap<>();
+        for (String pair : body.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                form.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return form;
+    }
+
+    private static EmbeddedAppServer start() {
+        ConfigManager config = ConfigManager.getInstance();
+        long startNanos = System.nanoTime();
+        FaultScenario scenario = FaultScenario.fromConfig();
+        try {
+            EmbeddedAppServer appServer = new EmbeddedAppServer(
+                    config.getProperty("app.server.host", "localhost"),
+                    config.getIntProperty("app.server.port", 0),
+                    config.getIntProperty("app.server.threads", 32),
+                    config.getIntProperty("app.server.backlog", 512),
+                    new FaultInjector(scenario));
+            Runtime.getRuntime().addShutdownHook(new Thread(appServer::stop, "app-server-shutdown"));
+            logger.info("Embedded app server started at {} in {} ms ({})", appServer.getBaseUrl(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos), scenario);
+            return appServer;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start embedded app server: " + e.getMessage(), e);
+        }
+    }
+
+    private static final class Resource {
+        private final String contentType;
+        private final byte[] body;
+
+        private Resource(String contentType, byte[] body) {
+            this.contentType = contentType;
+            this.body = body;
+        }
+    }
+
+    /**
+     * Lazy holder - the server is started on first use, once per JVM
+     */
+    private static final class Holder {
+        private static final EmbeddedAppServer INSTANCE = start();
+    }
+}
@@ -0,0 +1,126 @@
+package com.automation.server;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fault Injector - Applies a FaultScenario to embedded app server responses
+ * Every random decision is drawn from a generator seeded with the scenario seed,
+ * the request path and how many times that path was requested before, so the
+ * n-th request to a path sees the same faults on every run regardless of how
+ * requests to other paths interleave
+ */
+public class FaultInjector {
+    private static final Logger logger = LogManager.getLogger(FaultInjector.class);
+    private static final int[] SERVER_ERRORS = {500, 502, 503, 504};
+    private static final long THROTTLE_SLICE_MILLIS = 50;
+
+    private final FaultScenario scenario;
+    private final Map<String, AtomicLong> requestSequences = new ConcurrentHashMap<>();
+    private final LongAdder delayedRequests = new LongAdder();
+    private final LongAdder injectedLatencyMillis = new LongAdder();
+    private final LongAccumulator maxLatencyMillis = new LongAccumulator(Math::max, 0);
+    private final LongAdder injectedErrors = new LongAdder();
+    private final LongAdder throttledBytes = new LongAdder();
+
+    public FaultInjector(FaultScenario scenario) {
+        this.scenario = scenario;
+    }
+
+    public FaultScenario getScenario() {
+        return scenario;
+    }
+
+    /**
+     * Random source for one request, reproducible from the seed, path and per-path sequence
+     */
+    public SplittableRandom randomFor(String path) {
+        long sequence = requestSequences.computeIfAbsent(path, key -> new AtomicLong()).getAndIncrement();
+        return new SplittableRandom(scenario.getSeed() * 0x9E3779B97F4A7C15L + path.hashCode() * 31L + sequence);
+    }
+
+    /**
+     * Hold the response for a latency drawn from the scenario distribution
+     */
+    public void delay(SplittableRandom random) {
+        if (scenario.getLatency().isNone()) {
+            return;
+        }
+        long millis = scenario.getLatency().sample(random);
+        if (millis > 0) {
+            delayedRequests.increment();
+            injectedLatencyMillis.add(millis);
+            maxLatencyMillis.accumulate(millis);
+            sleep(millis);
+        }
+    }
+
+    /**
+     * Reveal delay for a dynamic loading page
+     */
+    public long revealDelay(SplittableRandom random) {
+        return scenario.getRevealDelay().sample(random);
+    }
+
+    /**
+     * A 5xx status to answer a /status_codes request with, or 0 to answer it normally
+     */
+    public int statusError(SplittableRandom random) {
+        if (scenario.getStatusErrorRate() <= 0.0 || random.nextDouble() >= scenario.getStatusErrorRate()) {
+            return 0;
+        }
+        injectedErrors.increment();
+        return SERVER_ERRORS[random.nextInt(SERVER_ERRORS.length)];
+    }
+
+    public int getRedirectHops() {
+        return scenario.getRedirectHops();
+    }
+
+    /**
+     * Write a response body, throttled to the scenario bandwidth
+     */
+    public void write(OutputStream output, byte[] body) throws IOException {
+        if (scenario.getBandwidthKbps() == 0) {
+            output.write(body);
+            return;
+        }
+        int bytesPerSlice = (int) Math.max(1, scenario.getBandwidthKbps() * 1000L / 8 * THROTTLE_SLICE_MILLIS / 1000);
+        for (int offset = 0; offset < body.length; offset += bytesPerSlice) {
+            int length = Math.min(bytesPerSlice, body.length - offset);
+            output.write(body, offset, length);
+            output.flush();
+            throttledBytes.add(length);
+            if (offset + length < body.length) {
+                sleep(THROTTLE_SLICE_MILLIS);
+            }
+        }
+    }
+
+    public String summary() {
+        long delayed = delayedRequests.sum();
+        return String.format("%s | delayed requests=%d, mean injected latency=%d ms, max=%d ms, "
+                        + "injected 5xx=%d, throttled bytes=%d", scenario, delayed,
+                delayed == 0 ? 0 : injectedLatencyMillis.sum() / delayed, maxLatencyMillis.get(),
+                injectedErrors.sum(), throttledBytes.sum());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            logger.debug("Injected delay interrupted");
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.automation.server;
+
+import com.automation.config.ConfigManager;
+
+/**
+ * Fault Scenario - Latency and failure conditions reproduced by the embedded app server
+ * A named preset (app.server.scenario) provides the defaults; any app.server.fault.*
+ * property that is set overrides the matching preset value
+ */
+public class FaultScenario {
+    public static final FaultScenario NONE =
+            new FaultScenario("none", LatencyDistribution.NONE, 0, LatencyDistribution.fixed(5000), 0.0, 1, 1L);
+
+    private final String name;
+    private final LatencyDistribution latency;
+    private final int bandwidthKbps;
+    private final LatencyDistribution revealDelay;
+    private final double statusErrorRate;
+    private final int redirectHops;
+    private final long seed;
+
+    public FaultScenario(String name, LatencyDistribution latency, int bandwidthKbps, LatencyDistribution revealDelay,
+                         double statusErrorRate, int redirectHops, long seed) {
+        if (bandwidthKbps < 0 || statusErrorRate < 0.0 || statusErrorRate > 1.0 || redirectHops < 1) {
+            throw new IllegalArgumentException("Invalid fault scenario '" + name + "': bandwidth=" + bandwidthKbps
+                    + " kbps, status error rate=" + statusErrorRate + ", redirect hops=" + redirectHops);
+        }
+        this.name = name;
+        this.latency = latency;
+        this.bandwidthKbps = bandwidthKbps;
+        this.revealDelay = revealDelay;
+        this.statusErrorRate = statusErrorRate;
+        this.redirectHops = redirectHops;
+        this.seed = seed;
+    }
+
+    /**
+     * Built-in scenario by name: none, slow-network, flaky or p99
+     */
+    public static FaultScenario preset(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "none":
+                return NONE;
+            case "slow-network":
+                return new FaultScenario("slow-network", LatencyDistribution.lognormal(150, 1200), 256,
+                        LatencyDistribution.lognormal(5000, 12000), 0.0, 1, NONE.seed);
+            case "flaky":
+                return new FaultScenario("flaky", LatencyDistribution.lognormal(50, 400), 0,
+                        LatencyDistribution.lognormal(5000, 8000), 0.2, 5, NONE.seed);
+            case "p99":
+                return new FaultScenario("p99", LatencyDistribution.lognormal(300, 3000), 512,
+                        LatencyDistribution.lognormal(5000, 25000), 0.05, 3, NONE.seed);
+            default:
+                throw new IllegalArgumentException("Unknown fault scenario '" + name
+                        + "', expected none, slow-network, flaky or p99");
+        }
+    }
+
+    /**
+     * Scenario configured by app.server.scenario and the app.server.fault.* overrides
+     */
+    public static FaultScenario fromConfig() {
+        ConfigManager config = ConfigManager.getInstance();
+        FaultScenario preset = preset(config.getProperty("app.server.scenario", "none"));
+        String latency = config.getProperty("app.server.fault.latency", "");
+        String bandwidth = config.getProperty("app.server.fault.bandwidth.kbps", "");
+        String reveal = config.getProperty("app.server.fault.reveal.delay", "");
+        String errorRate = config.getProperty("app.server.fault.status.error.rate", "");
+        String hops = config.getProperty("app.server.fault.redirect.hops", "");
+        String seed = config.getProperty("app.server.fault.seed", "");
+        LatencyDistribution revealDelay = preset.revealDelay;
+        if (!reveal.isEmpty()) {
+            revealDelay = LatencyDistribution.parse(reveal);
+        } else if (preset == NONE) {
+            revealDelay = LatencyDistribution.fixed(config.getIntProperty("app.server.loading.delay.ms", 5000));
+        }
+        return new FaultScenario(preset.name,
+                latency.isEmpty() ? preset.latency : LatencyDistribution.parse(latency),
+                bandwidth.isEmpty() ? preset.bandwidthKbps : Integer.parseInt(bandwidth.trim()),
+                revealDelay,
+                errorRate.isEmpty() ? preset.statusErrorRate : Double.parseDouble(errorRate.trim()),
+                hops.isEmpty() ? preset.redirectHops : Integer.parseInt(hops.trim()),
+                seed.isEmpty() ? preset.seed : Long.parseLong(seed.trim()));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public LatencyDistribution getLatency() {
+        return latency;
+    }
+
+    /**
+     * Response bandwidth in kilobits per second, 0 for unlimited
+     */
+    public int getBandwidthKbps() {
+        return bandwidthKbps;
+    }
+
+    /**
+     * Delay before the dynamic loading examples reveal their element
+     */
+    public LatencyDistribution getRevealDelay() {
+        return revealDelay;
+    }
+
+    /**
+     * Probability that a /status_codes request is answered with a random 5xx
+     */
+    public double getStatusErrorRate() {
+        return statusErrorRate;
+    }
+
+    /**
+     * Number of redirects /redirect takes before landing on /status_codes
+     */
+    public int getRedirectHops() {
+        return redirectHops;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public boolean injectsFaults() {
+        return !latency.isNone() || bandwidthKbps > 0 || statusErrorRate > 0.0 || redirectHops > 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("scenario=%s, latency=%s, bandwidth=%s, reveal delay=%s, status error rate=%.2f, "
+                        + "redirect hops=%d, seed=%d", name, latency,
+                bandwidthKbps == 0 ? "unlimited" : bandwidthKbps + " kbps", revealDelay, statusErrorRate,
+                redirectHops, seed);
+    }
+}
@@ -0,0 +1,112 @@
+package com.automation.server;
+
+import java.util.SplittableRandom;
+
+/**
+ * Latency Distribution - Delay model used by the fault injector
+ * Described by a median and a 99th percentile, e.g. "lognormal:150:1200" for a
+ * long-tailed production-like latency, "uniform:100:500" or "fixed:250"
+ */
+public class LatencyDistribution {
+    public static final LatencyDistribution NONE = new LatencyDistribution(Type.NONE, 0, 0);
+
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.326;
+
+    private final Type type;
+    private final long medianMillis;
+    private final long p99Millis;
+
+    public enum Type {
+        NONE, FIXED, UNIFORM, LOGNORMAL
+    }
+
+    public LatencyDistribution(Type type, long medianMillis, long p99Millis) {
+        if (medianMillis < 0 || (type == Type.UNIFORM || type == Type.LOGNORMAL) && p99Millis < medianMillis) {
+            throw new IllegalArgumentException("Invalid latency distribution: median=" + medianMillis
+                    + " ms, p99=" + p99Millis + " ms");
+        }
+        this.type = type;
+        this.medianMillis = medianMillis;
+        this.p99Millis = p99Millis;
+    }
+
+    public static LatencyDistribution fixed(long millis) {
+        return new LatencyDistribution(Type.FIXED, millis, millis);
+    }
+
+    public static LatencyDistribution lognormal(long medianMillis, long p99Millis) {
+        return new LatencyDistribution(Type.LOGNORMAL, medianMillis, p99Millis);
+    }
+
+    /**
+     * Parse "none", "fixed:MS", "uniform:MIN:MAX" or "lognormal:MEDIAN:P99"
+     */
+    public static LatencyDistribution parse(String spec) {
+        String[] parts = spec.trim().toLowerCase().split(":");
+        try {
+            switch (parts[0]) {
+                case "none":
+                case "":
+                    return NONE;
+                case "fixed":
+                    return fixed(Long.parseLong(parts[1]));
+                case "uniform":
+                    return new LatencyDistribution(Type.UNIFORM, Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                case "lognormal":
+                    return lognormal(Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+                default:
+                    break;
+            }
+        } catch (ArrayIndexOutOfBoundsException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid latency distribution '" + spec + "'", e);
+        }
+        throw new IllegalArgumentException("Unknown latency distribution '" + spec
+                + "', expected none, fixed:MS, uniform:MIN:MAX or lognormal:MEDIAN:P99");
+    }
+
+    /**
+     * Draw a delay in milliseconds
+     */
+    public long sample(SplittableRandom random) {
+        switch (type) {
+            case FIXED:
+                return medianMillis;
+            case UNIFORM:
+                return medianMillis + (long) (random.nextDouble() * (p99Millis - medianMillis));
+            case LOGNORMAL:
+                double mu = Math.log(Math.max(1, medianMillis));
+                double sigma = (Math.log(Math.max(1, p99Millis)) - mu) / Z_99;
+                return Math.round(Math.exp(mu + sigma * gaussian(random)));
+            default:
+                return 0;
+        }
+    }
+
+    public boolean isNone() {
+        return type == Type.NONE;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case NONE:
+                return "none";
+            case FIXED:
+                return "fixed:" + medianMillis;
+            case UNIFORM:
+                return "uniform:" + medianMillis + ":" + p99Millis;
+            default:
+                return "lognormal:" + medianMillis + ":" + p99Millis;
+        }
+    }
+
+    /**
+     * Standard normal sample (Box-Muller), SplittableRandom has no nextGaussian
+     */
+    private static double gaussian(SplittableRandom random) {
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2.0 * Math.log(u1)) * Math.cos(2.0 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,140 @@
+package com.automation.ui.actions;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Adaptive Wait - WebDriverWait that polls according to a PollingPolicy
+ * instead of a fixed 500 ms interval, and records every wait in the WaitHistogram.
+ * A drop-in replacement wherever a WebDriverWait is expected
+ */
+public class AdaptiveWait extends WebDriverWait {
+    private static final Logger logger = LogManager.getLogger(AdaptiveWait.class);
+
+    private final WebDriver driver;
+    private final PollingPolicy policy;
+    private final long latencyBudgetMillis;
+
+    // Assigned from the overridden setters, which the superclass constructor already calls,
+    // so these fields deliberately have no initializers
+    private Duration timeout;
+    private List<Class<? extends Throwable>> ignoredExceptions;
+
+    public AdaptiveWait(WebDriver driver, Duration timeout) {
+        this(driver, timeout, PollingPolicy.fromConfig(), Duration.ofMillis(
+                ConfigManager.getInstance().getIntProperty("wait.latency.budget.ms", 1000)));
+    }
+
+    public AdaptiveWait(WebDriver driver, Duration timeout, PollingPolicy policy, Duration latencyBudget) {
+        super(driver, timeout);
+        this.driver = driver;
+        this.policy = policy;
+        this.latencyBudgetMillis = latencyBudget.toMillis();
+    }
+
+    @Override
+    public FluentWait<WebDriver> withTimeout(Duration duration) {
+        this.timeout = duration;
+        return super.withTimeout(duration);
+    }
+
+    @Override
+    public <K extends Throwable> FluentWait<WebDriver> ignoreAll(Collection<Class<? extends K>> types) {
+        if (ignoredExceptions == null) {
+            ignoredExceptions = new ArrayList<>();
+        }
+        ignoredExceptions.addAll(types);
+        return super.ignoreAll(types);
+    }
+
+    @Override
+    public <V> V until(Function<? super WebDriver, V> isTrue) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        Throwable lastException = null;
+
+        for (int attempt = 0; ; attempt++) {
+            try {
+                V value = isTrue.apply(driver);
+                if (value != null && (Boolean.class != value.getClass() || Boolean.TRUE.equals(value))) {
+                    record(isTrue, start, true);
+                    return value;
+                }
+                lastException = null;
+            } catch (RuntimeException e) {
+                lastException = propagateIfNotIgnored(e);
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                record(isTrue, start, false);
+                String message = String.format("Expected condition failed: waiting for %s (tried for %d ms with %s)",
+                        isTrue, timeout.toMillis(), policy);
+                throw timeoutException(message, lastException);
+            }
+
+            try {
+                TimeUnit.NANOSECONDS.sleep(Math.min(policy.nextInterval(attempt).toNanos(), remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException(e);
+            }
+        }
+    }
+
+    public PollingPolicy getPolicy() {
+        return policy;
+    }
+
+    private RuntimeException propagateIfNotIgnored(RuntimeException e) {
+        if (ignoredExceptions != null) {
+            for (Class<? extends Throwable> ignored : ignoredExceptions) {
+                if (ignored.isInstance(e)) {
+                    return e;
+                }
+            }
+        }
+        throw e;
+    }
+
+    private void record(Object condition, long startNanos, boolean met) {
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        boolean overBudget = waitedMillis > latencyBudgetMillis;
+        WaitHistogram.record(conditionType(condition), waitedMillis, met, overBudget);
+        if (overBudget) {
+            logger.debug("Wait for {} took {} ms, over the {} ms latency budget", condition, waitedMillis,
+                    latencyBudgetMillis);
+        }
+    }
+
+    /**
+     * Condition type for the histogram, e.g. "visibility" for ExpectedConditions.visibilityOf(element)
+     */
+    static String conditionType(Object condition) {
+        String description = String.valueOf(condition);
+        if (description.startsWith(condition.getClass().getName())) {
+            return "custom condition";
+        }
+        int end = description.length();
+        for (String separator : new String[]{" of ", ":", "\"", "(", " Proxy", " By."}) {
+            int index = description.indexOf(separator);
+            if (index > 0 && index < end) {
+                end = index;
+            }
+        }
+        String type = description.substring(0, end).trim();
+        return type.length() > 40 ? type.substring(0, 40) : type;
+    }
+}
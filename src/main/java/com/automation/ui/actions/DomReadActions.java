@@ -0,0 +1,149 @@
+package com.automation.ui.actions;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DOM Read Actions - Bulk DOM reads in a single executeScript round trip
+ * Serializes text, attributes, visibility and rects of an element set, or the cells
+ * of a table, so scraping N elements costs one remote call instead of N or more
+ */
+public class DomReadActions {
+    private static final Logger logger = LogManager.getLogger(DomReadActions.class);
+
+    private static final String READ_ELEMENTS_SCRIPT =
+            "var source = arguments[0], names = arguments[1] || [];"
+            + "var elements = typeof source === 'string' ? document.querySelectorAll(source) : source;"
+            + "var result = [];"
+            + "for (var i = 0; i < elements.length; i++) {"
+            + "  var e = elements[i], style = window.getComputedStyle(e), r = e.getBoundingClientRect();"
+            + "  var shown = style.visibility !== 'hidden' && style.visibility !== 'collapse'"
+            + "      && style.opacity !== '0' && e.getClientRects().length > 0;"
+            + "  var attributes = {};"
+            + "  for (var j = 0; j < names.length; j++) {"
+            + "    var value = e.getAttribute(names[j]);"
+            + "    if (value !== null) { attributes[names[j]] = value; }"
+            + "  }"
+            + "  result.push({tag: e.tagName.toLowerCase(), text: shown ? e.innerText.trim() : '',"
+            + "      displayed: shown, enabled: !e.disabled, attributes: attributes,"
+            + "      x: r.left + window.pageXOffset, y: r.top + window.pageYOffset,"
+            + "      width: r.width, height: r.height});"
+            + "}"
+            + "return result;";
+
+    private static final String READ_TABLE_SCRIPT =
+            "var table = typeof arguments[0] === 'string' ? document.querySelector(arguments[0]) : arguments[0];"
+            + "if (!table) { return null; }"
+            + "function text(cells, tag) {"
+            + "  var out = [];"
+            + "  for (var i = 0; i < cells.length; i++) {"
+            + "    if (cells[i].tagName === tag) { out.push(cells[i].innerText.trim()); }"
+            + "  }"
+            + "  return out;"
+            + "}"
+            + "var headers = table.tHead && table.tHead.rows.length ? text(table.tHead.rows[0].cells, 'TH') : [];"
+            + "var rows = [];"
+            + "for (var b = 0; b < table.tBodies.length; b++) {"
+            + "  for (var r = 0; r < table.tBodies[b].rows.length; r++) {"
+            + "    rows.push(text(table.tBodies[b].rows[r].cells, 'TD'));"
+            + "  }"
+            + "}"
+            + "return {displayed: table.getClientRects().length > 0, headers: headers, rows: rows};";
+
+    private final JavascriptExecutor jsExecutor;
+
+    public DomReadActions(WebDriver driver) {
+        this.jsExecutor = (JavascriptExecutor) driver;
+    }
+
+    /**
+     * Read every element matching a CSS selector, including the named attributes
+     */
+    public List<ElementSnapshot> readElements(String cssSelector, String... attributes) {
+        logger.debug("Reading elements in one round trip: {}", cssSelector);
+        return toSnapshots(jsExecutor.executeScript(READ_ELEMENTS_SCRIPT, cssSelector, Arrays.asList(attributes)));
+    }
+
+    /**
+     * Read an element set already located, e.g. a @FindBy list, including the named attributes
+     */
+    public List<ElementSnapshot> readElements(List<WebElement> elements, String... attributes) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        logger.debug("Reading {} elements in one round trip", elements.size());
+        return toSnapshots(jsExecutor.executeScript(READ_ELEMENTS_SCRIPT, elements, Arrays.asList(attributes)));
+    }
+
+    /**
+     * Read a single element, including the named attributes
+     */
+    public ElementSnapshot readElement(WebElement element, String... attributes) {
+        return readElements(Collections.singletonList(element), attributes).get(0);
+    }
+
+    /**
+     * Read the header and body cell text of the first table matching a CSS selector
+     */
+    public TableSnapshot readTable(String cssSelector) {
+        logger.debug("Reading table in one round trip: {}", cssSelector);
+        Object result = jsExecutor.executeScript(READ_TABLE_SCRIPT, cssSelector);
+        if (result == null) {
+            throw new NoSuchElementException("No table found for selector: " + cssSelector);
+        }
+        return toTable(result);
+    }
+
+    /**
+     * Read the header and body cell text of a table element
+     */
+    public TableSnapshot readTable(WebElement table) {
+        logger.debug("Reading table in one round trip");
+        return toTable(jsExecutor.executeScript(READ_TABLE_SCRIPT, table));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<ElementSnapshot> toSnapshots(Object result) {
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        for (Object item : (List<Object>) result) {
+            Map<String, Object> values = (Map<String, Object>) item;
+            Map<String, String> attributes = new HashMap<>();
+            for (Map.Entry<String, Object> attribute : ((Map<String, Object>) values.get("attributes")).entrySet()) {
+                attributes.put(attribute.getKey(), String.valueOf(attribute.getValue()));
+            }
+            Rectangle rect = new Rectangle(toInt(values.get("x")), toInt(values.get("y")),
+                    toInt(values.get("height")), toInt(values.get("width")));
+            snapshots.add(new ElementSnapshot((String) values.get("tag"), (String) values.get("text"),
+                    Boolean.TRUE.equals(values.get("displayed")), Boolean.TRUE.equals(values.get("enabled")),
+                    attributes, rect));
+        }
+        return snapshots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static TableSnapshot toTable(Object result) {
+        Map<String, Object> values = (Map<String, Object>) result;
+        List<List<String>> rows = new ArrayList<>();
+        for (Object row : (List<Object>) values.get("rows")) {
+            rows.add(new ArrayList<>((List<String>) row));
+        }
+        return new TableSnapshot(Boolean.TRUE.equals(values.get("displayed")),
+                new ArrayList<>((List<String>) values.get("headers")), rows);
+    }
+
+    private static int toInt(Object number) {
+        return number instanceof Number ? (int) Math.round(((Number) number).doubleValue()) : 0;
+    }
+}
@@ -0,0 +1,71 @@
+package com.automation.ui.actions;
+
+import org.openqa.selenium.Rectangle;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Element Snapshot - Immutable copy of an element's state read in a bulk DOM read
+ * Values reflect the DOM at the moment of the read and are not refreshed afterwards
+ */
+public class ElementSnapshot {
+    private final String tagName;
+    private final String text;
+    private final boolean displayed;
+    private final boolean enabled;
+    private final Map<String, String> attributes;
+    private final Rectangle rect;
+
+    public ElementSnapshot(String tagName, String text, boolean displayed, boolean enabled,
+                           Map<String, String> attributes, Rectangle rect) {
+        this.tagName = tagName;
+        this.text = text;
+        this.displayed = displayed;
+        this.enabled = enabled;
+        this.attributes = Collections.unmodifiableMap(attributes);
+        this.rect = rect;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    /**
+     * Rendered text, empty for hidden elements like WebElement.getText()
+     */
+    public String getText() {
+        return text;
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get one of the attributes requested in the read, or null when absent
+     */
+    public String getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Position relative to the document and size in CSS pixels
+     */
+    public Rectangle getRect() {
+        return rect;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementSnapshot{" + tagName + ", text='" + text + "', displayed=" + displayed + "}";
+    }
+}
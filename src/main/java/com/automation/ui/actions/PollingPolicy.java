@@ -0,0 +1,112 @@
+package com.automation.ui.actions;
+
+import com.automation.config.ConfigManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Polling Policy - Decides how long AdaptiveWait sleeps between condition checks
+ * The default policy polls quickly at first, so a condition that becomes true
+ * after a few milliseconds is seen almost immediately, then backs off
+ * exponentially with jitter so long waits do not flood the driver
+ */
+public interface PollingPolicy {
+
+    /**
+     * Interval to sleep after the given (zero based) failed attempt
+     */
+    Duration nextInterval(int attempt);
+
+    /**
+     * Same interval after every attempt, like WebDriverWait's default 500 ms polling
+     */
+    static PollingPolicy fixed(Duration interval) {
+        return new BackoffPolicy(0, Duration.ZERO, interval, 1.0, interval, 0.0);
+    }
+
+    /**
+     * Interval growing by the multiplier per attempt up to the maximum, randomized by +/- jitter (0..1)
+     */
+    static PollingPolicy exponential(Duration initial, double multiplier, Duration max, double jitter) {
+        return new BackoffPolicy(0, Duration.ZERO, initial, multiplier, max, jitter);
+    }
+
+    /**
+     * A number of fast polls at a short interval, then exponential backoff with jitter
+     */
+    static PollingPolicy adaptive(int fastPolls, Duration fastInterval, Duration initial, double multiplier,
+                                  Duration max, double jitter) {
+        return new BackoffPolicy(fastPolls, fastInterval, initial, multiplier, max, jitter);
+    }
+
+    /**
+     * Policy configured by the wait.polling.* properties, built once
+     */
+    static PollingPolicy fromConfig() {
+        return BackoffPolicy.CONFIGURED;
+    }
+
+    /**
+     * Fast initial polls followed by capped exponential backoff with jitter
+     */
+    final class BackoffPolicy implements PollingPolicy {
+        private static final PollingPolicy CONFIGURED = configured();
+
+        private final int fastPolls;
+        private final long fastIntervalNanos;
+        private final long initialNanos;
+        private final double multiplier;
+        private final long maxNanos;
+        private final double jitter;
+
+        private BackoffPolicy(int fastPolls, Duration fastInterval, Duration initial, double multiplier,
+                              Duration max, double jitter) {
+            if (multiplier < 1.0 || jitter < 0.0 || jitter > 1.0) {
+                throw new IllegalArgumentException("Invalid polling policy: multiplier=" + multiplier + ", jitter=" + jitter);
+            }
+            this.fastPolls = fastPolls;
+            this.fastIntervalNanos = fastInterval.toNanos();
+            this.initialNanos = initial.toNanos();
+            this.multiplier = multiplier;
+            this.maxNanos = max.toNanos();
+            this.jitter = jitter;
+        }
+
+        private static PollingPolicy configured() {
+            ConfigManager config = ConfigManager.getInstance();
+            if ("fixed".equalsIgnoreCase(config.getProperty("wait.polling.policy", "adaptive"))) {
+                return fixed(Duration.ofMillis(config.getIntProperty("wait.polling.initial.ms", 500)));
+            }
+            return adaptive(config.getIntProperty("wait.polling.fast.count", 3),
+                    Duration.ofMillis(config.getIntProperty("wait.polling.fast.interval.ms", 10)),
+                    Duration.ofMillis(config.getIntProperty("wait.polling.initial.ms", 25)),
+                    Double.parseDouble(config.getProperty("wait.polling.multiplier", "2")),
+                    Duration.ofMillis(config.getIntProperty("wait.polling.max.ms", 250)),
+                    Double.parseDouble(config.getProperty("wait.polling.jitter", "0.2")));
+        }
+
+        @Override
+        public Duration nextInterval(int attempt) {
+            if (attempt < fastPolls) {
+                return Duration.ofNanos(fastIntervalNanos);
+            }
+            double interval = initialNanos * Math.pow(multiplier, attempt - fastPolls);
+            interval = Math.min(interval, maxNanos);
+            if (jitter > 0) {
+                interval *= 1.0 + jitter * (ThreadLocalRandom.current().nextDouble() * 2.0 - 1.0);
+            }
+            return Duration.ofNanos((long) interval);
+        }
+
+        @Override
+        public String toString() {
+            if (multiplier == 1.0 && fastPolls == 0 && jitter == 0.0) {
+                return "fixed " + initialNanos / 1_000_000 + " ms polling";
+            }
+            return String.format("%d x %d ms, then %d ms x%.1f up to %d ms (jitter %.0f%%) polling",
+                    fastPolls, fastIntervalNanos / 1_000_000, initialNanos / 1_000_000, multiplier,
+                    maxNanos / 1_000_000, jitter * 100);
+        }
+    }
+}
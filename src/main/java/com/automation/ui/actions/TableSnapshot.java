@@ -0,0 +1,61 @@
+package com.automation.ui.actions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Table Snapshot - Header and body cell text of an HTML table read in a single round trip
+ */
+public class TableSnapshot {
+    private final boolean displayed;
+    private final List<String> headers;
+    private final List<List<String>> rows;
+
+    public TableSnapshot(boolean displayed, List<String> headers, List<List<String>> rows) {
+        this.displayed = displayed;
+        this.headers = Collections.unmodifiableList(headers);
+        this.rows = Collections.unmodifiableList(rows);
+    }
+
+    public boolean isDisplayed() {
+        return displayed;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public List<List<String>> getRows() {
+        return rows;
+    }
+
+    public int getRowCount() {
+        return rows.size();
+    }
+
+    public int getHeaderCount() {
+        return headers.size();
+    }
+
+    /**
+     * Get header text, or an empty string when the index is out of range
+     */
+    public String getHeader(int index) {
+        return index >= 0 && index < headers.size() ? headers.get(index) : "";
+    }
+
+    /**
+     * Get body cell (td) text, or an empty string when the row or column is out of range
+     */
+    public String getCell(int row, int column) {
+        if (row < 0 || row >= rows.size()) {
+            return "";
+        }
+        List<String> cells = rows.get(row);
+        return column >= 0 && column < cells.size() ? cells.get(column) : "";
+    }
+
+    public boolean hasData() {
+        return !headers.isEmpty() && !rows.isEmpty();
+    }
+}
@@ -1,38 +1,139 @@
 package com.automation.ui.actions;
 
+import com.automation.config.ConfigManager;
+import com.automation.core.driver.DriverFactory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 import java.time.Duration;
 
 /**
  * Wait Actions - Centralized wait strategies and utilities
+ * Condition-based waits take a budget (the longest they may take) and return
+ * as soon as the condition holds, recording the time saved in WaitStatistics.
+ * Waits poll with the configured PollingPolicy; with wait.mode=browser, element
+ * visibility and text waits run inside the page in a single async script call
  */
 public class WaitActions {
     private static final Logger logger = LogManager.getLogger(WaitActions.class);
     private WebDriver driver;
+    private WaitContext context;
     private WebDriverWait wait;
-    private static final int DEFAULT_TIMEOUT = 30;
+    private Duration timeout;
+    private boolean browserWaitMode;
+    private static final Duration DOM_QUIET_PERIOD = Duration.ofMillis(100);
+    
+    // Resolves once the scroll position is unchanged for two animation frames
+    private static final String SCROLL_SETTLED_SCRIPT =
+            "var budget = arguments[0], done = arguments[arguments.length - 1];"
+            + "var finished = false, stable = 0, lastX = window.pageXOffset, lastY = window.pageYOffset;"
+            + "function finish(result) { if (!finished) { finished = true; done(result); } }"
+            + "function check() {"
+            + "  var x = window.pageXOffset, y = window.pageYOffset;"
+            + "  stable = (x === lastX && y === lastY) ? stable + 1 : 0;"
+            + "  lastX = x; lastY = y;"
+            + "  if (stable >= 2) { finish(true); } else if (!finished) { requestAnimationFrame(check); }"
+            + "}"
+            + "setTimeout(function() { finish(false); }, budget);"
+            + "requestAnimationFrame(check);";
+    
+    // Resolves once no DOM mutation has been observed for the quiet period
+    private static final String DOM_QUIESCED_SCRIPT =
+            "var target = arguments[0] || document.documentElement, quiet = arguments[1], budget = arguments[2];"
+            + "var done = arguments[arguments.length - 1], finished = false, timer, limit;"
+            + "var observer = new MutationObserver(function() {"
+            + "  clearTimeout(timer); timer = setTimeout(function() { finish(true); }, quiet);"
+            + "});"
+            + "function finish(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true; observer.disconnect(); clearTimeout(timer); clearTimeout(limit); done(result);"
+            + "}"
+            + "observer.observe(target, {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "timer = setTimeout(function() { finish(true); }, quiet);"
+            + "limit = setTimeout(function() { finish(false); }, budget);";
+    
+    // Resolves once every finite CSS/Web animation on the element (or document) has finished
+    private static final String ANIMATIONS_FINISHED_SCRIPT =
+            "var target = arguments[0], budget = arguments[1], done = arguments[arguments.length - 1];"
+            + "var scope = target || document;"
+            + "if (!scope.getAnimations) { done(true); return; }"
+            + "var animations = (target ? target.getAnimations({subtree: true}) : document.getAnimations())"
+            + "    .filter(function(a) { return a.effect && a.effect.getComputedTiming().endTime !== Infinity; });"
+            + "if (animations.length === 0) { done(true); return; }"
+            + "var finished = false;"
+            + "function finish(result) { if (!finished) { finished = true; done(result); } }"
+            + "setTimeout(function() { finish(false); }, budget);"
+            + "Promise.all(animations.map(function(a) { return a.finished; }))"
+            + "    .then(function() { finish(true); }, function() { finish(true); });";
+    
+    // Resolves once the predicate holds, re-checked on every DOM mutation and animation frame
+    private static final String IN_PAGE_WAIT_SCRIPT =
+            "var timeout = arguments[0], done = arguments[arguments.length - 1];"
+            + "var args = Array.prototype.slice.call(arguments, 1, arguments.length - 1);"
+            + "function predicate(args) { %s }"
+            + "var finished = false, observer = null, limit;"
+            + "function finish(result) {"
+            + "  if (finished) { return; }"
+            + "  finished = true; if (observer) { observer.disconnect(); } clearTimeout(limit); done(result);"
+            + "}"
+            + "function check() { try { if (predicate(args)) { finish(true); } } catch (e) { } }"
+            + "function frame() { if (!finished) { check(); requestAnimationFrame(frame); } }"
+            + "check();"
+            + "if (!finished) {"
+            + "  observer = new MutationObserver(check);"
+            + "  observer.observe(document.documentElement,"
+            + "      {childList: true, subtree: true, attributes: true, characterData: true});"
+            + "  limit = setTimeout(function() { finish(false); }, timeout);"
+            + "  requestAnimationFrame(frame);"
+            + "}";
+    
+    private static final String VISIBLE_PREDICATE =
+            "var e = args[0], style = window.getComputedStyle(e);"
+            + "return e.isConnected && style.visibility !== 'hidden' && style.opacity !== '0'"
+            + "    && e.getClientRects().length > 0;";
+    
+    private static final String TEXT_PRESENT_PREDICATE =
+            "return args[0].isConnected && args[0].innerText.indexOf(args[1]) !== -1;";
     
     public WaitActions(WebDriver driver) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        this(driver, ConfigManager.getInstance().getIntProperty("selenium.timeout", 30));
     }
     
     public WaitActions(WebDriver driver, int timeoutInSeconds) {
-        this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(timeoutInSeconds));
+        this(new WaitContext(driver), Duration.ofSeconds(timeoutInSeconds));
+    }
+    
+    /**
+     * Wait actions backed by the shared waiters of a wait context
+     */
+    public WaitActions(WaitContext context, Duration timeout) {
+        this.driver = context.getDriver();
+        this.context = context;
+        this.timeout = timeout;
+        this.wait = context.getWait(timeout);
+        this.browserWaitMode = "browser".equalsIgnoreCase(
+                ConfigManager.getInstance().getProperty("wait.mode", "driver"));
     }
     
     public WebElement waitForElementToBeVisible(WebElement element) {
         logger.debug("Waiting for element to be visible");
+        if (browserWaitMode && inPageWait("visibility", VISIBLE_PREDICATE, element)) {
+            return element;
+        }
         return wait.until(ExpectedConditions.visibilityOf(element));
     }
     
@@ -96,9 +197,169 @@ public class WaitActions {
     
     public void waitForTextToBePresentInElement(WebElement element, String text) {
         logger.debug("Waiting for text '{}' to be present in element", text);
+        if (browserWaitMode && inPageWait("text to be present", TEXT_PRESENT_PREDICATE, element, text)) {
+            return;
+        }
         wait.until(ExpectedConditions.textToBePresentInElement(element, text));
     }
     
+    /**
+     * Wait inside the page for a JavaScript predicate (a function body over args) to hold,
+     * re-evaluated on DOM mutations and animation frames, in a single async script call
+     */
+    public boolean waitInPage(String name, Duration budget, String predicate, Object... args) {
+        budget = inPageBudget(name, budget);
+        Object[] scriptArgs = new Object[args.length + 1];
+        scriptArgs[0] = budget.toMillis();
+        System.arraycopy(args, 0, scriptArgs, 1, args.length);
+        return waitInBrowser(name + " (in page)", budget, String.format(IN_PAGE_WAIT_SCRIPT, predicate), scriptArgs);
+    }
+    
+    /**
+     * In-page wait for the standard timeout; true when met, false when the element is not in
+     * the DOM yet so the caller should poll from the driver, TimeoutException when not met
+     */
+    private boolean inPageWait(String name, String predicate, Object... args) {
+        if (timeout.compareTo(DriverFactory.getMaxInPageWait()) > 0) {
+            // The driver would abandon the script before the page gives up; poll from the driver instead
+            logger.debug("Timeout {} ms exceeds the in-page wait limit, waiting for {} from the driver",
+                    timeout.toMillis(), name);
+            return false;
+        }
+        boolean met;
+        try {
+            met = waitInPage(name, timeout, predicate, args);
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            logger.debug("In-page wait for {} could not start: {}", name, e.getMessage());
+            return false;
+        }
+        if (!met) {
+            throw new TimeoutException("Expected condition failed: waiting in page for " + name
+                    + " (tried for " + timeout.toMillis() + " ms)");
+        }
+        return true;
+    }
+    
+    /**
+     * Wait until a condition holds or the budget runs out, without throwing on timeout
+     */
+    public boolean waitForCondition(String name, Duration budget, Function<WebDriver, Boolean> condition) {
+        long start = System.nanoTime();
+        boolean met;
+        try {
+            context.getWait(budget).until(named(name, condition));
+            met = true;
+        } catch (TimeoutException e) {
+            met = false;
+        }
+        return recordWait(name, budget, start, met);
+    }
+    
+    /**
+     * Wait for a scroll (including smooth scrolling) to come to rest
+     */
+    public boolean waitForScrollSettled(Duration budget) {
+        budget = inPageBudget("scroll settled", budget);
+        return waitInBrowser("scroll settled", budget, SCROLL_SETTLED_SCRIPT, budget.toMillis());
+    }
+    
+    /**
+     * Wait until the document stops changing, observed with a MutationObserver
+     */
+    public boolean waitForDomQuiesced(Duration budget) {
+        return waitForDomQuiesced(null, budget);
+    }
+    
+    /**
+     * Wait until the subtree of an element stops changing, observed with a MutationObserver
+     */
+    public boolean waitForDomQuiesced(WebElement root, Duration budget) {
+        budget = inPageBudget("DOM quiesced", budget);
+        return waitInBrowser("DOM quiesced", budget, DOM_QUIESCED_SCRIPT,
+                root, DOM_QUIET_PERIOD.toMillis(), budget.toMillis());
+    }
+    
+    /**
+     * Wait for CSS transitions and animations on an element and its descendants to finish
+     */
+    public boolean waitForAnimationsFinished(WebElement element, Duration budget) {
+        budget = inPageBudget("animations finished", budget);
+        return waitInBrowser("animations finished", budget, ANIMATIONS_FINISHED_SCRIPT, element, budget.toMillis());
+    }
+    
+    /**
+     * Wait until at least the given number of browser windows is open
+     */
+    public boolean waitForWindowCount(int count, Duration budget) {
+        return waitForCondition("window count", budget, webDriver -> webDriver.getWindowHandles().size() >= count);
+    }
+    
+    /**
+     * Wait until the current URL differs from the given one, e.g. after a redirect
+     */
+    public boolean waitForUrlChange(String originalUrl, Duration budget) {
+        return waitForCondition("URL changed", budget, webDriver -> !originalUrl.equals(webDriver.getCurrentUrl()));
+    }
+    
+    /**
+     * Budget capped to what the session script timeout leaves an async wait script
+     */
+    private static Duration inPageBudget(String name, Duration budget) {
+        Duration max = DriverFactory.getMaxInPageWait();
+        if (budget.compareTo(max) <= 0) {
+            return budget;
+        }
+        logger.warn("In-page wait for {} capped from {} ms to {} ms by the script timeout",
+                name, budget.toMillis(), max.toMillis());
+        return max;
+    }
+    
+    private boolean waitInBrowser(String name, Duration budget, String script, Object... args) {
+        long start = System.nanoTime();
+        boolean met;
+        try {
+            met = Boolean.TRUE.equals(((JavascriptExecutor) driver).executeAsyncScript(script, args));
+        } catch (ScriptTimeoutException | JavascriptException e) {
+            logger.debug("In-browser wait for {} failed: {}", name, e.getMessage());
+            met = false;
+        }
+        WaitHistogram.record(name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), met, !met);
+        return recordWait(name, budget, start, met);
+    }
+    
+    /**
+     * Give a lambda condition a readable name for timeout messages and the wait histogram.
+     * A stale element counts as not met yet; the shared wait already ignores NotFoundException
+     */
+    private static Function<WebDriver, Boolean> named(String name, Function<WebDriver, Boolean> condition) {
+        return new Function<WebDriver, Boolean>() {
+            @Override
+            public Boolean apply(WebDriver webDriver) {
+                try {
+                    return condition.apply(webDriver);
+                } catch (StaleElementReferenceException e) {
+                    return false;
+                }
+            }
+            
+            @Override
+            public String toString() {
+                return name;
+            }
+        };
+    }
+    
+    private boolean recordWait(String name, Duration budget, long startNanos, boolean met) {
+        Duration waited = Duration.ofNanos(System.nanoTime() - startNanos);
+        WaitStatistics.record(name, budget, waited, met);
+        logger.debug("Wait for {} {} after {} ms (budget {} ms)",
+                name, met ? "met" : "timed out", waited.toMillis(), budget.toMillis());
+        return met;
+    }
+    
+    /**
+     * Fixed sleep - prefer a condition-based wait, which returns as soon as the page is ready
+     */
     public void sleep(long milliseconds) {
         try {
             logger.debug("Sleeping for {} milliseconds", milliseconds);
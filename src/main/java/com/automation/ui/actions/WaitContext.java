@@ -0,0 +1,123 @@
+package com.automation.ui.actions;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Wait Context - Per-session cache of waiters shared by all page objects of a thread
+ * Waiters are keyed by timeout and polling policy; the default timeout is selenium.timeout.
+ * A context is confined to the thread that owns its driver, so the caches are not synchronized
+ */
+public class WaitContext {
+    private static final Logger logger = LogManager.getLogger(WaitContext.class);
+
+    private final WebDriver driver;
+    private final Duration defaultTimeout;
+    private final Duration latencyBudget;
+    private final Map<WaiterKey, AdaptiveWait> waits = new HashMap<>();
+    private final Map<Duration, WaitActions> waitActions = new HashMap<>();
+    private DomReadActions domReadActions;
+
+    public WaitContext(WebDriver driver) {
+        ConfigManager config = ConfigManager.getInstance();
+        this.driver = driver;
+        this.defaultTimeout = Duration.ofSeconds(config.getIntProperty("selenium.timeout", 30));
+        this.latencyBudget = Duration.ofMillis(config.getIntProperty("wait.latency.budget.ms", 1000));
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    public Duration getDefaultTimeout() {
+        return defaultTimeout;
+    }
+
+    /**
+     * Shared wait for the configured timeout and polling policy
+     */
+    public AdaptiveWait getWait() {
+        return getWait(defaultTimeout, PollingPolicy.fromConfig());
+    }
+
+    /**
+     * Shared wait for the given timeout with the configured polling policy
+     */
+    public AdaptiveWait getWait(Duration timeout) {
+        return getWait(timeout, PollingPolicy.fromConfig());
+    }
+
+    /**
+     * Shared wait for the given timeout and polling policy. Callers must not reconfigure
+     * the returned instance (ignoring, withTimeout, ...) since other pages use it too
+     */
+    public AdaptiveWait getWait(Duration timeout, PollingPolicy policy) {
+        return waits.computeIfAbsent(new WaiterKey(timeout, policy), key -> {
+            logger.debug("Creating {} s wait with {} for thread: {}", timeout.getSeconds(), policy,
+                    Thread.currentThread().getName());
+            return new AdaptiveWait(driver, timeout, policy, latencyBudget);
+        });
+    }
+
+    /**
+     * Shared wait actions for the configured timeout
+     */
+    public WaitActions getWaitActions() {
+        return getWaitActions(defaultTimeout);
+    }
+
+    /**
+     * Shared wait actions for the given timeout
+     */
+    public WaitActions getWaitActions(Duration timeout) {
+        return waitActions.computeIfAbsent(timeout, key -> new WaitActions(this, timeout));
+    }
+
+    public DomReadActions getDomReadActions() {
+        if (domReadActions == null) {
+            domReadActions = new DomReadActions(driver);
+        }
+        return domReadActions;
+    }
+
+    /**
+     * Number of distinct waiters created in this context
+     */
+    public int getWaitCount() {
+        return waits.size();
+    }
+
+    private static final class WaiterKey {
+        private final Duration timeout;
+        private final PollingPolicy policy;
+
+        private WaiterKey(Duration timeout, PollingPolicy policy) {
+            this.timeout = timeout;
+            this.policy = policy;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof WaiterKey)) {
+                return false;
+            }
+            WaiterKey key = (WaiterKey) other;
+            return timeout.equals(key.timeout) && policy.equals(key.policy);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(timeout, policy);
+        }
+    }
+}
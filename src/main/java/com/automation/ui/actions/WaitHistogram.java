@@ -0,0 +1,78 @@
+package com.automation.ui.actions;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wait Histogram - Suite-wide distribution of actual wait durations per condition type
+ * Used to tune the polling policy and latency budgets; logged when the suite finishes
+ */
+public class WaitHistogram {
+    private static final long[] BUCKET_BOUNDS_MS = {10, 25, 50, 100, 250, 500, 1000, 2500, 5000};
+    private static final Map<String, Buckets> conditions = new ConcurrentHashMap<>();
+
+    /**
+     * Record how long a wait on a condition type took
+     */
+    public static void record(String conditionType, long waitedMillis, boolean met, boolean overBudget) {
+        Buckets buckets = conditions.computeIfAbsent(conditionType, type -> new Buckets());
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MS.length && waitedMillis > BUCKET_BOUNDS_MS[bucket]) {
+            bucket++;
+        }
+        buckets.counts[bucket].increment();
+        buckets.totalMillis.add(waitedMillis);
+        if (!met) {
+            buckets.timeouts.increment();
+        }
+        if (overBudget) {
+            buckets.overBudget.increment();
+        }
+    }
+
+    public static void reset() {
+        conditions.clear();
+    }
+
+    public static String summary() {
+        if (conditions.isEmpty()) {
+            return "no waits recorded";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Buckets> entry : new TreeMap<>(conditions).entrySet()) {
+            Buckets buckets = entry.getValue();
+            long count = 0;
+            StringBuilder histogram = new StringBuilder();
+            for (int i = 0; i < buckets.counts.length; i++) {
+                long bucketCount = buckets.counts[i].sum();
+                count += bucketCount;
+                if (bucketCount > 0) {
+                    String label = i < BUCKET_BOUNDS_MS.length
+                            ? "<=" + BUCKET_BOUNDS_MS[i]
+                            : ">" + BUCKET_BOUNDS_MS[BUCKET_BOUNDS_MS.length - 1];
+                    histogram.append(' ').append(label).append("ms:").append(bucketCount);
+                }
+            }
+            builder.append(System.lineSeparator())
+                    .append(String.format("  %-40s count=%d, mean=%dms, timeouts=%d, over budget=%d |%s",
+                            entry.getKey(), count, count == 0 ? 0 : buckets.totalMillis.sum() / count,
+                            buckets.timeouts.sum(), buckets.overBudget.sum(), histogram));
+        }
+        return builder.toString();
+    }
+
+    private static final class Buckets {
+        private final LongAdder[] counts = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+        private final LongAdder totalMillis = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+
+        private Buckets() {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = new LongAdder();
+            }
+        }
+    }
+}
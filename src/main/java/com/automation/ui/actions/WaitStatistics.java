@@ -0,0 +1,73 @@
+package com.automation.ui.actions;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wait Statistics - Per-thread record of condition-based waits
+ * Each wait has a budget equal to the fixed sleep it replaced, so the
+ * budget minus the time actually waited is wall-clock time saved
+ */
+public class WaitStatistics {
+    private static final ThreadLocal<Map<String, ConditionStats>> conditions =
+            ThreadLocal.withInitial(LinkedHashMap::new);
+
+    /**
+     * Record one wait on a condition against its budget
+     */
+    public static void record(String condition, Duration budget, Duration waited, boolean met) {
+        ConditionStats stats = conditions.get().computeIfAbsent(condition, name -> new ConditionStats());
+        stats.count++;
+        if (!met) {
+            stats.timeouts++;
+        }
+        stats.waitedMillis += waited.toMillis();
+        stats.savedMillis += Math.max(0, budget.toMillis() - waited.toMillis());
+    }
+
+    /**
+     * Clear the statistics at the start of a test
+     */
+    public static void reset() {
+        conditions.get().clear();
+    }
+
+    public static boolean isEmpty() {
+        return conditions.get().isEmpty();
+    }
+
+    public static long getWaitedMillis() {
+        long total = 0;
+        for (ConditionStats stats : conditions.get().values()) {
+            total += stats.waitedMillis;
+        }
+        return total;
+    }
+
+    public static long getSavedMillis() {
+        long total = 0;
+        for (ConditionStats stats : conditions.get().values()) {
+            total += stats.savedMillis;
+        }
+        return total;
+    }
+
+    public static String summary() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("waited=%dms, saved=%dms", getWaitedMillis(), getSavedMillis()));
+        for (Map.Entry<String, ConditionStats> entry : conditions.get().entrySet()) {
+            ConditionStats stats = entry.getValue();
+            builder.append(String.format("; %s: count=%d, timeouts=%d, waited=%dms, saved=%dms",
+                    entry.getKey(), stats.count, stats.timeouts, stats.waitedMillis, stats.savedMillis));
+        }
+        return builder.toString();
+    }
+
+    private static final class ConditionStats {
+        private int count;
+        private int timeouts;
+        private long waitedMillis;
+        private long savedMillis;
+    }
+}
@@ -4,6 +4,8 @@ import com.automation.constants.FrameworkConstants;
 import com.automation.core.base.BasePage;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Login Page - Page Object for login functionality
@@ -27,10 +29,15 @@ public class LoginPage extends BasePage {
     @FindBy(css = "div.login h2")
     private WebElement pageHeading;
     
+    // Ready as soon as the login form can be filled in
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.visibilityOf(usernameField);
+    }
+    
     // Page Navigation
     public LoginPage navigateToLoginPage() {
-        navigateToUrl(config.getProperty("app.base.url") + FrameworkConstants.LOGIN_URL);
-        waitForPageLoad();
+        navigateToUrl(FrameworkConstants.LOGIN_URL);
         logger.info("Navigated to login page");
         return this;
     }
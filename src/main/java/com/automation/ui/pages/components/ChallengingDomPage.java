@@ -1,9 +1,11 @@
 package com.automation.ui.pages.components;
 
 import com.automation.core.base.BasePage;
-import org.openqa.selenium.By;
+import com.automation.ui.actions.ElementSnapshot;
+import com.automation.ui.actions.TableSnapshot;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.CacheLookup;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
@@ -12,30 +14,39 @@ import java.util.List;
 public class ChallengingDomPage extends BasePage {
     
     @FindBy(css = ".button")
+    @CacheLookup
     private List<WebElement> buttons;
     
     @FindBy(css = ".button:nth-child(1)")
+    @CacheLookup
     private WebElement redButton;
     
     @FindBy(css = ".button:nth-child(2)")
+    @CacheLookup
     private WebElement blueButton;
     
     @FindBy(css = ".button:nth-child(3)")
+    @CacheLookup
     private WebElement greenButton;
     
     @FindBy(css = "h3")
+    @CacheLookup
     private WebElement pageTitle;
     
     @FindBy(css = "table")
+    @CacheLookup
     private WebElement dataTable;
     
     @FindBy(css = "table tbody tr")
+    @CacheLookup
     private List<WebElement> tableRows;
     
     @FindBy(css = "table thead th")
+    @CacheLookup
     private List<WebElement> tableHeaders;
     
     @FindBy(css = "canvas")
+    @CacheLookup
     private WebElement canvasElement;
 
     public ChallengingDomPage() {
@@ -119,12 +130,16 @@ public class ChallengingDomPage extends BasePage {
         return tableHeaders.size();
     }
 
+    /**
+     * Read every header and cell of the table in a single round trip
+     */
+    public TableSnapshot getTableSnapshot() {
+        return domReadActions.readTable(dataTable);
+    }
+
     public String getTableHeaderText(int index) {
         try {
-            if (index >= 0 && index < tableHeaders.size()) {
-                return tableHeaders.get(index).getText();
-            }
-            return "";
+            return getTableSnapshot().getHeader(index);
         } catch (Exception e) {
             return "";
         }
@@ -132,13 +147,7 @@ public class ChallengingDomPage extends BasePage {
 
     public String getTableCellText(int row, int col) {
         try {
-            if (row >= 0 && row < tableRows.size()) {
-                List<WebElement> cells = tableRows.get(row).findElements(By.tagName("td"));
-                if (col >= 0 && col < cells.size()) {
-                    return cells.get(col).getText();
-                }
-            }
-            return "";
+            return getTableSnapshot().getCell(row, col);
         } catch (Exception e) {
             return "";
         }
@@ -160,10 +169,18 @@ public class ChallengingDomPage extends BasePage {
         }
     }
 
+    /**
+     * Read text, class and visibility of every button in a single round trip
+     */
+    public List<ElementSnapshot> getButtonSnapshots() {
+        return domReadActions.readElements(buttons, "class");
+    }
+
     public String getButtonText(int index) {
         try {
-            if (index >= 0 && index < buttons.size()) {
-                return buttons.get(index).getText();
+            List<ElementSnapshot> snapshots = getButtonSnapshots();
+            if (index >= 0 && index < snapshots.size()) {
+                return snapshots.get(index).getText();
             }
             return "";
         } catch (Exception e) {
@@ -173,8 +190,9 @@ public class ChallengingDomPage extends BasePage {
 
     public String getButtonClass(int index) {
         try {
-            if (index >= 0 && index < buttons.size()) {
-                return buttons.get(index).getAttribute("class");
+            List<ElementSnapshot> snapshots = getButtonSnapshots();
+            if (index >= 0 && index < snapshots.size()) {
+                return snapshots.get(index).getAttribute("class");
             }
             return "";
         } catch (Exception e) {
@@ -183,7 +201,11 @@ public class ChallengingDomPage extends BasePage {
     }
 
     public boolean hasTableData() {
-        return getTableRowsCount() > 0 && getTableHeadersCount() > 0;
+        try {
+            return getTableSnapshot().hasData();
+        } catch (Exception e) {
+            return false;
+        }
     }
 
     public void clickAllButtons() {
@@ -193,7 +215,11 @@ public class ChallengingDomPage extends BasePage {
     }
 
     public boolean verifyTableStructure() {
-        return isTableVisible() && hasTableData() && 
-               getTableHeadersCount() > 0 && getTableRowsCount() > 0;
+        try {
+            TableSnapshot table = getTableSnapshot();
+            return table.isDisplayed() && table.hasData();
+        } catch (Exception e) {
+            return false;
+        }
     }
 }
\ No newline at end of file
@@ -1,12 +1,14 @@
 package com.automation.ui.pages.components;
 
 import com.automation.core.base.BasePage;
+import com.automation.ui.actions.ElementSnapshot;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.time.Duration;
 import java.util.List;
 
 public class FloatingMenuPage extends BasePage {
@@ -67,7 +69,7 @@ public class FloatingMenuPage extends BasePage {
     public void scrollToBottom() {
         try {
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, document.body.scrollHeight);");
-            Thread.sleep(1000); // Wait for scroll animation
+            waitActions.waitForScrollSettled(Duration.ofMillis(1000));
         } catch (Exception e) {
             throw new RuntimeException("Failed to scroll to bottom: " + e.getMessage());
         }
@@ -76,7 +78,7 @@ public class FloatingMenuPage extends BasePage {
     public void scrollToTop() {
         try {
             ((JavascriptExecutor) driver).executeScript("window.scrollTo(0, 0);");
-            Thread.sleep(1000); // Wait for scroll animation
+            waitActions.waitForScrollSettled(Duration.ofMillis(1000));
         } catch (Exception e) {
             throw new RuntimeException("Failed to scroll to top: " + e.getMessage());
         }
@@ -85,7 +87,7 @@ public class FloatingMenuPage extends BasePage {
     public void scrollByPixels(int pixels) {
         try {
             ((JavascriptExecutor) driver).executeScript("window.scrollBy(0, " + pixels + ");");
-            Thread.sleep(500); // Wait for scroll animation
+            waitActions.waitForScrollSettled(Duration.ofMillis(500));
         } catch (Exception e) {
             throw new RuntimeException("Failed to scroll by pixels: " + e.getMessage());
         }
@@ -176,9 +178,16 @@ public class FloatingMenuPage extends BasePage {
         }
     }
 
+    /**
+     * Read text, href and state of every menu item in a single round trip
+     */
+    public List<ElementSnapshot> getMenuItemSnapshots() {
+        return domReadActions.readElements(menuItems, "href");
+    }
+
     public boolean areMenuItemsClickable() {
         try {
-            for (WebElement menuItem : menuItems) {
+            for (ElementSnapshot menuItem : getMenuItemSnapshots()) {
                 if (!menuItem.isEnabled()) {
                     return false;
                 }
@@ -191,8 +200,9 @@ public class FloatingMenuPage extends BasePage {
 
     public String getMenuItemText(int index) {
         try {
-            if (index >= 0 && index < menuItems.size()) {
-                return menuItems.get(index).getText();
+            List<ElementSnapshot> snapshots = getMenuItemSnapshots();
+            if (index >= 0 && index < snapshots.size()) {
+                return snapshots.get(index).getText();
             }
             return "";
         } catch (Exception e) {
@@ -1,30 +1,38 @@
 package com.automation.ui.pages.components;
 
 import com.automation.core.base.BasePage;
+import com.automation.ui.actions.ElementSnapshot;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.interactions.Actions;
+import org.openqa.selenium.support.CacheLookup;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.time.Duration;
 import java.util.List;
 
 public class HoverInteractionsPage extends BasePage {
     
     @FindBy(css = ".figure")
+    @CacheLookup
     private List<WebElement> userAvatars;
     
     @FindBy(css = "h3")
+    @CacheLookup
     private WebElement pageTitle;
     
     @FindBy(css = ".figcaption")
+    @CacheLookup
     private List<WebElement> userInfoContainers;
     
     @FindBy(css = ".figcaption h5")
+    @CacheLookup
     private List<WebElement> userNames;
     
     @FindBy(css = ".figcaption a")
+    @CacheLookup
     private List<WebElement> viewProfileLinks;
 
     public HoverInteractionsPage() {
@@ -62,10 +70,25 @@ public class HoverInteractionsPage extends BasePage {
         }
     }
 
+    /**
+     * Read visibility of every user info container in a single round trip
+     */
+    public List<ElementSnapshot> getUserInfoSnapshots() {
+        return domReadActions.readElements(userInfoContainers);
+    }
+
+    /**
+     * Read every user name in a single round trip; names are empty until their avatar is hovered
+     */
+    public List<ElementSnapshot> getUserNameSnapshots() {
+        return domReadActions.readElements(userNames);
+    }
+
     public boolean isUserInfoVisible(int index) {
         try {
-            if (index >= 0 && index < userInfoContainers.size()) {
-                return userInfoContainers.get(index).isDisplayed();
+            List<ElementSnapshot> snapshots = getUserInfoSnapshots();
+            if (index >= 0 && index < snapshots.size()) {
+                return snapshots.get(index).isDisplayed();
             }
             return false;
         } catch (Exception e) {
@@ -75,8 +98,9 @@ public class HoverInteractionsPage extends BasePage {
 
     public String getUserName(int index) {
         try {
-            if (index >= 0 && index < userNames.size()) {
-                return userNames.get(index).getText();
+            List<ElementSnapshot> snapshots = getUserNameSnapshots();
+            if (index >= 0 && index < snapshots.size()) {
+                return snapshots.get(index).getText();
             }
             return "";
         } catch (Exception e) {
@@ -107,12 +131,10 @@ public class HoverInteractionsPage extends BasePage {
     public void hoverAndVerifyUserInfo(int index, String expectedUserName) {
         hoverOverAvatar(index);
         
-        // Wait a moment for hover effect
-        try {
-            Thread.sleep(500);
-        } catch (InterruptedException e) {
-            // Ignore
-        }
+        // Wait for the hover effect to show the caption
+        waitActions.waitForAnimationsFinished(userAvatars.get(index), Duration.ofMillis(500));
+        waitActions.waitForCondition("hover caption visible", Duration.ofMillis(500),
+                webDriver -> userInfoContainers.get(index).isDisplayed());
         
         if (!isUserInfoVisible(index)) {
             throw new RuntimeException("User info not visible after hovering over avatar " + index);
@@ -126,8 +148,9 @@ public class HoverInteractionsPage extends BasePage {
 
     public boolean isViewProfileLinkVisible(int index) {
         try {
-            if (index >= 0 && index < viewProfileLinks.size()) {
-                return viewProfileLinks.get(index).isDisplayed();
+            List<ElementSnapshot> snapshots = domReadActions.readElements(viewProfileLinks);
+            if (index >= 0 && index < snapshots.size()) {
+                return snapshots.get(index).isDisplayed();
             }
             return false;
         } catch (Exception e) {
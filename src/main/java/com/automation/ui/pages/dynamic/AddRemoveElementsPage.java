@@ -7,6 +7,7 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.time.Duration;
 import java.util.List;
 
 public class AddRemoveElementsPage extends BasePage {
@@ -56,8 +57,8 @@ public class AddRemoveElementsPage extends BasePage {
 
     public int getDeleteButtonsCount() {
         try {
-            // Wait a moment for elements to be added to DOM
-            Thread.sleep(500);
+            // Wait for elements to be added to DOM
+            waitActions.waitForDomQuiesced(elementsContainer, Duration.ofMillis(500));
             return deleteButtons.size();
         } catch (Exception e) {
             return 0;
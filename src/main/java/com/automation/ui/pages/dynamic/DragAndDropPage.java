@@ -7,6 +7,8 @@ import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.time.Duration;
+
 public class DragAndDropPage extends BasePage {
     
     @FindBy(id = "column-a")
@@ -137,7 +139,9 @@ public class DragAndDropPage extends BasePage {
 
     public boolean verifyElementsSwapped(String expectedAText, String expectedBText) {
         try {
-            Thread.sleep(1000); // Wait for animation/DOM update
+            // Wait for animation/DOM update
+            waitActions.waitForCondition("drag and drop swap", Duration.ofMillis(1000),
+                    webDriver -> expectedAText.equals(getColumnAText()) && expectedBText.equals(getColumnBText()));
             String actualAText = getColumnAText();
             String actualBText = getColumnBText();
             
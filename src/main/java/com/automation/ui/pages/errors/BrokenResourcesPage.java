@@ -1,8 +1,12 @@
 package com.automation.ui.pages.errors;
 
 import com.automation.core.base.BasePage;
+import com.automation.utils.ResourceAuditReport;
+import com.automation.utils.ResourceAuditor;
+import com.automation.utils.ResourceCheck;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.CacheLookup;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
@@ -11,20 +15,28 @@ import java.util.List;
 public class BrokenResourcesPage extends BasePage {
     
     @FindBy(css = "h3")
+    @CacheLookup
     private WebElement pageTitle;
     
     @FindBy(css = "img")
+    @CacheLookup
     private List<WebElement> images;
     
     @FindBy(css = "p")
+    @CacheLookup
     private WebElement instructionText;
 
+    // Last audit and the URL it was taken on, shared by the per-image and count checks
+    private ResourceAuditReport audit;
+    private String auditUrl;
+
     public BrokenResourcesPage() {
         super();
     }
 
     public void navigateToBrokenImagesPage() {
         navigateToUrl("/broken_images");
+        audit = null;
     }
 
     public boolean isBrokenImagesPageDisplayed() {
@@ -44,15 +56,29 @@ public class BrokenResourcesPage extends BasePage {
         return !images.isEmpty();
     }
 
+    /**
+     * Collect every img, script, stylesheet and src resource of the page and verify them over HTTP
+     */
+    public ResourceAuditReport auditResources() {
+        auditUrl = driver.getCurrentUrl();
+        audit = new ResourceAuditor(driver).audit();
+        return audit;
+    }
+
+    /**
+     * The last audit while the browser is still on the page it was taken on, else a new one
+     */
+    private ResourceAuditReport currentAudit() {
+        if (audit == null || !driver.getCurrentUrl().equals(auditUrl)) {
+            return auditResources();
+        }
+        return audit;
+    }
+
     public boolean isImageBroken(int index) {
         try {
-            if (index >= 0 && index < images.size()) {
-                WebElement image = images.get(index);
-                // Check if image has loaded by examining naturalWidth
-                Object naturalWidth = jsExecutor.executeScript("return arguments[0].naturalWidth", image);
-                return naturalWidth.equals(0L);
-            }
-            return false;
+            List<ResourceCheck> checks = currentAudit().getImages();
+            return index >= 0 && index < checks.size() && checks.get(index).isBroken();
         } catch (Exception e) {
             return true; // Consider it broken if we can't check
         }
@@ -81,13 +107,7 @@ public class BrokenResourcesPage extends BasePage {
     }
 
     public int getBrokenImagesCount() {
-        int brokenCount = 0;
-        for (int i = 0; i < images.size(); i++) {
-            if (isImageBroken(i)) {
-                brokenCount++;
-            }
-        }
-        return brokenCount;
+        return currentAudit().getBrokenImages().size();
     }
 
     public int getWorkingImagesCount() {
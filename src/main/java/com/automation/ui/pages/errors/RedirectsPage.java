@@ -1,12 +1,20 @@
 package com.automation.ui.pages.errors;
 
 import com.automation.core.base.BasePage;
+import com.automation.server.ApplicationUnderTest;
+import com.automation.utils.HttpProbe;
+import com.automation.utils.HttpProbeResult;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+
 public class RedirectsPage extends BasePage {
+    private static final String REDIRECT_URL = "/redirect";
     
     @FindBy(css = "h3")
     private WebElement pageTitle;
@@ -102,11 +110,7 @@ public class RedirectsPage extends BasePage {
         clickRedirectLink();
         
         // Wait for potential redirect
-        try {
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            // Ignore
-        }
+        waitActions.waitForUrlChange(originalUrl, Duration.ofMillis(2000));
         
         if (!hasRedirectOccurred(originalUrl)) {
             throw new RuntimeException("Redirect should have occurred from: " + originalUrl);
@@ -140,8 +144,23 @@ public class RedirectsPage extends BasePage {
         }
     }
 
+    /**
+     * Whether the redirect link answers with a 3xx status, checked over HTTP
+     */
     public boolean isHttpRedirect() {
-        String currentUrl = getCurrentUrl();
-        return currentUrl.startsWith("http") && !currentUrl.contains("redirector");
+        try {
+            return HttpProbe.probe(ApplicationUnderTest.resolve(REDIRECT_URL)).isRedirect();
+        } catch (UncheckedIOException e) {
+            logger.warn("Could not request the redirect link: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Every hop of the redirect link's redirect chain with its status code and Location,
+     * requested over HTTP without the browser; the last hop is the final page
+     */
+    public List<HttpProbeResult> getRedirectChain() {
+        return HttpProbe.followRedirects(ApplicationUnderTest.resolve(REDIRECT_URL));
     }
 }
\ No newline at end of file
@@ -1,14 +1,24 @@
 package com.automation.ui.pages.errors;
 
+import com.automation.constants.FrameworkConstants;
 import com.automation.core.base.BasePage;
+import com.automation.server.ApplicationUnderTest;
+import com.automation.utils.HttpProbe;
+import com.automation.utils.HttpProbeResult;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class StatusCodesPage extends BasePage {
+    private static final Pattern RETURNED_STATUS = Pattern.compile("returned a (\\d{3}) status code");
     
     @FindBy(css = "h3")
     private WebElement pageTitle;
@@ -100,23 +110,59 @@ public class StatusCodesPage extends BasePage {
         return driver.getPageSource();
     }
 
+    /**
+     * Status code the displayed status code page says it was served with, -1 on any other page
+     */
+    public int getDisplayedStatusCode() {
+        Matcher matcher = RETURNED_STATUS.matcher(getStatusMessage());
+        return matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    /**
+     * Whether the browser shows a 4xx or 5xx status code page, or a server error page in its place
+     */
     public boolean isErrorPageDisplayed() {
-        try {
-            String pageSource = getPageSource().toLowerCase();
-            return pageSource.contains("error") || pageSource.contains("not found") || 
-                   pageSource.contains("internal server error");
-        } catch (Exception e) {
-            return false;
+        int statusCode = getDisplayedStatusCode();
+        if (statusCode > 0) {
+            return statusCode >= 400;
         }
+        String pageSource = getPageSource().toLowerCase();
+        return pageSource.contains("not found") || pageSource.contains("internal server error");
     }
 
+    /**
+     * Whether the browser shows a 2xx status code page
+     */
     public boolean isSuccessPageDisplayed() {
-        try {
-            String pageSource = getPageSource().toLowerCase();
-            return pageSource.contains("success") || pageSource.contains("ok") || getCurrentUrl().contains("200");
-        } catch (Exception e) {
-            return false;
+        int statusCode = getDisplayedStatusCode();
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Exact status code of a status code page, requested over HTTP without the browser
+     */
+    public HttpProbeResult probeStatusCode(String statusCode) {
+        return HttpProbe.probe(getStatusCodeUrl(statusCode));
+    }
+
+    /**
+     * Exact status codes of several status code pages, requested concurrently, keyed by code
+     */
+    public Map<String, HttpProbeResult> probeStatusCodes(String... statusCodes) {
+        List<String> urls = new ArrayList<>();
+        for (String statusCode : statusCodes) {
+            urls.add(getStatusCodeUrl(statusCode));
         }
+        Map<String, HttpProbeResult> byUrl = HttpProbe.probeAll(urls);
+        Map<String, HttpProbeResult> byStatusCode = new LinkedHashMap<>();
+        for (String statusCode : statusCodes) {
+            byStatusCode.put(statusCode, byUrl.get(getStatusCodeUrl(statusCode)));
+        }
+        return byStatusCode;
+    }
+
+    private String getStatusCodeUrl(String statusCode) {
+        return ApplicationUnderTest.resolve(FrameworkConstants.STATUS_CODES_URL + "/" + statusCode);
     }
     
     /**
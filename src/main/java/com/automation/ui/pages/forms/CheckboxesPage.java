@@ -4,6 +4,8 @@ import com.automation.constants.FrameworkConstants;
 import com.automation.core.base.BasePage;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 import java.util.List;
 
@@ -23,10 +25,15 @@ public class CheckboxesPage extends BasePage {
     @FindBy(css = "div.example form#checkboxes")
     private WebElement checkboxContainer;
     
+    // Ready as soon as the checkbox form is shown
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.visibilityOf(checkboxContainer);
+    }
+    
     // Page Navigation
     public CheckboxesPage navigateToCheckboxesPage() {
-        navigateToUrl(config.getProperty("app.base.url") + FrameworkConstants.CHECKBOXES_URL);
-        waitForPageLoad();
+        navigateToUrl(FrameworkConstants.CHECKBOXES_URL);
         logger.info("Navigated to checkboxes page");
         return this;
     }
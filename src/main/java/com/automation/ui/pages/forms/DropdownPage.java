@@ -4,6 +4,8 @@ import com.automation.constants.FrameworkConstants;
 import com.automation.core.base.BasePage;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 
 import java.util.List;
@@ -21,10 +23,15 @@ public class DropdownPage extends BasePage {
     @FindBy(css = "h3")
     private WebElement pageHeading;
     
+    // Ready as soon as the dropdown is shown
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.visibilityOf(dropdownElement);
+    }
+    
     // Page Navigation
     public DropdownPage navigateToDropdownPage() {
-        navigateToUrl(config.getProperty("app.base.url") + FrameworkConstants.DROPDOWN_URL);
-        waitForPageLoad();
+        navigateToUrl(FrameworkConstants.DROPDOWN_URL);
         logger.info("Navigated to dropdown page");
         return this;
     }
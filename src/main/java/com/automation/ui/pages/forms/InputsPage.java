@@ -4,6 +4,8 @@ import com.automation.constants.FrameworkConstants;
 import com.automation.core.base.BasePage;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
 /**
  * Inputs Page - Page Object for numeric inputs functionality
@@ -21,10 +23,15 @@ public class InputsPage extends BasePage {
     @FindBy(css = "div.example p")
     private WebElement pageDescription;
     
+    // Ready as soon as the number input is shown
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.visibilityOf(numberInput);
+    }
+    
     // Page Navigation
     public InputsPage navigateToInputsPage() {
-        navigateToUrl(config.getProperty("app.base.url") + FrameworkConstants.INPUTS_URL);
-        waitForPageLoad();
+        navigateToUrl(FrameworkConstants.INPUTS_URL);
         logger.info("Navigated to inputs page");
         return this;
     }
@@ -4,7 +4,10 @@ import com.automation.constants.FrameworkConstants;
 import com.automation.core.base.BasePage;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.time.Duration;
 import java.util.Set;
 
 /**
@@ -30,10 +33,15 @@ public class WindowsPage extends BasePage {
     private String originalWindowHandle;
     private String newWindowHandle;
     
+    // Ready as soon as the new window link is shown
+    @Override
+    protected ExpectedCondition<?> readyCondition() {
+        return ExpectedConditions.visibilityOf(clickHereLink);
+    }
+    
     // Page Navigation
     public WindowsPage navigateToWindowsPage() {
-        navigateToUrl(config.getProperty("app.base.url") + FrameworkConstants.WINDOWS_URL);
-        waitForPageLoad();
+        navigateToUrl(FrameworkConstants.WINDOWS_URL);
         originalWindowHandle = driver.getWindowHandle();
         logger.info("Navigated to windows page. Original window handle: {}", originalWindowHandle);
         return this;
@@ -87,23 +95,9 @@ public class WindowsPage extends BasePage {
     }
     
     private void waitForNewWindowToOpen() {
-        int timeout = 10; // seconds
-        int elapsed = 0;
-        
-        while (elapsed < timeout) {
-            Set<String> allWindows = driver.getWindowHandles();
-            if (allWindows.size() > 1) {
-                logger.info("New window detected. Total windows: {}", allWindows.size());
-                return;
-            }
-            
-            try {
-                Thread.sleep(500);
-                elapsed += 1;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            }
+        if (waitActions.waitForWindowCount(2, Duration.ofSeconds(5))) {
+            logger.info("New window detected. Total windows: {}", driver.getWindowHandles().size());
+            return;
         }
         
         logger.warn("New window did not open within timeout");
@@ -158,7 +152,7 @@ public class WindowsPage extends BasePage {
             // Verify new window has expected content
             return newWindowTitle.contains("New Window") || 
                    newWindowHeadingText.contains("New Window");
-                   
+        
         } catch (Exception e) {
             logger.error("Error verifying new window content", e);
             return false;
@@ -0,0 +1,134 @@
+package com.automation.utils;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HTTP Probe - Checks status codes and redirects over HTTP instead of through the browser
+ * Uses one shared, connection-pooled HttpClient that never follows redirects, so every
+ * hop's exact status code and Location header can be inspected in milliseconds
+ */
+public class HttpProbe {
+    private static final Logger logger = LogManager.getLogger(HttpProbe.class);
+    private static final int MAX_REDIRECTS = 10;
+
+    /**
+     * Request a URL and return its status code and Location header
+     * Connection failures and timeouts are thrown as UncheckedIOException
+     */
+    public static HttpProbeResult probe(String url) {
+        long startNanos = System.nanoTime();
+        try {
+            HttpResponse<Void> response = Holder.CLIENT.send(request(url), HttpResponse.BodyHandlers.discarding());
+            return toResult(url, response, startNanos);
+        } catch (IOException e) {
+            throw new UncheckedIOException("HTTP probe of " + url + " failed: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("HTTP probe of " + url + " was interrupted", e);
+        }
+    }
+
+    public static int getStatusCode(String url) {
+        return probe(url).getStatusCode();
+    }
+
+    /**
+     * Follow a redirect chain hop by hop; the last result is the final, non-redirect response
+     */
+    public static List<HttpProbeResult> followRedirects(String url) {
+        List<HttpProbeResult> chain = new ArrayList<>();
+        HttpProbeResult result = probe(url);
+        chain.add(result);
+        while (result.isRedirect() && result.getLocation() != null) {
+            if (chain.size() > MAX_REDIRECTS) {
+                throw new RuntimeException("More than " + MAX_REDIRECTS + " redirects starting at " + url + ": " + chain);
+            }
+            result = probe(result.getLocation());
+            chain.add(result);
+        }
+        logger.debug("Redirect chain of {}: {}", url, chain);
+        return chain;
+    }
+
+    /**
+     * Probe several URLs concurrently, results in the order of the given URLs
+     */
+    public static Map<String, HttpProbeResult> probeAll(Collection<String> urls) {
+        Map<String, CompletableFuture<HttpProbeResult>> pending = new LinkedHashMap<>();
+        for (String url : urls) {
+            long startNanos = System.nanoTime();
+            pending.put(url, Holder.CLIENT.sendAsync(request(url), HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> toResult(url, response, startNanos)));
+        }
+        Map<String, HttpProbeResult> results = new LinkedHashMap<>();
+        for (Map.Entry<String, CompletableFuture<HttpProbeResult>> entry : pending.entrySet()) {
+            try {
+                results.put(entry.getKey(), entry.getValue().join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw new UncheckedIOException("HTTP probe of " + entry.getKey() + " failed: "
+                            + e.getCause().getMessage(), (IOException) e.getCause());
+                }
+                throw new RuntimeException("HTTP probe of " + entry.getKey() + " failed: "
+                        + e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * The shared client, also used by ResourceAuditor
+     */
+    static HttpClient client() {
+        return Holder.CLIENT;
+    }
+
+    static HttpRequest request(String url, String method) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(Holder.TIMEOUT)
+                .method(method, HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private static HttpRequest request(String url) {
+        return request(url, "GET");
+    }
+
+    private static HttpProbeResult toResult(String url, HttpResponse<?> response, long startNanos) {
+        String location = response.headers().firstValue("Location")
+                .map(target -> URI.create(url).resolve(target).toString())
+                .orElse(null);
+        return new HttpProbeResult(url, response.statusCode(), location,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * Lazy holder - one client and connection pool for all threads
+     */
+    private static final class Holder {
+        private static final Duration TIMEOUT =
+                Duration.ofSeconds(ConfigManager.getInstance().getIntProperty("http.probe.timeout", 10));
+        private static final HttpClient CLIENT = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(TIMEOUT)
+                .build();
+    }
+}
@@ -0,0 +1,54 @@
+package com.automation.utils;
+
+/**
+ * HTTP Probe Result - Status code and redirect target of one HTTP request
+ */
+public class HttpProbeResult {
+    private final String url;
+    private final int statusCode;
+    private final String location;
+    private final long elapsedMillis;
+
+    public HttpProbeResult(String url, int statusCode, String location, long elapsedMillis) {
+        this.url = url;
+        this.statusCode = statusCode;
+        this.location = location;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Absolute Location header target, or null when the response has none
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public boolean isSuccess() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    public boolean isRedirect() {
+        return statusCode >= 300 && statusCode < 400;
+    }
+
+    public boolean isError() {
+        return statusCode >= 400;
+    }
+
+    @Override
+    public String toString() {
+        return statusCode + " " + url + (location != null ? " -> " + location : "") + " (" + elapsedMillis + " ms)";
+    }
+}
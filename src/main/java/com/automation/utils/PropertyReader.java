@@ -5,6 +5,8 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -42,4 +44,15 @@ public class PropertyReader {
     public String getProperty(String key, String defaultValue) {
         return properties.getProperty(key, defaultValue);
     }
+    
+    /**
+     * Copy of all loaded properties as an unsynchronized map
+     */
+    public Map<String, String> getAllProperties() {
+        Map<String, String> values = new HashMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            values.put(key, properties.getProperty(key));
+        }
+        return values;
+    }
 }
\ No newline at end of file
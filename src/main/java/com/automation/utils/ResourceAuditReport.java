@@ -0,0 +1,108 @@
+package com.automation.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Resource Audit Report - Every resource of a page with its check outcome and a timing breakdown
+ */
+public class ResourceAuditReport {
+    private final List<ResourceCheck> resources;
+    private final long collectMillis;
+    private final long verifyMillis;
+
+    public ResourceAuditReport(List<ResourceCheck> resources, long collectMillis, long verifyMillis) {
+        this.resources = Collections.unmodifiableList(resources);
+        this.collectMillis = collectMillis;
+        this.verifyMillis = verifyMillis;
+    }
+
+    /**
+     * All resources in document order
+     */
+    public List<ResourceCheck> getResources() {
+        return resources;
+    }
+
+    /**
+     * All img elements in document order, including those without a src
+     */
+    public List<ResourceCheck> getImages() {
+        List<ResourceCheck> images = new ArrayList<>();
+        for (ResourceCheck resource : resources) {
+            if (resource.isImage()) {
+                images.add(resource);
+            }
+        }
+        return images;
+    }
+
+    public List<ResourceCheck> getBroken() {
+        List<ResourceCheck> broken = new ArrayList<>();
+        for (ResourceCheck resource : resources) {
+            if (resource.isBroken()) {
+                broken.add(resource);
+            }
+        }
+        return broken;
+    }
+
+    public List<ResourceCheck> getBrokenImages() {
+        List<ResourceCheck> broken = new ArrayList<>();
+        for (ResourceCheck image : getImages()) {
+            if (image.isBroken()) {
+                broken.add(image);
+            }
+        }
+        return broken;
+    }
+
+    /**
+     * Time spent collecting the resources in the browser
+     */
+    public long getCollectMillis() {
+        return collectMillis;
+    }
+
+    /**
+     * Time spent verifying the resources over HTTP
+     */
+    public long getVerifyMillis() {
+        return verifyMillis;
+    }
+
+    public String summary() {
+        int checked = 0;
+        int cached = 0;
+        int getFallbacks = 0;
+        List<Long> latencies = new ArrayList<>();
+        for (ResourceCheck resource : resources) {
+            if (!resource.isChecked()) {
+                continue;
+            }
+            checked++;
+            if (resource.isCached()) {
+                cached++;
+            } else {
+                latencies.add(resource.getElapsedMillis());
+            }
+            if ("GET".equals(resource.getMethod())) {
+                getFallbacks++;
+            }
+        }
+        Collections.sort(latencies);
+        return String.format("resources=%d, checked=%d, broken=%d, cached=%d, GET fallbacks=%d, "
+                        + "collect=%d ms, verify=%d ms, request p50=%d ms, p95=%d ms, max=%d ms",
+                resources.size(), checked, getBroken().size(), cached, getFallbacks, collectMillis, verifyMillis,
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 1.0));
+    }
+
+    private static long percentile(List<Long> sorted, double fraction) {
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(fraction * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1)));
+    }
+}
@@ -0,0 +1,274 @@
+package com.automation.utils;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpResponse;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Resource Auditor - Finds broken images, scripts, stylesheets and other resources of a page
+ * Collects every resource URL in one script call, then verifies the distinct URLs concurrently
+ * over the shared HTTP client: HEAD first with a GET fallback, a per-host concurrency limit,
+ * and results cached by URL across tests
+ */
+public class ResourceAuditor {
+    private static final Logger logger = LogManager.getLogger(ResourceAuditor.class);
+
+    // [tag, absolute URL, rendered] per resource in document order; rendered is only set for images
+    private static final String COLLECT_RESOURCES_SCRIPT =
+            "var result = [];"
+            + "document.querySelectorAll('img, [src], link[href]').forEach(function(e) {"
+            + "  var tag = e.tagName.toLowerCase();"
+            + "  var url = tag === 'link' ? e.href : (e.currentSrc || e.src || '');"
+            + "  if (tag === 'img') {"
+            + "    result.push([tag, url, !(e.complete && e.naturalWidth === 0)]);"
+            + "  } else if (url) {"
+            + "    result.push([tag, url, null]);"
+            + "  }"
+            + "});"
+            + "return result;";
+
+    private static final Map<String, HostLimiter> hostLimiters = new ConcurrentHashMap<>();
+    private static final Map<String, CachedOutcome> cache = new ConcurrentHashMap<>();
+
+    private final WebDriver driver;
+
+    public ResourceAuditor(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Collect and verify every resource of the current page
+     */
+    @SuppressWarnings("unchecked")
+    public ResourceAuditReport audit() {
+        long startNanos = System.nanoTime();
+        List<List<Object>> collected =
+                (List<List<Object>>) ((JavascriptExecutor) driver).executeScript(COLLECT_RESOURCES_SCRIPT);
+        long collectedNanos = System.nanoTime();
+
+        Map<String, CompletableFuture<Outcome>> pending = new LinkedHashMap<>();
+        Map<String, Boolean> fromCache = new LinkedHashMap<>();
+        for (List<Object> resource : collected) {
+            String url = (String) resource.get(1);
+            if (isHttp(url) && !pending.containsKey(url)) {
+                CachedOutcome cached = cachedOutcome(url);
+                fromCache.put(url, cached != null);
+                pending.put(url, cached != null ? cached.outcome : check(url));
+            }
+        }
+        CompletableFuture.allOf(pending.values().toArray(new CompletableFuture<?>[0])).join();
+        long verifiedNanos = System.nanoTime();
+
+        List<ResourceCheck> checks = new ArrayList<>(collected.size());
+        for (List<Object> resource : collected) {
+            String url = (String) resource.get(1);
+            Boolean rendered = (Boolean) resource.get(2);
+            CompletableFuture<Outcome> future = pending.get(url);
+            if (future == null) {
+                checks.add(new ResourceCheck((String) resource.get(0), url, rendered, -1, null, 0, false, null));
+                continue;
+            }
+            Outcome outcome = future.join();
+            checks.add(new ResourceCheck((String) resource.get(0), url, rendered, outcome.statusCode,
+                    outcome.method, outcome.elapsedMillis, fromCache.get(url), outcome.error));
+        }
+
+        ResourceAuditReport report = new ResourceAuditReport(checks,
+                TimeUnit.NANOSECONDS.toMillis(collectedNanos - startNanos),
+                TimeUnit.NANOSECONDS.toMillis(verifiedNanos - collectedNanos));
+        logger.info("Resource audit of {}: {}", driver.getCurrentUrl(), report.summary());
+        return report;
+    }
+
+    /**
+     * Forget cached results, e.g. after the application under test was redeployed
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    public static int getCacheSize() {
+        return cache.size();
+    }
+
+    private static CachedOutcome cachedOutcome(String url) {
+        if (!Settings.CACHE_ENABLED) {
+            return null;
+        }
+        CachedOutcome cached = cache.get(url);
+        if (cached != null && System.nanoTime() - cached.createdNanos > Settings.CACHE_TTL_NANOS) {
+            cache.remove(url, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    /**
+     * Verify a URL within its host's concurrency limit and cache the outcome unless the request failed
+     */
+    private static CompletableFuture<Outcome> check(String url) {
+        URI uri = URI.create(url);
+        String host = uri.getHost() + ":" + uri.getPort();
+        HostLimiter limiter = hostLimiters.computeIfAbsent(host, key -> new HostLimiter(Settings.MAX_PER_HOST));
+        CompletableFuture<Outcome> outcome = limiter.submit(() -> headWithGetFallback(url));
+        if (Settings.CACHE_ENABLED) {
+            CachedOutcome cached = new CachedOutcome(outcome, System.nanoTime());
+            cache.put(url, cached);
+            outcome.thenAccept(result -> {
+                if (result.error != null) {
+                    cache.remove(url, cached);
+                }
+            });
+        }
+        return outcome;
+    }
+
+    private static CompletableFuture<Outcome> headWithGetFallback(String url) {
+        long startNanos = System.nanoTime();
+        return send(url, "HEAD")
+                .thenCompose(response -> {
+                    if (response.statusCode() == 405 || response.statusCode() == 501) {
+                        return send(url, "GET").thenApply(get -> new Outcome(get.statusCode(), "GET", startNanos, null));
+                    }
+                    return CompletableFuture.completedFuture(new Outcome(response.statusCode(), "HEAD", startNanos, null));
+                })
+                .exceptionally(e -> new Outcome(0, "HEAD", startNanos,
+                        (e.getCause() != null ? e.getCause() : e).toString()));
+    }
+
+    /**
+     * Send once more when the server closed a pooled keep-alive connection before answering
+     */
+    private static CompletableFuture<HttpResponse<Void>> send(String url, String method) {
+        return sendOnce(url, method).handle((response, error) -> {
+            Throwable cause = error != null && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof IOException) {
+                logger.debug("Retrying {} {} after {}", method, url, cause.toString());
+                return sendOnce(url, method);
+            }
+            return error != null ? CompletableFuture.<HttpResponse<Void>>failedFuture(cause)
+                    : CompletableFuture.completedFuture(response);
+        }).thenCompose(Function.identity());
+    }
+
+    private static CompletableFuture<HttpResponse<Void>> sendOnce(String url, String method) {
+        return HttpProbe.client().sendAsync(HttpProbe.request(url, method), HttpResponse.BodyHandlers.discarding());
+    }
+
+    private static boolean isHttp(String url) {
+        return url != null && (url.startsWith("http://") || url.startsWith("https://"));
+    }
+
+    /**
+     * Limits in-flight requests to one host without blocking a thread per queued request
+     */
+    private static final class HostLimiter {
+        private final int permits;
+        private final Deque<Runnable> queue = new ArrayDeque<>();
+        private int active;
+
+        private HostLimiter(int permits) {
+            this.permits = permits;
+        }
+
+        private <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> task) {
+            CompletableFuture<T> result = new CompletableFuture<>();
+            Runnable start = () -> {
+                CompletableFuture<T> future;
+                try {
+                    future = task.get();
+                } catch (RuntimeException e) {
+                    release();
+                    result.completeExceptionally(e);
+                    return;
+                }
+                future.whenComplete((value, error) -> {
+                    release();
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(value);
+                    }
+                });
+            };
+            boolean runNow;
+            synchronized (this) {
+                runNow = active < permits;
+                if (runNow) {
+                    active++;
+                } else {
+                    queue.add(start);
+                }
+            }
+            if (runNow) {
+                start.run();
+            }
+            return result;
+        }
+
+        private void release() {
+            Runnable next;
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null) {
+                    active--;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+
+    private static final class Outcome {
+        private final int statusCode;
+        private final String method;
+        private final long elapsedMillis;
+        private final String error;
+
+        private Outcome(int statusCode, String method, long startNanos, String error) {
+            this.statusCode = statusCode;
+            this.method = method;
+            this.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            this.error = error;
+        }
+    }
+
+    private static final class CachedOutcome {
+        private final CompletableFuture<Outcome> outcome;
+        private final long createdNanos;
+
+        private CachedOutcome(CompletableFuture<Outcome> outcome, long createdNanos) {
+            this.outcome = outcome;
+            this.createdNanos = createdNanos;
+        }
+    }
+
+    /**
+     * Audit settings, read once
+     */
+    private static final class Settings {
+        private static final ConfigManager config = ConfigManager.getInstance();
+        private static final int MAX_PER_HOST = Math.max(1, config.getIntProperty("resource.audit.max.per.host", 6));
+        private static final boolean CACHE_ENABLED = config.getBooleanProperty("resource.audit.cache.enabled", true);
+        private static final long CACHE_TTL_NANOS =
+                TimeUnit.SECONDS.toNanos(config.getIntProperty("resource.audit.cache.ttl", 300));
+    }
+}
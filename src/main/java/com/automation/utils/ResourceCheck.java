@@ -0,0 +1,93 @@
+package com.automation.utils;
+
+/**
+ * Resource Check - Outcome of auditing one resource referenced by a page
+ * Combines what the browser saw (element, URL, whether an image rendered)
+ * with the HTTP status the resource URL answered with
+ */
+public class ResourceCheck {
+    private final String tagName;
+    private final String url;
+    private final Boolean rendered;
+    private final int statusCode;
+    private final String method;
+    private final long elapsedMillis;
+    private final boolean cached;
+    private final String error;
+
+    public ResourceCheck(String tagName, String url, Boolean rendered, int statusCode, String method,
+                         long elapsedMillis, boolean cached, String error) {
+        this.tagName = tagName;
+        this.url = url;
+        this.rendered = rendered;
+        this.statusCode = statusCode;
+        this.method = method;
+        this.elapsedMillis = elapsedMillis;
+        this.cached = cached;
+        this.error = error;
+    }
+
+    public String getTagName() {
+        return tagName;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    /**
+     * Whether an image decoded in the browser, null for other resources
+     */
+    public Boolean getRendered() {
+        return rendered;
+    }
+
+    /**
+     * HTTP status, 0 when the request failed and -1 when the URL was not checked (e.g. data: URLs)
+     */
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * HEAD, or GET when the server does not support HEAD
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Whether the HTTP status came from the audit cache of an earlier check
+     */
+    public boolean isCached() {
+        return cached;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public boolean isChecked() {
+        return statusCode >= 0;
+    }
+
+    public boolean isImage() {
+        return rendered != null;
+    }
+
+    public boolean isBroken() {
+        return statusCode == 0 || statusCode >= 400 || Boolean.FALSE.equals(rendered);
+    }
+
+    @Override
+    public String toString() {
+        String outcome = error != null ? error : !isChecked() ? "not checked" : statusCode + " (" + method + ", "
+                + elapsedMillis + " ms" + (cached ? ", cached" : "") + ")";
+        return tagName + " " + url + " -> " + outcome
+                + (Boolean.FALSE.equals(rendered) ? ", not rendered" : "");
+    }
+}
@@ -1,14 +1,13 @@
 package com.automation.utils;
 
-import org.apache.commons.io.FileUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
-import java.io.File;
-import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -19,32 +18,45 @@ public class ScreenshotUtils {
     private static final Logger logger = LogManager.getLogger(ScreenshotUtils.class);
     private static final String SCREENSHOTS_DIR = "reports/screenshots/";
     
+    /**
+     * Capture a screenshot and save it under the test name; returns the file path or null
+     * The file is written asynchronously unless screenshot.async.enabled is false
+     */
     public static String captureScreenshot(WebDriver driver, String testName) {
+        Path file = Paths.get(SCREENSHOTS_DIR, fileName(testName));
+        return captureScreenshot(driver, testName, file) != null ? file.toString() : null;
+    }
+    
+    /**
+     * Capture a screenshot, save it under the test name and return its PNG bytes, e.g. for report attachments
+     */
+    public static byte[] captureScreenshotBytes(WebDriver driver, String testName) {
+        return captureScreenshot(driver, testName, Paths.get(SCREENSHOTS_DIR, fileName(testName)));
+    }
+    
+    private static byte[] captureScreenshot(WebDriver driver, String testName, Path file) {
+        ScreenshotWriter writer = ScreenshotWriter.getInstance();
+        byte[] png;
         try {
-            // Ensure screenshots directory exists
-            File screenshotDir = new File(SCREENSHOTS_DIR);
-            if (!screenshotDir.exists()) {
-                screenshotDir.mkdirs();
-            }
-            
-            // Generate filename with timestamp
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss"));
-            String fileName = String.format("%s_%s.png", testName, timestamp);
-            String filePath = SCREENSHOTS_DIR + fileName;
-            
-            // Take screenshot
-            TakesScreenshot takesScreenshot = (TakesScreenshot) driver;
-            File sourceFile = takesScreenshot.getScreenshotAs(OutputType.FILE);
-            File destFile = new File(filePath);
-            
-            FileUtils.copyFile(sourceFile, destFile);
-            logger.info("Screenshot captured: {}", filePath);
-            
-            return filePath;
-        } catch (IOException e) {
+            long start = System.nanoTime();
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            writer.recordCapture(System.nanoTime() - start);
+        } catch (RuntimeException e) {
             logger.error("Failed to capture screenshot for test: {}", testName, e);
             return null;
         }
+        if (ScreenshotWriter.isAsync()) {
+            writer.submit(png, file);
+        } else {
+            writer.write(png, file);
+        }
+        logger.info("Screenshot captured: {}", file);
+        return png;
+    }
+    
+    private static String fileName(String testName) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss-SSS"));
+        return String.format("%s_%s.%s", testName, timestamp, ScreenshotWriter.getInstance().getExtension());
     }
     
     public static String captureScreenshotAsBase64(WebDriver driver) {
@@ -0,0 +1,219 @@
+package com.automation.utils;
+
+import com.automation.config.ConfigManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Screenshot Writer - Encodes and writes screenshots off the test thread
+ * Test threads only grab the PNG bytes; a small bounded pool converts them to the configured
+ * format and writes them. When the queue is full the submitting test thread writes the
+ * screenshot itself, which keeps memory bounded and slows capture down instead of dropping images
+ */
+public class ScreenshotWriter {
+    private static final Logger logger = LogManager.getLogger(ScreenshotWriter.class);
+
+    private final ThreadPoolExecutor executor;
+    private final Queue<Future<?>> pending = new ConcurrentLinkedQueue<>();
+    private final String format;
+    private final float quality;
+    private final LongAdder captures = new LongAdder();
+    private final LongAdder captureNanos = new LongAdder();
+    private final AtomicLong maxCaptureNanos = new AtomicLong();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder writeNanos = new LongAdder();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder callerWrites = new LongAdder();
+
+    private ScreenshotWriter(int threads, int queueSize, String format, float quality) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize), runnable -> {
+                    Thread thread = new Thread(runnable, "screenshot-writer-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (task, pool) -> {
+                    // Back-pressure: a full queue makes the test thread do the write
+                    callerWrites.increment();
+                    if (!pool.isShutdown()) {
+                        task.run();
+                    }
+                });
+        this.format = format;
+        this.quality = quality;
+    }
+
+    public static ScreenshotWriter getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    public static boolean isAsync() {
+        return ConfigManager.getInstance().getBooleanProperty("screenshot.async.enabled", true);
+    }
+
+    /**
+     * File extension of the configured format
+     */
+    public String getExtension() {
+        return format.equals("jpeg") ? "jpg" : "png";
+    }
+
+    /**
+     * Record how long the browser took to produce a screenshot
+     */
+    public void recordCapture(long nanos) {
+        captures.increment();
+        captureNanos.add(nanos);
+        maxCaptureNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Queue PNG bytes for writing to a file of the configured format
+     */
+    public void submit(byte[] png, Path file) {
+        pending.removeIf(Future::isDone);
+        pending.add(executor.submit(() -> write(png, file)));
+    }
+
+    /**
+     * Write PNG bytes to a file of the configured format on the calling thread
+     */
+    public void write(byte[] png, Path file) {
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.write(file, format.equals("jpeg") ? toJpeg(png) : png);
+            logger.debug("Screenshot written: {}", file);
+        } catch (IOException | RuntimeException e) {
+            failures.increment();
+            logger.error("Failed to write screenshot {}: {}", file, e.getMessage());
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        writes.increment();
+        writeNanos.add(nanos);
+        maxWriteNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Wait until every queued screenshot is on disk; returns false if the timeout passed first
+     */
+    public boolean flush(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        Future<?> future;
+        while ((future = pending.poll()) != null) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                logger.warn("Screenshot flush timed out with {} writes pending", pending.size() + 1);
+                return false;
+            } catch (ExecutionException e) {
+                // Failures are counted and logged by write()
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long getCaptureCount() {
+        return captures.sum();
+    }
+
+    public long getWriteCount() {
+        return writes.sum();
+    }
+
+    public long getFailureCount() {
+        return failures.sum();
+    }
+
+    public String summary() {
+        long captureCount = captures.sum();
+        long writeCount = writes.sum();
+        return String.format("%d captured (avg %d ms, max %d ms), %d written as %s (avg %d ms, max %d ms),"
+                        + " %d written by test threads under back-pressure, %d failed",
+                captureCount, captureCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(captureNanos.sum() / captureCount),
+                TimeUnit.NANOSECONDS.toMillis(maxCaptureNanos.get()),
+                writeCount, format, writeCount == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(writeNanos.sum() / writeCount),
+                TimeUnit.NANOSECONDS.toMillis(maxWriteNanos.get()), callerWrites.sum(), failures.sum());
+    }
+
+    private byte[] toJpeg(byte[] png) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("Screenshot is not a readable PNG");
+        }
+        // JPEG has no alpha channel
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        rgb.createGraphics().drawImage(image, 0, 0, null);
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpeg");
+        if (!writers.hasNext()) {
+            throw new IOException("No JPEG encoder available");
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(png.length / 2);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static final class Holder {
+        private static final ScreenshotWriter INSTANCE = create();
+
+        private static ScreenshotWriter create() {
+            ConfigManager config = ConfigManager.getInstance();
+            String format = config.getProperty("screenshot.format", "png").trim().toLowerCase();
+            if (format.equals("jpg")) {
+                format = "jpeg";
+            }
+            if (!format.equals("png") && !format.equals("jpeg")) {
+                throw new IllegalArgumentException("Invalid screenshot.format '" + format + "', expected png or jpeg");
+            }
+            int quality = config.getIntProperty("screenshot.jpeg.quality", 80);
+            if (quality < 1 || quality > 100) {
+                throw new IllegalArgumentException("Invalid screenshot.jpeg.quality " + quality + ", expected 1-100");
+            }
+            ScreenshotWriter writer = new ScreenshotWriter(
+                    Math.max(1, config.getIntProperty("screenshot.writer.threads", 2)),
+                    Math.max(1, config.getIntProperty("screenshot.writer.queue.size", 16)),
+                    format, quality / 100f);
+            // Last resort for runs that end without the suite listener
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> writer.flush(10_000), "screenshot-writer-flush"));
+            return writer;
+        }
+    }
+}
@@ -0,0 +1 @@
+// Empty script served in place of third-party scripts by the network policy
@@ -0,0 +1,95 @@
+package com.automation.benchmarks;
+
+import com.automation.config.ConfigManager;
+import com.automation.utils.PropertyReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Config Lookup Benchmark - Compares the legacy PropertyReader lookup path
+ * (synchronized Properties plus parsing on every read) with ConfigManager's
+ * immutable snapshot, using the lookups BasePage performs per page object
+ *
+ * Run after "mvn test-compile" with the test classpath, for example:
+ * java -cp "target/test-classes:target/classes:$(cat cp.txt)" com.automation.benchmarks.ConfigLookupBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+    private static final int[] THREAD_COUNTS = {8, 16, 32};
+
+    private PropertyReader legacyReader;
+    private ConfigManager config;
+
+    @Setup
+    public void setUp() {
+        legacyReader = new PropertyReader();
+        legacyReader.loadProperties("config/application.properties");
+        legacyReader.loadProperties("config/dev.properties");
+        config = ConfigManager.getInstance();
+    }
+
+    @Benchmark
+    public void legacyLookup(Blackhole blackhole) {
+        blackhole.consume(legacyInt("selenium.timeout", 30));
+        blackhole.consume(Boolean.parseBoolean(legacyReader.getProperty("browser.headless")));
+        blackhole.consume(legacyReader.getProperty("app.base.url"));
+    }
+
+    @Benchmark
+    public void snapshotLookup(Blackhole blackhole) {
+        blackhole.consume(config.getIntProperty("selenium.timeout", 30));
+        blackhole.consume(config.getBooleanProperty("browser.headless"));
+        blackhole.consume(config.getProperty("app.base.url"));
+    }
+
+    @Benchmark
+    public void legacyMissingKey(Blackhole blackhole) {
+        blackhole.consume(legacyInt("selenium.missing.timeout", 30));
+    }
+
+    @Benchmark
+    public void snapshotMissingKey(Blackhole blackhole) {
+        blackhole.consume(config.getIntProperty("selenium.missing.timeout", 30));
+    }
+
+    /**
+     * The pre-snapshot ConfigManager.getIntProperty(key, default) implementation
+     */
+    private int legacyInt(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(legacyReader.getProperty(key));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            Options options = new OptionsBuilder()
+                    .include(ConfigLookupBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.automation.benchmarks;
+
+import com.automation.core.driver.DevToolsSession;
+import com.automation.core.driver.DriverFactory;
+import com.automation.core.driver.DriverManager;
+import com.automation.core.driver.NetworkInterceptor;
+import com.automation.core.driver.NetworkPolicy;
+import com.automation.ui.pages.authentication.LoginPage;
+import com.automation.ui.pages.navigation.FramesPage;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Network Policy Benchmark - Compares page loads of the LoginTest and FramesTest pages with and
+ * without the configured network policy (network.policy.block, stubs and cache)
+ * The browser's own cache is cleared before every load, as for a fresh session, so the "configured"
+ * runs show what blocking plus the shared in-memory response cache save per test
+ *
+ * Needs Chrome or Edge. Run after "mvn test-compile" with the test classpath, for example:
+ * java -Dbrowser.headless=true -cp "target/test-classes:target/classes:$(cat cp.txt)" com.automation.benchmarks.NetworkPolicyBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class NetworkPolicyBenchmark {
+    private static final Logger logger = LogManager.getLogger(NetworkPolicyBenchmark.class);
+
+    @Param({"none", "configured"})
+    public String policy;
+
+    @Param({"chrome"})
+    public String browser;
+
+    private WebDriver driver;
+    private LoginPage loginPage;
+    private FramesPage framesPage;
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        driver = DriverFactory.createDriver(browser,
+                "configured".equals(policy) ? NetworkPolicy.fromConfig() : NetworkPolicy.NONE);
+        DriverManager.setDriver(driver);
+        loginPage = new LoginPage();
+        framesPage = new FramesPage();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearBrowserCache() {
+        if (DevToolsSession.isSupported(driver)) {
+            DevToolsSession.of(driver).send("Network.clearBrowserCache");
+        }
+    }
+
+    @Benchmark
+    public void loginPageLoad() {
+        loginPage.navigateToLoginPage();
+    }
+
+    @Benchmark
+    public void nestedFramesPageLoad() {
+        framesPage.navigateToNestedFramesPage();
+    }
+
+    @Benchmark
+    public void iframePageLoad() {
+        framesPage.navigateToIframePage();
+    }
+
+    @TearDown(Level.Trial)
+    public void quitBrowser() {
+        NetworkInterceptor interceptor = NetworkInterceptor.of(driver);
+        if (interceptor != null) {
+            logger.info("Network policy {}: {}", interceptor.getPolicy(), interceptor.summary());
+        }
+        driver.quit();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(NetworkPolicyBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
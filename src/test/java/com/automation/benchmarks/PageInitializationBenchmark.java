@@ -0,0 +1,134 @@
+package com.automation.benchmarks;
+
+import com.automation.core.base.BasePage;
+import com.automation.core.base.PageElementInitializer;
+import com.automation.core.driver.DriverManager;
+import com.automation.ui.pages.authentication.LoginPage;
+import com.automation.ui.pages.authentication.SecureAreaPage;
+import com.automation.ui.pages.components.ChallengingDomPage;
+import com.automation.ui.pages.components.FloatingMenuPage;
+import com.automation.ui.pages.components.HoverInteractionsPage;
+import com.automation.ui.pages.components.NotificationMessagesPage;
+import com.automation.ui.pages.dynamic.AddRemoveElementsPage;
+import com.automation.ui.pages.dynamic.DragAndDropPage;
+import com.automation.ui.pages.dynamic.DynamicLoadingPage;
+import com.automation.ui.pages.errors.BrokenResourcesPage;
+import com.automation.ui.pages.errors.RedirectsPage;
+import com.automation.ui.pages.errors.StatusCodesPage;
+import com.automation.ui.pages.forms.CheckboxesPage;
+import com.automation.ui.pages.forms.DropdownPage;
+import com.automation.ui.pages.forms.FileUploadPage;
+import com.automation.ui.pages.forms.InputsPage;
+import com.automation.ui.pages.navigation.ContextMenuPage;
+import com.automation.ui.pages.navigation.FramesPage;
+import com.automation.ui.pages.navigation.WindowsPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Page Initialization Benchmark - Compares PageFactory.initElements with the cached
+ * PageElementInitializer and measures full construction of every page object in
+ * com.automation.ui.pages, using a stub WebDriver so no browser is needed
+ *
+ * Run after "mvn test-compile" with the test classpath, for example:
+ * java -cp "target/test-classes:target/classes:$(cat cp.txt)" com.automation.benchmarks.PageInitializationBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageInitializationBenchmark {
+    private static final List<Supplier<BasePage>> PAGES = Arrays.asList(
+            LoginPage::new, SecureAreaPage::new,
+            ChallengingDomPage::new, FloatingMenuPage::new, HoverInteractionsPage::new, NotificationMessagesPage::new,
+            AddRemoveElementsPage::new, DragAndDropPage::new, DynamicLoadingPage::new,
+            BrokenResourcesPage::new, RedirectsPage::new, StatusCodesPage::new,
+            CheckboxesPage::new, DropdownPage::new, FileUploadPage::new, InputsPage::new,
+            ContextMenuPage::new, FramesPage::new, WindowsPage::new);
+
+    private WebDriver driver;
+    private List<BasePage> pages;
+
+    @Setup
+    public void setUp() {
+        driver = stubDriver();
+        DriverManager.setDriver(driver);
+        pages = new ArrayList<>();
+        for (Supplier<BasePage> page : PAGES) {
+            pages.add(page.get());
+        }
+    }
+
+    @Benchmark
+    public void pageFactoryInit() {
+        for (BasePage page : pages) {
+            PageFactory.initElements(driver, page);
+        }
+    }
+
+    @Benchmark
+    public void cachedInit() {
+        for (BasePage page : pages) {
+            PageElementInitializer.initElements(driver, page);
+        }
+    }
+
+    @Benchmark
+    public void constructAllPages(Blackhole blackhole) {
+        for (Supplier<BasePage> page : PAGES) {
+            blackhole.consume(page.get());
+        }
+    }
+
+    /**
+     * WebDriver that answers every call with a default value; page construction never talks to a browser
+     */
+    static WebDriver stubDriver() {
+        return (WebDriver) Proxy.newProxyInstance(PageInitializationBenchmark.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("toString")) {
+                        return "StubWebDriver";
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    return method.getReturnType() == boolean.class ? false : null;
+                });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(PageInitializationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,74 @@
+package com.automation.core.distributed;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Work Queue Test - Lease, expiry and re-queue rules of the distributed run's work queue
+ */
+public class WorkQueueTest {
+    private static final long LEASE_TIMEOUT_MILLIS = 1000;
+
+    @Test(description = "A lease held past the timeout goes back to the front of the queue")
+    public void testExpiredLeaseIsRequeued() {
+        WorkQueue queue = new WorkQueue(Arrays.asList("a", "b"), 2, LEASE_TIMEOUT_MILLIS);
+        WorkQueue.Lease hung = queue.next("worker-1");
+        Assert.assertEquals(hung.item, "a");
+
+        queue.expireLeases(hung.startedAt + LEASE_TIMEOUT_MILLIS);
+        Assert.assertEquals(queue.getRequeuedCount(), 0, "A lease is kept until its timeout has passed");
+
+        queue.expireLeases(hung.startedAt + LEASE_TIMEOUT_MILLIS + 1);
+        Assert.assertEquals(queue.getRequeuedCount(), 1);
+        WorkQueue.Lease retry = queue.next("worker-2");
+        Assert.assertEquals(retry.item, "a", "The expired item is handed out before the rest of the queue");
+
+        queue.complete(hung.id, WorkQueue.FAILED, 5000);
+        Assert.assertTrue(queue.getResults().isEmpty(), "The result of an expired lease is ignored");
+
+        queue.complete(retry.id, WorkQueue.PASSED, 100);
+        List<WorkQueue.Result> results = queue.getResults();
+        Assert.assertEquals(results.size(), 1);
+        Assert.assertEquals(results.get(0).status, WorkQueue.PASSED);
+        Assert.assertEquals(results.get(0).worker, "worker-2");
+        Assert.assertEquals(results.get(0).attempts, 2);
+    }
+
+    @Test(description = "Every lease of a worker that disconnects is re-queued for the other workers")
+    public void testLeasesOfLostWorkerAreRequeued() {
+        WorkQueue queue = new WorkQueue(Arrays.asList("a", "b", "c"), 2, LEASE_TIMEOUT_MILLIS);
+        queue.next("worker-1");
+        queue.next("worker-1");
+        WorkQueue.Lease survivor = queue.next("worker-2");
+
+        queue.release("worker-1");
+        Assert.assertEquals(queue.getRequeuedCount(), 2);
+        Set<String> retried = new HashSet<>(Arrays.asList(queue.next("worker-2").item, queue.next("worker-2").item));
+        Assert.assertEquals(retried, new HashSet<>(Arrays.asList("a", "b")));
+        Assert.assertNull(queue.next("worker-2"), "Nothing else is queued");
+        Assert.assertFalse(queue.isFinished(), "Leased items are still outstanding");
+
+        queue.release("worker-1");
+        Assert.assertEquals(queue.getRequeuedCount(), 2, "Releasing a worker without leases changes nothing");
+        Assert.assertEquals(survivor.item, "c");
+    }
+
+    @Test(description = "An item that was lost maxAttempts times is reported as failed instead of re-queued")
+    public void testItemFailsAfterMaxAttempts() {
+        WorkQueue queue = new WorkQueue(Arrays.asList("a"), 1, LEASE_TIMEOUT_MILLIS);
+        queue.next("worker-1");
+
+        queue.release("worker-1");
+        Assert.assertEquals(queue.getRequeuedCount(), 0);
+        Assert.assertTrue(queue.isFinished());
+        List<WorkQueue.Result> results = queue.getResults();
+        Assert.assertEquals(results.size(), 1);
+        Assert.assertEquals(results.get(0).status, WorkQueue.FAILED);
+        Assert.assertEquals(results.get(0).attempts, 1);
+    }
+}
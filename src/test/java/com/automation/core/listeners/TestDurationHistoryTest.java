@@ -0,0 +1,72 @@
+package com.automation.core.listeners;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Test Duration History Test - Durations of test methods and scenarios survive a save and load
+ */
+public class TestDurationHistoryTest {
+    private static final String METHOD_KEY = "com.automation.ui.tests.authentication.LoginTest#testValidLogin";
+
+    private Path file;
+
+    @BeforeMethod
+    public void createFile() throws IOException {
+        file = Files.createTempFile("test-durations", ".properties");
+        Files.delete(file);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test(description = "Method and scenario keys, including the ':' of feature URIs, are read back as written")
+    public void testSaveAndLoadRoundTrip() {
+        URI feature = Paths.get("src/test/resources/features/login page.feature").toAbsolutePath().toUri();
+        String scenarioKey = TestDurationHistory.scenarioKey(feature, 12);
+        TestDurationHistory history = TestDurationHistory.load(file);
+        history.record(METHOD_KEY, 1500);
+        history.record(scenarioKey, 4200);
+        history.save();
+
+        TestDurationHistory loaded = TestDurationHistory.load(file);
+        Assert.assertEquals(loaded.size(), 2);
+        Assert.assertEquals(loaded.getMillis(METHOD_KEY, -1), 1500);
+        Assert.assertEquals(loaded.getMillis(scenarioKey, -1), 4200);
+    }
+
+    @Test(description = "Durations a shard saved are read back when the shard files are merged")
+    public void testSaveRecordedRoundTrip() {
+        String scenarioKey = TestDurationHistory.scenarioKey("file:///features/cart.feature", 7);
+        TestDurationHistory history = TestDurationHistory.load(file);
+        history.record(scenarioKey, 900);
+        history.saveRecorded(file);
+        history.record(METHOD_KEY, 300);
+        history.saveRecorded(file);
+
+        TestDurationHistory loaded = TestDurationHistory.load(file);
+        Assert.assertEquals(loaded.getMillis(scenarioKey, -1), 900);
+        Assert.assertEquals(loaded.getMillis(METHOD_KEY, -1), 300);
+    }
+
+    @Test(description = "An unreadable entry is skipped without losing the rest of the history")
+    public void testBadEntryKeepsOtherEntries() throws IOException {
+        Files.write(file, Arrays.asList(METHOD_KEY + "=1500", "broken=soon"), StandardCharsets.UTF_8);
+
+        TestDurationHistory loaded = TestDurationHistory.load(file);
+        Assert.assertEquals(loaded.size(), 1);
+        Assert.assertEquals(loaded.getMillis(METHOD_KEY, -1), 1500);
+    }
+}
@@ -0,0 +1,109 @@
+package com.automation.core.sharding;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Shard Report Merger Test - Merged reports keep every test and scenario the shards ran
+ */
+public class ShardReportMergerTest {
+    private Path shardsDir;
+    private Path mergedDir;
+
+    @BeforeClass
+    public void mergeShards() throws IOException {
+        shardsDir = Files.createTempDirectory("shards");
+        mergedDir = shardsDir.resolve("merged");
+        writeShard(0, 3, 1, 0, new String[][] {{"login.feature", "2"}, {"cart.feature", "1"}});
+        writeShard(1, 2, 0, 1, new String[][] {{"login.feature", "1"}, {"search.feature", "3"}});
+        new ShardReportMerger().merge(shardsDir, mergedDir);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void deleteShards() throws IOException {
+        try (Stream<Path> files = Files.walk(shardsDir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+        }
+    }
+
+    @Test(description = "TestNG counters and test methods of all shards add up in the merged results")
+    public void testTestNGCountsArePreserved() throws Exception {
+        Document merged = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                .parse(mergedDir.resolve("testng-results.xml").toFile());
+        Element root = merged.getDocumentElement();
+        Assert.assertEquals(root.getAttribute("total"), "7");
+        Assert.assertEquals(root.getAttribute("passed"), "5");
+        Assert.assertEquals(root.getAttribute("failed"), "1");
+        Assert.assertEquals(root.getAttribute("skipped"), "1");
+        Assert.assertEquals(root.getElementsByTagName("suite").getLength(), 2);
+        Assert.assertEquals(root.getElementsByTagName("test-method").getLength(), 7);
+    }
+
+    @Test(description = "Every scenario is kept and scenarios of one feature end up in one feature again")
+    public void testScenarioCountsArePreserved() throws IOException {
+        JsonNode merged = new ObjectMapper().readTree(mergedDir.resolve("cucumber.json").toFile());
+        Set<String> uris = new HashSet<>();
+        int scenarios = 0;
+        int loginScenarios = 0;
+        for (JsonNode feature : merged) {
+            Assert.assertTrue(uris.add(feature.path("uri").asText()), "Feature listed once: " + feature.path("uri"));
+            scenarios += feature.path("elements").size();
+            if (feature.path("uri").asText().endsWith("login.feature")) {
+                loginScenarios = feature.path("elements").size();
+            }
+        }
+        Assert.assertEquals(uris.size(), 3);
+        Assert.assertEquals(scenarios, 7);
+        Assert.assertEquals(loginScenarios, 3);
+    }
+
+    /**
+     * A shard-N directory with a TestNG results file of the given counts and a Cucumber report
+     * with {feature, scenario count} pairs
+     */
+    private void writeShard(int index, int passed, int failed, int skipped, String[][] features) throws IOException {
+        Path shard = Files.createDirectories(shardsDir.resolve("shard-" + index));
+        int total = passed + failed + skipped;
+        StringBuilder methods = new StringBuilder();
+        for (int i = 0; i < total; i++) {
+            String status = i < passed ? "PASS" : i < passed + failed ? "FAIL" : "SKIP";
+            methods.append("<test-method name=\"test").append(i).append("\" status=\"").append(status)
+                    .append("\" duration-ms=\"100\"/>");
+        }
+        Files.writeString(shard.resolve("testng-results.xml"), String.format(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?><testng-results ignored=\"0\" total=\"%d\" passed=\"%d\""
+                        + " failed=\"%d\" skipped=\"%d\"><reporter-output/><suite name=\"Shard %d\""
+                        + " duration-ms=\"%d\"><test name=\"t\"><class name=\"c\">%s</class></test></suite>"
+                        + "</testng-results>",
+                total, passed, failed, skipped, index, total * 100, methods));
+
+        StringBuilder report = new StringBuilder("[");
+        for (int f = 0; f < features.length; f++) {
+            report.append(f > 0 ? "," : "").append("{\"uri\":\"file:///features/").append(features[f][0])
+                    .append("\",\"elements\":[");
+            int count = Integer.parseInt(features[f][1]);
+            for (int s = 0; s < count; s++) {
+                report.append(s > 0 ? "," : "").append("{\"name\":\"scenario ").append(index).append('.').append(s)
+                        .append("\",\"steps\":[{\"result\":{\"status\":\"passed\",\"duration\":1000000}}]}");
+            }
+            report.append("]}");
+        }
+        Files.writeString(Files.createDirectories(shard.resolve("cucumber")).resolve("cucumber.json"),
+                report.append("]").toString());
+    }
+}
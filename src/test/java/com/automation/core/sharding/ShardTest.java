@@ -0,0 +1,82 @@
+package com.automation.core.sharding;
+
+import com.automation.core.listeners.DurationScheduler;
+import com.automation.core.listeners.TestDurationHistory;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Shard Test - Partition rules shards rely on to run every test exactly once without coordination
+ */
+public class ShardTest {
+    private static final int ITEM_COUNT = 40;
+
+    private final List<String> items = new ArrayList<>();
+
+    @BeforeClass
+    public void recordDurations() {
+        TestDurationHistory history = DurationScheduler.getHistory();
+        Random random = new Random(42);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            String item = "ShardTest.item" + i;
+            items.add(item);
+            // A quarter of the items has no history and is estimated from the mean
+            if (i % 4 != 0) {
+                history.record(item, 1000 + random.nextInt(60_000));
+            }
+        }
+        // Equal durations are ordered by key
+        history.record("ShardTest.item1", 5000);
+        history.record("ShardTest.item2", 5000);
+    }
+
+    @Test(description = "The same items and durations give every shard the same assignment")
+    public void testSelectIsDeterministic() {
+        List<String> shuffled = new ArrayList<>(items);
+        Collections.shuffle(shuffled, new Random(7));
+        for (int index = 0; index < 3; index++) {
+            Shard shard = new Shard(index, 3);
+            List<String> first = shard.select("items", items, Function.identity());
+            Assert.assertEquals(shard.select("items", items, Function.identity()), first);
+            Assert.assertEquals(shard.select("items", shuffled, Function.identity()), first,
+                    "The assignment does not depend on the discovery order");
+        }
+    }
+
+    @Test(description = "Across N shards every item is selected by exactly one shard")
+    public void testEveryItemLandsInExactlyOneShard() {
+        for (int total = 1; total <= 6; total++) {
+            List<String> selected = new ArrayList<>();
+            for (int index = 0; index < total; index++) {
+                List<String> share = new Shard(index, total).select("items", items, Function.identity());
+                Assert.assertFalse(share.isEmpty(), "Shard " + index + " of " + total + " got no items");
+                selected.addAll(share);
+            }
+            Set<String> unique = new HashSet<>(selected);
+            Assert.assertEquals(selected.size(), items.size(), "No item runs twice with " + total + " shards");
+            Assert.assertEquals(unique, new HashSet<>(items), "No item is lost with " + total + " shards");
+        }
+    }
+
+    @Test(description = "A single shard runs everything")
+    public void testSingleShardSelectsAll() {
+        Shard shard = new Shard(0, 1);
+        Assert.assertFalse(shard.isSharded());
+        Assert.assertEquals(new HashSet<>(shard.select("items", items, Function.identity())), new HashSet<>(items));
+    }
+
+    @Test(description = "Shard indexes outside 0..total-1 are rejected",
+            expectedExceptions = IllegalArgumentException.class)
+    public void testInvalidShardIsRejected() {
+        new Shard(2, 2);
+    }
+}
@@ -1,5 +1,6 @@
 package com.automation.cucumber.runners;
 
+import com.automation.core.sharding.Shard;
 import io.cucumber.testng.AbstractTestNGCucumberTests;
 import io.cucumber.testng.CucumberOptions;
 import org.testng.annotations.DataProvider;
@@ -25,6 +26,6 @@ public class CucumberTestRunner extends AbstractTestNGCucumberTests {
     @Override
     @DataProvider(parallel = true)
     public Object[][] scenarios() {
-        return super.scenarios();
+        return Shard.selectScenarios(super.scenarios());
     }
 }
\ No newline at end of file
@@ -1,8 +1,15 @@
 package com.automation.cucumber.stepdefinations.common;
 
-import com.automation.core.driver.DriverFactory;
+import com.automation.config.ConfigManager;
+import com.automation.core.base.NavigationStatistics;
+import com.automation.core.driver.BrowserProfile;
 import com.automation.core.driver.DriverManager;
+import com.automation.core.driver.PerformanceRecorder;
+import com.automation.core.listeners.DurationScheduler;
+import com.automation.core.listeners.TestDurationHistory;
+import com.automation.utils.ScreenshotUtils;
 import io.cucumber.java.After;
+import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
 import org.apache.logging.log4j.LogManager;
@@ -14,22 +21,27 @@ import org.openqa.selenium.WebDriver;
  */
 public class Hooks {
     private static final Logger logger = LogManager.getLogger(Hooks.class);
+    private long startNanos;
     
     @Before
     public void setUp(Scenario scenario) {
         logger.info("Starting scenario: {}", scenario.getName());
+        startNanos = System.nanoTime();
         
-        // Get browser from system property or default to chrome
-        String browser = System.getProperty("browser", "chrome");
+        // Get browser from -Dbrowser / BROWSER or the configured default
+        String browser = ConfigManager.getInstance().getProperty("browser.default", "chrome");
         
-        // Create and set WebDriver
-        WebDriver driver = DriverFactory.createDriver(browser);
-        DriverManager.setDriver(driver);
+        // Create or lease a WebDriver for this thread
+        WebDriver driver = DriverManager.startDriver(browser);
         
         // Configure browser
-        driver.manage().window().maximize();
+        BrowserProfile.getActive().configureWindow(driver);
         driver.manage().deleteAllCookies();
         
+        if (PerformanceRecorder.isEnabled()) {
+            DriverManager.getPerformanceRecorder().start();
+        }
+        
         logger.info("WebDriver setup completed for scenario: {}", scenario.getName());
     }
     
@@ -40,15 +52,33 @@ public class Hooks {
         
         // Take screenshot on failure
         if (scenario.isFailed() && DriverManager.isDriverInitialized()) {
-            byte[] screenshot = ((org.openqa.selenium.TakesScreenshot) DriverManager.getDriver())
-                    .getScreenshotAs(org.openqa.selenium.OutputType.BYTES);
-            scenario.attach(screenshot, "image/png", "Screenshot");
+            byte[] screenshot = ScreenshotUtils.captureScreenshotBytes(DriverManager.getDriver(),
+                    scenario.getName().replaceAll("[^A-Za-z0-9_-]", "_"));
+            if (screenshot != null) {
+                scenario.attach(screenshot, "image/png", "Screenshot");
+            }
         }
         
-        // Quit WebDriver
+        // Release WebDriver
         if (DriverManager.isDriverInitialized()) {
-            DriverManager.quitDriver();
-            logger.info("WebDriver quit successfully for scenario: {}", scenario.getName());
+            if (NavigationStatistics.isEnabled()) {
+                NavigationStatistics.settle(DriverManager.getDriver());
+            }
+            PerformanceRecorder recorder = DriverManager.getPerformanceRecorder();
+            if (recorder.isRecording()) {
+                scenario.log("Browser performance: " + recorder.stop().summary());
+            }
+            DriverManager.releaseDriver();
+            logger.info("WebDriver released successfully for scenario: {}", scenario.getName());
         }
+        
+        // Scenario duration for longest-first sharding of later runs
+        DurationScheduler.getHistory().record(TestDurationHistory.scenarioKey(scenario.getUri(), scenario.getLine()),
+                (System.nanoTime() - startNanos) / 1_000_000);
+    }
+    
+    @AfterAll
+    public static void saveDurations() {
+        DurationScheduler.saveHistory();
     }
 }
\ No newline at end of file
@@ -35,8 +35,7 @@ public class ContextMenuPage extends BasePage {
      */
     public void navigateToContextMenuPage() {
         logger.info("Navigating to context menu page");
-        navigateToUrl(config.getProperty("app.base.url") + CONTEXT_MENU_URL);
-        waitForPageLoad();
+        navigateToUrl(CONTEXT_MENU_URL);
     }
     
     /**
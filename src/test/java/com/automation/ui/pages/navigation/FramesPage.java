@@ -57,7 +57,7 @@ public class FramesPage extends BasePage {
      */
     public void navigateToFramesPage() {
         logger.info("Navigating to frames page");
-        navigateToUrl(config.getProperty("app.base.url") + FRAMES_URL);
+        navigateToUrl(FRAMES_URL);
         waitForFramesPageLoad();
     }
     
@@ -66,7 +66,7 @@ public class FramesPage extends BasePage {
      */
     public void navigateToNestedFramesPage() {
         logger.info("Navigating to nested frames page");
-        navigateToUrl(config.getProperty("app.base.url") + NESTED_FRAMES_URL);
+        navigateToUrl(NESTED_FRAMES_URL);
         waitForNestedFramesLoad();
     }
     
@@ -75,7 +75,7 @@ public class FramesPage extends BasePage {
      */
     public void navigateToIframePage() {
         logger.info("Navigating to iframe page");
-        navigateToUrl(config.getProperty("app.base.url") + IFRAME_URL);
+        navigateToUrl(IFRAME_URL);
         waitForIframeLoad();
     }
     
@@ -2,6 +2,8 @@ package com.automation.ui.tests.errors;
 
 import com.automation.core.base.BaseTest;
 import com.automation.ui.pages.errors.BrokenResourcesPage;
+import com.automation.utils.ResourceAuditReport;
+import com.automation.utils.ResourceCheck;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -87,6 +89,21 @@ public class BrokenResourcesTest extends BaseTest {
                 "Total images should equal broken + working images");
     }
 
+    @Test
+    public void testResourceAudit() {
+        brokenResourcesPage.navigateToBrokenImagesPage();
+        
+        ResourceAuditReport report = brokenResourcesPage.auditResources();
+        Assert.assertEquals(report.getImages().size(), brokenResourcesPage.getImagesCount(),
+                "Audit should report every image element");
+        for (ResourceCheck resource : report.getResources()) {
+            if (resource.getStatusCode() >= 400) {
+                Assert.assertTrue(resource.isBroken(), "Resource with HTTP error should be broken: " + resource);
+            }
+        }
+        Assert.assertFalse(report.getBrokenImages().isEmpty(), "Page should have at least one broken image");
+    }
+
     @Test
     public void testInstructionTextPresent() {
         brokenResourcesPage.navigateToBrokenImagesPage();
@@ -1,11 +1,15 @@
 package com.automation.ui.tests.errors;
 
 import com.automation.core.base.BaseTest;
+import com.automation.constants.FrameworkConstants;
 import com.automation.ui.pages.errors.RedirectsPage;
+import com.automation.utils.HttpProbeResult;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.util.List;
+
 public class RedirectsTest extends BaseTest {
     
     private RedirectsPage redirectsPage;
@@ -141,6 +145,20 @@ public class RedirectsTest extends BaseTest {
                 "Redirect destination should be a valid HTTP URL");
     }
 
+    @Test
+    public void testRedirectChainOverHttp() {
+        // Status codes and Location headers of every hop, without driving the browser
+        List<HttpProbeResult> chain = redirectsPage.getRedirectChain();
+        HttpProbeResult finalHop = chain.get(chain.size() - 1);
+        
+        Assert.assertTrue(chain.size() >= 2 && chain.get(0).isRedirect(),
+                "Redirect link should answer with a 3xx status: " + chain);
+        Assert.assertEquals(finalHop.getStatusCode(), 200,
+                "Redirect chain should end on a 200 page: " + chain);
+        Assert.assertTrue(finalHop.getUrl().endsWith(FrameworkConstants.STATUS_CODES_URL),
+                "Redirect chain should end on the status codes page: " + chain);
+    }
+
     @Test
     public void testRedirectPageInstructions() {
         redirectsPage.navigateToRedirectPage();
@@ -2,11 +2,14 @@ package com.automation.ui.tests.errors;
 
 import com.automation.core.base.BaseTest;
 import com.automation.ui.pages.errors.StatusCodesPage;
+import com.automation.utils.HttpProbeResult;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.util.Map;
+
 public class StatusCodesTest extends BaseTest {
     
     private StatusCodesPage statusCodesPage;
@@ -141,6 +144,17 @@ public class StatusCodesTest extends BaseTest {
                 "Status links should still be visible after navigation");
     }
 
+    @Test
+    public void testStatusCodesOverHttp() {
+        // All status code pages are requested concurrently without driving the browser
+        Map<String, HttpProbeResult> results = statusCodesPage.probeStatusCodes("200", "301", "404", "500");
+        
+        for (Map.Entry<String, HttpProbeResult> entry : results.entrySet()) {
+            Assert.assertEquals(entry.getValue().getStatusCode(), Integer.parseInt(entry.getKey()),
+                    "Status code page should return " + entry.getKey() + ": " + entry.getValue());
+        }
+    }
+
     @DataProvider
     public Object[][] statusCodes() {
         return new Object[][]{